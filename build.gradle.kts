@@ -38,6 +38,7 @@ val platformProjects by extra(listOf(
 		project(":junit-platform-console"),
 		project(":junit-platform-console-standalone"),
 		project(":junit-platform-engine"),
+		project(":junit-platform-index"),
 		project(":junit-platform-launcher"),
 		project(":junit-platform-reporting"),
 		project(":junit-platform-runner"),
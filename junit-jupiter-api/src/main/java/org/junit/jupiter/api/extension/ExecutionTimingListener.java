@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code ExecutionTimingListener} defines the API for {@link Extension
+ * Extensions} that wish to be notified about how long the individual
+ * {@linkplain Phase phases} of executing test classes and test methods took.
+ *
+ * <p>Timings are only recorded if the
+ * {@code junit.jupiter.execution.timing.enabled} configuration parameter is
+ * set to {@code true}. Otherwise, listeners are never invoked.
+ *
+ * <p>Phases may be nested: for example, the duration of the
+ * {@link Phase#TEST_METHOD TEST_METHOD} phase includes the durations of the
+ * {@link Phase#PARAMETER_RESOLUTION PARAMETER_RESOLUTION} and
+ * {@link Phase#INVOCATION_INTERCEPTION INVOCATION_INTERCEPTION} phases of the
+ * test method invocation.
+ *
+ * <p>Extensions implementing this API can be registered at any level.
+ *
+ * <h3>Exception Handling</h3>
+ *
+ * <p>Like a {@link TestWatcher}, an {@code ExecutionTimingListener} is not
+ * permitted to adversely influence the execution of tests. Consequently, any
+ * exception thrown by {@link #phaseFinished} will be logged at
+ * {@code WARNING} level and will not be allowed to propagate or fail test
+ * execution.
+ *
+ * @since 5.6
+ */
+@API(status = EXPERIMENTAL, since = "5.6")
+public interface ExecutionTimingListener extends Extension {
+
+	/**
+	 * Invoked after a phase of executing a test class or test method has
+	 * finished, regardless of whether it completed successfully.
+	 *
+	 * <p>This method may be invoked concurrently if tests are executed in
+	 * parallel.
+	 *
+	 * @param context the extension context of the test class or test method
+	 * the phase belongs to; never {@code null}
+	 * @param phase the phase that finished; never {@code null}
+	 * @param durationNanos the duration of the phase in nanoseconds
+	 */
+	void phaseFinished(ExtensionContext context, Phase phase, long durationNanos);
+
+	/**
+	 * Phases of executing test classes and test methods.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	enum Phase {
+
+		/**
+		 * Creating and post-processing the test instance, including the
+		 * constructor invocation and its parameter resolution.
+		 */
+		TEST_INSTANCE_CONSTRUCTION,
+
+		/**
+		 * Invoking all {@link BeforeAllCallback BeforeAllCallbacks}.
+		 */
+		BEFORE_ALL_CALLBACKS,
+
+		/**
+		 * Invoking all {@code @BeforeAll} methods.
+		 */
+		BEFORE_ALL_METHODS,
+
+		/**
+		 * Invoking all {@link BeforeEachCallback BeforeEachCallbacks}.
+		 */
+		BEFORE_EACH_CALLBACKS,
+
+		/**
+		 * Invoking all {@code @BeforeEach} methods.
+		 */
+		BEFORE_EACH_METHODS,
+
+		/**
+		 * Invoking all {@link BeforeTestExecutionCallback
+		 * BeforeTestExecutionCallbacks}.
+		 */
+		BEFORE_TEST_EXECUTION_CALLBACKS,
+
+		/**
+		 * Invoking the test method itself, including the resolution of its
+		 * parameters and all {@link InvocationInterceptor
+		 * InvocationInterceptors}.
+		 */
+		TEST_METHOD,
+
+		/**
+		 * Invoking all {@link AfterTestExecutionCallback
+		 * AfterTestExecutionCallbacks}.
+		 */
+		AFTER_TEST_EXECUTION_CALLBACKS,
+
+		/**
+		 * Invoking all {@code @AfterEach} methods.
+		 */
+		AFTER_EACH_METHODS,
+
+		/**
+		 * Invoking all {@link AfterEachCallback AfterEachCallbacks}.
+		 */
+		AFTER_EACH_CALLBACKS,
+
+		/**
+		 * Invoking all {@code @AfterAll} methods.
+		 */
+		AFTER_ALL_METHODS,
+
+		/**
+		 * Invoking all {@link AfterAllCallback AfterAllCallbacks}.
+		 */
+		AFTER_ALL_CALLBACKS,
+
+		/**
+		 * Resolving the parameters of a single constructor or method
+		 * invocation via {@link ParameterResolver ParameterResolvers}.
+		 */
+		PARAMETER_RESOLUTION,
+
+		/**
+		 * Executing the {@link InvocationInterceptor InvocationInterceptors} of
+		 * a single constructor or method invocation, excluding the invocation
+		 * itself.
+		 */
+		INVOCATION_INTERCEPTION
+
+	}
+
+}
@@ -35,6 +35,14 @@ import org.apiguardian.api.API;
  * methods that also require {@code READ} access but not at the same time as any
  * other test that requires {@code READ_WRITE} access.
  *
+ * <p>If a shared resource can safely be used by a limited number of tests at the
+ * same time, for example, a pool of database instances, {@link #permits} allows
+ * you to specify that number. Up to that many test classes or test methods that
+ * declare the resource with the same number of permits may be executed
+ * concurrently regardless of their access mode, but not at the same time as
+ * any test that declares the resource without permits and requires
+ * {@code READ_WRITE} access.
+ *
  * <p>This annotation can be repeated to declare the use of multiple shared resources.
  *
  * <p>Since JUnit Jupiter 5.4, this annotation is {@linkplain Inherited inherited}
@@ -68,4 +76,17 @@ public @interface ResourceLock {
 	 */
 	ResourceAccessMode mode() default ResourceAccessMode.READ_WRITE;
 
+	/**
+	 * The maximum number of test classes or test methods that may use the
+	 * resource concurrently.
+	 *
+	 * <p>Must be the same for all declarations of the same resource key that
+	 * specify permits. Defaults to {@code 0} which means that access is only
+	 * synchronized based on the {@link #mode}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	int permits() default 0;
+
 }
@@ -12,10 +12,12 @@ package org.junit.jupiter.engine;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
@@ -109,6 +111,36 @@ public final class Constants {
 	 */
 	public static final String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = JupiterConfiguration.EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable recording the durations of the phases of
+	 * executing test classes and test methods and passing them on to all
+	 * registered {@link org.junit.jupiter.api.extension.ExecutionTimingListener
+	 * ExecutionTimingListeners}: {@value}
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String EXECUTION_TIMING_ENABLED_PROPERTY_NAME = JupiterConfiguration.EXECUTION_TIMING_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to additionally publish the total durations of all
+	 * phases of executing a test class or test method as a report entry with
+	 * keys of the form {@code timing.<phase>}: {@value}
+	 *
+	 * <p>Setting this property to {@code true} implies
+	 * {@link #EXECUTION_TIMING_ENABLED_PROPERTY_NAME}.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String EXECUTION_TIMING_REPORT_ENABLED_PROPERTY_NAME = JupiterConfiguration.EXECUTION_TIMING_REPORT_ENABLED_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default test instance lifecycle mode: {@value}
 	 *
@@ -134,6 +166,22 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.3")
 	public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = JupiterConfiguration.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable executing concurrent tests in virtual
+	 * threads instead of a {@code ForkJoinPool}: {@value}
+	 *
+	 * <p>This setting is only effective if parallel execution is enabled. If
+	 * the current JVM does not support virtual threads, tests are executed in
+	 * a {@code ForkJoinPool} and a warning is logged.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARALLEL_EXECUTION_VIRTUAL_THREADS_ENABLED_PROPERTY_NAME = JupiterConfiguration.PARALLEL_EXECUTION_VIRTUAL_THREADS_ENABLED_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default test execution mode: {@value}
 	 *
@@ -181,8 +229,8 @@ public final class Constants {
 	 * Property name used to select the
 	 * {@link ParallelExecutionConfigurationStrategy}: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 * @since 5.3
 	 */
@@ -215,6 +263,19 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the interval in milliseconds at which the
+	 * {@code adaptive} configuration strategy samples the current load to
+	 * adjust the parallelism: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1000}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
@@ -226,6 +287,21 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable deferring tests whose
+	 * {@link org.junit.jupiter.api.parallel.ResourceLock resource locks} are
+	 * currently held by other tests instead of blocking a worker thread until
+	 * the locks become available: {@value}
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARALLEL_CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default timeout for all testable and
 	 * lifecycle methods.
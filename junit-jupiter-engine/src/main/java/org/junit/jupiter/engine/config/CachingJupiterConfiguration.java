@@ -48,12 +48,30 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			key -> delegate.isParallelExecutionEnabled());
 	}
 
+	@Override
+	public boolean isVirtualThreadExecutionEnabled() {
+		return (boolean) cache.computeIfAbsent(PARALLEL_EXECUTION_VIRTUAL_THREADS_ENABLED_PROPERTY_NAME,
+			key -> delegate.isVirtualThreadExecutionEnabled());
+	}
+
 	@Override
 	public boolean isExtensionAutoDetectionEnabled() {
 		return (boolean) cache.computeIfAbsent(EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME,
 			key -> delegate.isExtensionAutoDetectionEnabled());
 	}
 
+	@Override
+	public boolean isExecutionTimingEnabled() {
+		return (boolean) cache.computeIfAbsent(EXECUTION_TIMING_ENABLED_PROPERTY_NAME,
+			key -> delegate.isExecutionTimingEnabled());
+	}
+
+	@Override
+	public boolean isExecutionTimingReportEnabled() {
+		return (boolean) cache.computeIfAbsent(EXECUTION_TIMING_REPORT_ENABLED_PROPERTY_NAME,
+			key -> delegate.isExecutionTimingReportEnabled());
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return (ExecutionMode) cache.computeIfAbsent(DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
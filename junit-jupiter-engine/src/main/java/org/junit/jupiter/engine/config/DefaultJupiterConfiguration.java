@@ -57,11 +57,28 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public boolean isVirtualThreadExecutionEnabled() {
+		return configurationParameters.getBoolean(PARALLEL_EXECUTION_VIRTUAL_THREADS_ENABLED_PROPERTY_NAME).orElse(
+			false);
+	}
+
 	@Override
 	public boolean isExtensionAutoDetectionEnabled() {
 		return configurationParameters.getBoolean(EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public boolean isExecutionTimingEnabled() {
+		return isExecutionTimingReportEnabled()
+				|| configurationParameters.getBoolean(EXECUTION_TIMING_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public boolean isExecutionTimingReportEnabled() {
+		return configurationParameters.getBoolean(EXECUTION_TIMING_REPORT_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return executionModeConverter.get(configurationParameters, DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -21,6 +21,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.execution.ExecutionTimer;
 import org.junit.jupiter.engine.execution.ExtensionValuesStore;
 import org.junit.jupiter.engine.execution.NamespaceAwareStore;
 import org.junit.platform.commons.util.Preconditions;
@@ -32,7 +33,8 @@ import org.junit.platform.engine.reporting.ReportEntry;
 /**
  * @since 5.0
  */
-abstract class AbstractExtensionContext<T extends TestDescriptor> implements ExtensionContext, AutoCloseable {
+abstract class AbstractExtensionContext<T extends TestDescriptor>
+		implements ExtensionContext, ExecutionTimer.Provider, AutoCloseable {
 
 	private final ExtensionContext parent;
 	private final EngineExecutionListener engineExecutionListener;
@@ -40,6 +42,7 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 	private final Set<String> tags;
 	private final JupiterConfiguration configuration;
 	private final ExtensionValuesStore valuesStore;
+	private final ExecutionTimer executionTimer;
 
 	AbstractExtensionContext(ExtensionContext parent, EngineExecutionListener engineExecutionListener, T testDescriptor,
 			JupiterConfiguration configuration) {
@@ -52,6 +55,7 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 		this.testDescriptor = testDescriptor;
 		this.configuration = configuration;
 		this.valuesStore = createStore(parent);
+		this.executionTimer = ExecutionTimer.create(this, configuration);
 
 		// @formatter:off
 		this.tags = testDescriptor.getTags().stream()
@@ -70,9 +74,15 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 
 	@Override
 	public void close() {
+		this.executionTimer.publishReportEntry();
 		this.valuesStore.closeAllStoredCloseableValues();
 	}
 
+	@Override
+	public ExecutionTimer getExecutionTimer() {
+		return this.executionTimer;
+	}
+
 	@Override
 	public String getUniqueId() {
 		return getTestDescriptor().getUniqueId().toString();
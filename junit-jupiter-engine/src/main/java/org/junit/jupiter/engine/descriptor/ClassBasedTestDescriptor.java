@@ -35,6 +35,7 @@ import org.apiguardian.api.API;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExecutionTimingListener.Phase;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -52,6 +53,7 @@ import org.junit.jupiter.engine.execution.DefaultTestInstances;
 import org.junit.jupiter.engine.execution.ExecutableInvoker;
 import org.junit.jupiter.engine.execution.ExecutableInvoker.ReflectiveInterceptorCall;
 import org.junit.jupiter.engine.execution.ExecutableInvoker.ReflectiveInterceptorCall.VoidMethodInterceptorCall;
+import org.junit.jupiter.engine.execution.ExecutionTimer;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.TestInstancesProvider;
 import org.junit.jupiter.engine.extension.ExtensionRegistrar;
@@ -180,8 +182,11 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 			// Eagerly load test instance for BeforeAllCallbacks, if necessary,
 			// and store the instance in the ExtensionContext.
 			ClassExtensionContext extensionContext = (ClassExtensionContext) context.getExtensionContext();
+			ExecutionTimer timer = extensionContext.getExecutionTimer();
+			long startNanos = timer.start();
 			throwableCollector.execute(() -> extensionContext.setTestInstances(
 				context.getTestInstancesProvider().getTestInstances(context.getExtensionRegistry())));
+			timer.stop(Phase.TEST_INSTANCE_CONSTRUCTION, startNanos, context.getExtensionRegistry());
 		}
 
 		if (throwableCollector.isEmpty()) {
@@ -350,6 +355,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
 
 		for (BeforeAllCallback callback : registry.getExtensions(BeforeAllCallback.class)) {
 			throwableCollector.execute(() -> callback.beforeAll(extensionContext));
@@ -357,6 +364,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 				break;
 			}
 		}
+
+		timer.stop(Phase.BEFORE_ALL_CALLBACKS, startNanos, registry);
 	}
 
 	private void invokeBeforeAllMethods(JupiterEngineExecutionContext context) {
@@ -364,6 +373,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 		Object testInstance = extensionContext.getTestInstance().orElse(null);
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
 
 		for (Method method : this.beforeAllMethods) {
 			throwableCollector.execute(() -> {
@@ -379,6 +390,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 				break;
 			}
 		}
+
+		timer.stop(Phase.BEFORE_ALL_METHODS, startNanos, registry);
 	}
 
 	private void invokeBeforeAllMethodExecutionExceptionHandlers(ExtensionRegistry registry, ExtensionContext context,
@@ -393,6 +406,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 		Object testInstance = extensionContext.getTestInstance().orElse(null);
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
 
 		this.afterAllMethods.forEach(method -> throwableCollector.execute(() -> {
 			try {
@@ -403,6 +418,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 				invokeAfterAllMethodExecutionExceptionHandlers(registry, extensionContext, throwable);
 			}
 		}));
+
+		timer.stop(Phase.AFTER_ALL_METHODS, startNanos, registry);
 	}
 
 	private void invokeAfterAllMethodExecutionExceptionHandlers(ExtensionRegistry registry, ExtensionContext context,
@@ -416,9 +433,13 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
 
 		registry.getReversedExtensions(AfterAllCallback.class)//
 				.forEach(extension -> throwableCollector.execute(() -> extension.afterAll(extensionContext)));
+
+		timer.stop(Phase.AFTER_ALL_CALLBACKS, startNanos, registry);
 	}
 
 	private void registerBeforeEachMethodAdapters(ExtensionRegistrar registrar) {
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.execution.ExecutionTimer;
 import org.junit.jupiter.engine.execution.InvocationInterceptorChain;
 import org.junit.jupiter.engine.execution.InvocationInterceptorChain.InterceptorCall;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
@@ -54,7 +55,8 @@ class DynamicTestTestDescriptor extends DynamicNodeTestDescriptor {
 		};
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ExtensionRegistry extensionRegistry = context.getExtensionRegistry();
-		interceptorChain.invoke(invocation, extensionRegistry, InterceptorCall.ofVoid(
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		interceptorChain.invoke(invocation, extensionRegistry, timer, InterceptorCall.ofVoid(
 			(interceptor, wrappedInvocation) -> interceptor.interceptDynamicTest(wrappedInvocation, extensionContext)));
 		return context;
 	}
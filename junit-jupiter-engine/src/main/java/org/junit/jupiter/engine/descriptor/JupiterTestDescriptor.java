@@ -107,24 +107,24 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	<E extends Extension> void invokeExecutionExceptionHandlers(Class<E> handlerType, ExtensionRegistry registry,
 			Throwable throwable, ExceptionHandlerInvoker<E> handlerInvoker) {
 
-		invokeExecutionExceptionHandlers(registry.getReversedExtensions(handlerType), throwable, handlerInvoker);
+		invokeExecutionExceptionHandlers(registry.getReversedExtensions(handlerType), 0, throwable, handlerInvoker);
 	}
 
-	private <E extends Extension> void invokeExecutionExceptionHandlers(List<E> exceptionHandlers, Throwable throwable,
-			ExceptionHandlerInvoker<E> handlerInvoker) {
+	private <E extends Extension> void invokeExecutionExceptionHandlers(List<E> exceptionHandlers, int index,
+			Throwable throwable, ExceptionHandlerInvoker<E> handlerInvoker) {
 
 		// No handlers left?
-		if (exceptionHandlers.isEmpty()) {
+		if (index >= exceptionHandlers.size()) {
 			ExceptionUtils.throwAsUncheckedException(throwable);
 		}
 
 		try {
-			// Invoke next available handler
-			handlerInvoker.invoke(exceptionHandlers.remove(0), throwable);
+			// Invoke next available handler; the list is shared and must not be modified
+			handlerInvoker.invoke(exceptionHandlers.get(index), throwable);
 		}
 		catch (Throwable handledThrowable) {
 			BlacklistedExceptions.rethrowIfBlacklisted(handledThrowable);
-			invokeExecutionExceptionHandlers(exceptionHandlers, handledThrowable, handlerInvoker);
+			invokeExecutionExceptionHandlers(exceptionHandlers, index + 1, handledThrowable, handlerInvoker);
 		}
 	}
 
@@ -181,7 +181,8 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	Set<ExclusiveResource> getExclusiveResourcesFromAnnotation(AnnotatedElement element) {
 		// @formatter:off
 		return findRepeatableAnnotations(element, ResourceLock.class).stream()
-				.map(resource -> new ExclusiveResource(resource.value(), toLockMode(resource.mode())))
+				.map(resource -> new ExclusiveResource(resource.value(), toLockMode(resource.mode()),
+						resource.permits()))
 				.collect(toSet());
 		// @formatter:on
 	}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExecutionTimingListener.Phase;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
@@ -36,6 +37,7 @@ import org.junit.jupiter.engine.execution.AfterEachMethodAdapter;
 import org.junit.jupiter.engine.execution.BeforeEachMethodAdapter;
 import org.junit.jupiter.engine.execution.ExecutableInvoker;
 import org.junit.jupiter.engine.execution.ExecutableInvoker.ReflectiveInterceptorCall;
+import org.junit.jupiter.engine.execution.ExecutionTimer;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
@@ -102,10 +104,15 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		ThrowableCollector throwableCollector = createThrowableCollector();
 		MethodExtensionContext extensionContext = new MethodExtensionContext(context.getExtensionContext(),
 			context.getExecutionListener(), this, context.getConfiguration(), throwableCollector);
+		// Only time the construction of test instances that are not shared with the class
+		boolean sharedTestInstances = context.getExtensionContext().getTestInstances().isPresent();
+		ExecutionTimer timer = sharedTestInstances ? ExecutionTimer.DISABLED : extensionContext.getExecutionTimer();
+		long startNanos = timer.start();
 		throwableCollector.execute(() -> {
 			TestInstances testInstances = context.getTestInstancesProvider().getTestInstances(registry);
 			extensionContext.setTestInstances(testInstances);
 		});
+		timer.stop(Phase.TEST_INSTANCE_CONSTRUCTION, startNanos, registry);
 
 		// @formatter:off
 		return context.extend()
@@ -147,13 +154,14 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 	}
 
 	private void invokeBeforeEachCallbacks(JupiterEngineExecutionContext context) {
-		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeEachCallback.class, context,
-			(callback, extensionContext) -> callback.beforeEach(extensionContext));
+		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeEachCallback.class, Phase.BEFORE_EACH_CALLBACKS,
+			context, (callback, extensionContext) -> callback.beforeEach(extensionContext));
 	}
 
 	private void invokeBeforeEachMethods(JupiterEngineExecutionContext context) {
 		ExtensionRegistry registry = context.getExtensionRegistry();
-		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeEachMethodAdapter.class, context,
+		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeEachMethodAdapter.class, Phase.BEFORE_EACH_METHODS,
+			context,
 			(adapter, extensionContext) -> {
 				try {
 					adapter.invokeBeforeEachMethod(extensionContext, registry);
@@ -172,16 +180,19 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 	}
 
 	private void invokeBeforeTestExecutionCallbacks(JupiterEngineExecutionContext context) {
-		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeTestExecutionCallback.class, context,
+		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(BeforeTestExecutionCallback.class,
+			Phase.BEFORE_TEST_EXECUTION_CALLBACKS, context,
 			(callback, extensionContext) -> callback.beforeTestExecution(extensionContext));
 	}
 
 	private <T extends Extension> void invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(Class<T> type,
-			JupiterEngineExecutionContext context, CallbackInvoker<T> callbackInvoker) {
+			Phase phase, JupiterEngineExecutionContext context, CallbackInvoker<T> callbackInvoker) {
 
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
 
 		for (T callback : registry.getExtensions(type)) {
 			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
@@ -189,11 +200,15 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 				break;
 			}
 		}
+
+		timer.stop(phase, startNanos, registry);
 	}
 
 	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
 
 		throwableCollector.execute(() -> {
 			try {
@@ -207,6 +222,8 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 				invokeTestExecutionExceptionHandlers(context.getExtensionRegistry(), extensionContext, throwable);
 			}
 		});
+
+		timer.stop(Phase.TEST_METHOD, startNanos, context.getExtensionRegistry());
 	}
 
 	private void invokeTestExecutionExceptionHandlers(ExtensionRegistry registry, ExtensionContext context,
@@ -217,20 +234,21 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 	}
 
 	private void invokeAfterTestExecutionCallbacks(JupiterEngineExecutionContext context) {
-		invokeAllAfterMethodsOrCallbacks(AfterTestExecutionCallback.class, context,
-			(callback, extensionContext) -> callback.afterTestExecution(extensionContext));
+		invokeAllAfterMethodsOrCallbacks(AfterTestExecutionCallback.class, Phase.AFTER_TEST_EXECUTION_CALLBACKS,
+			context, (callback, extensionContext) -> callback.afterTestExecution(extensionContext));
 	}
 
 	private void invokeAfterEachMethods(JupiterEngineExecutionContext context) {
 		ExtensionRegistry registry = context.getExtensionRegistry();
-		invokeAllAfterMethodsOrCallbacks(AfterEachMethodAdapter.class, context, (adapter, extensionContext) -> {
-			try {
-				adapter.invokeAfterEachMethod(extensionContext, registry);
-			}
-			catch (Throwable throwable) {
-				invokeAfterEachExecutionExceptionHandlers(extensionContext, registry, throwable);
-			}
-		});
+		invokeAllAfterMethodsOrCallbacks(AfterEachMethodAdapter.class, Phase.AFTER_EACH_METHODS, context,
+			(adapter, extensionContext) -> {
+				try {
+					adapter.invokeAfterEachMethod(extensionContext, registry);
+				}
+				catch (Throwable throwable) {
+					invokeAfterEachExecutionExceptionHandlers(extensionContext, registry, throwable);
+				}
+			});
 	}
 
 	private void invokeAfterEachExecutionExceptionHandlers(ExtensionContext context, ExtensionRegistry registry,
@@ -241,20 +259,24 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 	}
 
 	private void invokeAfterEachCallbacks(JupiterEngineExecutionContext context) {
-		invokeAllAfterMethodsOrCallbacks(AfterEachCallback.class, context,
+		invokeAllAfterMethodsOrCallbacks(AfterEachCallback.class, Phase.AFTER_EACH_CALLBACKS, context,
 			(callback, extensionContext) -> callback.afterEach(extensionContext));
 	}
 
-	private <T extends Extension> void invokeAllAfterMethodsOrCallbacks(Class<T> type,
+	private <T extends Extension> void invokeAllAfterMethodsOrCallbacks(Class<T> type, Phase phase,
 			JupiterEngineExecutionContext context, CallbackInvoker<T> callbackInvoker) {
 
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
 
 		registry.getReversedExtensions(type).forEach(callback -> {
 			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
 		});
+
+		timer.stop(phase, startNanos, registry);
 	}
 
 	/**
@@ -10,12 +10,20 @@
 
 package org.junit.jupiter.engine.discovery.predicates;
 
+import static java.util.Collections.unmodifiableSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.lang.reflect.Method;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.platform.commons.util.CollectionUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
@@ -40,6 +48,24 @@ public class IsTestClassWithTests implements Predicate<Class<?>> {
 
 	private static final IsNestedTestClass isNestedTestClass = new IsNestedTestClass();
 
+	/**
+	 * Fully qualified names of the annotations that test classes reference,
+	 * including well-known composed annotations declared outside of the
+	 * classpath roots that are typically scanned.
+	 *
+	 * @since 5.6
+	 */
+	// @formatter:off
+	public static final Set<String> CANDIDATE_ANNOTATION_NAMES = unmodifiableSet(CollectionUtils.toSet(new String[] {
+			Test.class.getName(),
+			TestFactory.class.getName(),
+			TestTemplate.class.getName(),
+			RepeatedTest.class.getName(),
+			Nested.class.getName(),
+			"org.junit.jupiter.params.ParameterizedTest"
+	}));
+	// @formatter:on
+
 	@Override
 	public boolean test(Class<?> candidate) {
 		return isPotentialTestContainer.test(candidate)
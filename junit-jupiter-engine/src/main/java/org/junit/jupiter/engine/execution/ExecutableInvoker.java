@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExecutionTimingListener.Phase;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
@@ -50,6 +51,7 @@ public class ExecutableInvoker {
 
 	private static final Logger logger = LoggerFactory.getLogger(ExecutableInvoker.class);
 	private static final InvocationInterceptorChain interceptorChain = new InvocationInterceptorChain();
+	private static final Object[] EMPTY_ARGUMENTS = new Object[0];
 
 	/**
 	 * Invoke the supplied constructor with the supplied outer instance and
@@ -101,8 +103,9 @@ public class ExecutableInvoker {
 	private <E extends Executable, T> T invoke(Invocation<T> originalInvocation,
 			ReflectiveInvocationContext<E> invocationContext, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry, ReflectiveInterceptorCall<E, T> call) {
-		return interceptorChain.invoke(originalInvocation, extensionRegistry, (interceptor,
-				wrappedInvocation) -> call.apply(interceptor, wrappedInvocation, invocationContext, extensionContext));
+		return interceptorChain.invoke(originalInvocation, extensionRegistry, ExecutionTimer.of(extensionContext),
+			(interceptor, wrappedInvocation) -> call.apply(interceptor, wrappedInvocation, invocationContext,
+				extensionContext));
 	}
 
 	public interface ReflectiveInterceptorCall<E extends Executable, T> {
@@ -166,6 +169,11 @@ public class ExecutableInvoker {
 
 		Preconditions.notNull(target, "target must not be null");
 
+		// Most test and lifecycle methods do not declare any parameters.
+		if (executable.getParameterCount() == 0) {
+			return EMPTY_ARGUMENTS;
+		}
+
 		Parameter[] parameters = executable.getParameters();
 		Object[] values = new Object[parameters.length];
 		int start = 0;
@@ -177,10 +185,21 @@ public class ExecutableInvoker {
 			start = 1;
 		}
 
+		if (start == parameters.length) {
+			return values;
+		}
+
 		// Resolve remaining parameters dynamically
-		for (int i = start; i < parameters.length; i++) {
-			ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
-			values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+		ExecutionTimer timer = ExecutionTimer.of(extensionContext);
+		long startNanos = timer.start();
+		try {
+			for (int i = start; i < parameters.length; i++) {
+				ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
+				values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+			}
+		}
+		finally {
+			timer.stop(Phase.PARAMETER_RESOLUTION, startNanos, extensionRegistry);
 		}
 		return values;
 	}
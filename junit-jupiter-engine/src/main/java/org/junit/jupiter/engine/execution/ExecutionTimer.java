@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExecutionTimingListener;
+import org.junit.jupiter.api.extension.ExecutionTimingListener.Phase;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.BlacklistedExceptions;
+
+/**
+ * Records the durations of the {@linkplain Phase phases} of executing a test
+ * class or test method and passes them on to all registered
+ * {@link ExecutionTimingListener ExecutionTimingListeners}.
+ *
+ * <p>If execution timing is disabled, {@link #start()} and
+ * {@link #stop(Phase, long, ExtensionRegistry)} do nothing, so timing can be
+ * left in place on hot paths.
+ *
+ * @since 5.6
+ * @see JupiterConfiguration#isExecutionTimingEnabled()
+ */
+@API(status = INTERNAL, since = "5.6")
+public class ExecutionTimer {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExecutionTimer.class);
+
+	public static final ExecutionTimer DISABLED = new ExecutionTimer(null, false);
+
+	private static final String REPORT_ENTRY_KEY_PREFIX = "timing.";
+
+	/**
+	 * Create a timer for the supplied extension context that is only enabled
+	 * if execution timing is enabled in the supplied configuration.
+	 */
+	public static ExecutionTimer create(ExtensionContext extensionContext, JupiterConfiguration configuration) {
+		if (!configuration.isExecutionTimingEnabled()) {
+			return DISABLED;
+		}
+		return new ExecutionTimer(extensionContext, configuration.isExecutionTimingReportEnabled());
+	}
+
+	/**
+	 * Get the timer of the supplied extension context or {@link #DISABLED} if
+	 * it does not have one.
+	 */
+	public static ExecutionTimer of(ExtensionContext extensionContext) {
+		if (extensionContext instanceof Provider) {
+			return ((Provider) extensionContext).getExecutionTimer();
+		}
+		return DISABLED;
+	}
+
+	private final ExtensionContext extensionContext;
+	private final AtomicLongArray totalDurations;
+
+	private ExecutionTimer(ExtensionContext extensionContext, boolean publishReportEntry) {
+		this.extensionContext = extensionContext;
+		this.totalDurations = publishReportEntry ? new AtomicLongArray(Phase.values().length) : null;
+	}
+
+	public boolean isEnabled() {
+		return this.extensionContext != null;
+	}
+
+	/**
+	 * Start timing a phase.
+	 *
+	 * @return the start time to pass to
+	 * {@link #stop(Phase, long, ExtensionRegistry)}
+	 */
+	public long start() {
+		return isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Stop timing a phase that was started at the supplied time and notify
+	 * the {@link ExecutionTimingListener ExecutionTimingListeners} in the
+	 * supplied registry.
+	 */
+	public void stop(Phase phase, long startNanos, ExtensionRegistry registry) {
+		if (isEnabled()) {
+			record(phase, System.nanoTime() - startNanos, registry);
+		}
+	}
+
+	/**
+	 * Record the supplied duration of a phase and notify the
+	 * {@link ExecutionTimingListener ExecutionTimingListeners} in the supplied
+	 * registry.
+	 */
+	public void record(Phase phase, long durationNanos, ExtensionRegistry registry) {
+		if (!isEnabled()) {
+			return;
+		}
+		if (this.totalDurations != null) {
+			this.totalDurations.addAndGet(phase.ordinal(), durationNanos);
+		}
+		for (ExecutionTimingListener listener : registry.getExtensions(ExecutionTimingListener.class)) {
+			try {
+				listener.phaseFinished(this.extensionContext, phase, durationNanos);
+			}
+			catch (Throwable throwable) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				logger.warn(throwable, () -> String.format("Failed to invoke ExecutionTimingListener [%s] for [%s]",
+					listener.getClass().getName(), this.extensionContext.getUniqueId()));
+			}
+		}
+	}
+
+	/**
+	 * Publish the total durations of all recorded phases as a single report
+	 * entry if enabled.
+	 */
+	public void publishReportEntry() {
+		if (this.totalDurations == null) {
+			return;
+		}
+		Map<String, String> values = new LinkedHashMap<>();
+		for (Phase phase : Phase.values()) {
+			long duration = this.totalDurations.get(phase.ordinal());
+			if (duration > 0) {
+				values.put(REPORT_ENTRY_KEY_PREFIX + phase.name().toLowerCase(Locale.ROOT), String.valueOf(duration));
+			}
+		}
+		if (!values.isEmpty()) {
+			this.extensionContext.publishReportEntry(values);
+		}
+	}
+
+	/**
+	 * Implemented by extension contexts that have an {@link ExecutionTimer}.
+	 */
+	public interface Provider {
+
+		ExecutionTimer getExecutionTimer();
+
+	}
+
+}
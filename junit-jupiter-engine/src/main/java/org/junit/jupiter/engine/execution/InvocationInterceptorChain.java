@@ -18,6 +18,7 @@ import java.util.ListIterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExecutionTimingListener.Phase;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
@@ -30,11 +31,35 @@ import org.junit.platform.commons.util.ExceptionUtils;
 public class InvocationInterceptorChain {
 
 	public <T> T invoke(Invocation<T> invocation, ExtensionRegistry extensionRegistry, InterceptorCall<T> call) {
+		return invoke(invocation, extensionRegistry, ExecutionTimer.DISABLED, call);
+	}
+
+	/**
+	 * Invoke the supplied invocation via all registered
+	 * {@linkplain InvocationInterceptor interceptors} and record the time
+	 * spent in the interceptors, excluding the invocation itself, with the
+	 * supplied timer.
+	 *
+	 * @since 5.6
+	 */
+	public <T> T invoke(Invocation<T> invocation, ExtensionRegistry extensionRegistry, ExecutionTimer timer,
+			InterceptorCall<T> call) {
 		List<InvocationInterceptor> interceptors = extensionRegistry.getExtensions(InvocationInterceptor.class);
 		if (interceptors.isEmpty()) {
 			return proceed(invocation);
 		}
-		return chainAndInvoke(invocation, call, interceptors);
+		if (!timer.isEnabled()) {
+			return chainAndInvoke(invocation, call, interceptors);
+		}
+		TimedInvocation<T> timedInvocation = new TimedInvocation<>(invocation);
+		long startNanos = timer.start();
+		try {
+			return chainAndInvoke(timedInvocation, call, interceptors);
+		}
+		finally {
+			long durationNanos = System.nanoTime() - startNanos - timedInvocation.durationNanos;
+			timer.record(Phase.INVOCATION_INTERCEPTION, durationNanos, extensionRegistry);
+		}
 	}
 
 	private <T> T chainAndInvoke(Invocation<T> invocation, InterceptorCall<T> call,
@@ -112,6 +137,35 @@ public class InvocationInterceptorChain {
 		}
 	}
 
+	/**
+	 * @since 5.6
+	 */
+	private static class TimedInvocation<T> implements Invocation<T> {
+
+		private final Invocation<T> delegate;
+		private volatile long durationNanos;
+
+		TimedInvocation(Invocation<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public T proceed() throws Throwable {
+			long startNanos = System.nanoTime();
+			try {
+				return delegate.proceed();
+			}
+			finally {
+				durationNanos = System.nanoTime() - startNanos;
+			}
+		}
+
+		@Override
+		public void skip() {
+			delegate.skip();
+		}
+	}
+
 	private static class ValidatingInvocation<T> implements Invocation<T> {
 
 		private static final Logger LOG = LoggerFactory.getLogger(ValidatingInvocation.class);
@@ -11,7 +11,6 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.ArrayList;
@@ -19,8 +18,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -40,6 +41,10 @@ import org.junit.platform.commons.util.ReflectionUtils;
  * performed first in the current registry itself and then recursively in its
  * ancestors.
  *
+ * <p>The extensions of each type found in a registry and its ancestors are
+ * cached per registry. A cached list is rebuilt when an extension is
+ * registered in the registry or when the list of its parent has changed.
+ *
  * @since 5.5
  */
 @API(status = INTERNAL, since = "5.5")
@@ -124,33 +129,80 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 	private final List<Extension> registeredExtensions = new ArrayList<>();
 
+	private final Map<Class<?>, CachedExtensions> extensionsCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of extensions registered in this registry; used to detect stale
+	 * entries in the {@link #extensionsCache}.
+	 */
+	private volatile int registrationCount;
+
 	private MutableExtensionRegistry(MutableExtensionRegistry parent) {
 		this.parent = parent;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		if (this.parent == null) {
-			return streamLocal(extensionType);
-		}
-		return concat(this.parent.stream(extensionType), streamLocal(extensionType));
+		return (Stream<E>) getCachedExtensions(extensionType).extensions.stream();
 	}
 
 	/**
-	 * Stream all {@code Extensions} of the specified type that are present
-	 * in this registry.
+	 * {@inheritDoc}
 	 *
-	 * <p>Extensions in ancestors are ignored.
+	 * <p>The returned list is unmodifiable.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
+		return (List<E>) getCachedExtensions(extensionType).extensions;
+	}
+
+	/**
+	 * {@inheritDoc}
 	 *
-	 * @param extensionType the type of {@link Extension} to stream
-	 * @see #getReversedExtensions(Class)
+	 * <p>The returned list is unmodifiable.
 	 */
-	private <E extends Extension> Stream<E> streamLocal(Class<E> extensionType) {
-		// @formatter:off
-		return this.registeredExtensions.stream()
-				.filter(extensionType::isInstance)
-				.map(extensionType::cast);
-		// @formatter:on
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E extends Extension> List<E> getReversedExtensions(Class<E> extensionType) {
+		return (List<E>) getCachedExtensions(extensionType).getReversedExtensions();
+	}
+
+	/**
+	 * Get the cached {@code Extensions} of the specified type that are present
+	 * in this registry or one of its ancestors, rebuilding them if they are
+	 * stale.
+	 */
+	private CachedExtensions getCachedExtensions(Class<? extends Extension> extensionType) {
+		List<Extension> parentExtensions = this.parent == null ? Collections.emptyList()
+				: this.parent.getCachedExtensions(extensionType).extensions;
+		// read before the registered extensions so that concurrent registrations are detected later
+		int registrationCount = this.registrationCount;
+		CachedExtensions cached = this.extensionsCache.get(extensionType);
+		if (cached != null && cached.isCurrent(parentExtensions, registrationCount)) {
+			return cached;
+		}
+		cached = new CachedExtensions(parentExtensions, registrationCount,
+			collectExtensions(extensionType, parentExtensions));
+		this.extensionsCache.put(extensionType, cached);
+		return cached;
+	}
+
+	private List<Extension> collectExtensions(Class<? extends Extension> extensionType,
+			List<Extension> parentExtensions) {
+
+		List<Extension> extensions = null;
+		for (Extension extension : this.registeredExtensions) {
+			if (extensionType.isInstance(extension)) {
+				if (extensions == null) {
+					extensions = new ArrayList<>(parentExtensions);
+				}
+				extensions.add(extension);
+			}
+		}
+		// share the list of the parent if this registry does not add any extensions
+		return extensions == null ? parentExtensions : Collections.unmodifiableList(extensions);
 	}
 
 	/**
@@ -181,6 +233,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	private void registerDefaultExtension(Extension extension) {
 		this.registeredExtensions.add(extension);
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.registrationCount++;
 	}
 
 	private void registerExtension(Extension extension) {
@@ -195,6 +248,44 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		logger.trace(() -> String.format("Registering extension [%s] from source [%s].", extension, source));
 
 		this.registeredExtensions.add(extension);
+		this.registrationCount++;
+	}
+
+	/**
+	 * The {@code Extensions} of a single type that were present in a registry
+	 * and its ancestors when they were collected.
+	 *
+	 * @since 5.6
+	 */
+	private static class CachedExtensions {
+
+		private final List<Extension> parentExtensions;
+		private final int registrationCount;
+		private final List<Extension> extensions;
+		private volatile List<Extension> reversedExtensions;
+
+		CachedExtensions(List<Extension> parentExtensions, int registrationCount, List<Extension> extensions) {
+			this.parentExtensions = parentExtensions;
+			this.registrationCount = registrationCount;
+			this.extensions = extensions;
+		}
+
+		boolean isCurrent(List<Extension> parentExtensions, int registrationCount) {
+			// cached lists of the parent are only replaced when they change
+			return this.parentExtensions == parentExtensions && this.registrationCount == registrationCount;
+		}
+
+		List<Extension> getReversedExtensions() {
+			List<Extension> reversed = this.reversedExtensions;
+			if (reversed == null) {
+				reversed = new ArrayList<>(this.extensions);
+				Collections.reverse(reversed);
+				reversed = Collections.unmodifiableList(reversed);
+				this.reversedExtensions = reversed;
+			}
+			return reversed;
+		}
+
 	}
 
 }
@@ -66,6 +66,26 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).getExecutionConditionFilter();
 	}
 
+	@Test
+	void cachesVirtualThreadExecutionEnabled() {
+		when(delegate.isVirtualThreadExecutionEnabled()).thenReturn(true);
+
+		assertThat(cache.isVirtualThreadExecutionEnabled()).isTrue();
+		assertThat(cache.isVirtualThreadExecutionEnabled()).isTrue();
+
+		verify(delegate, only()).isVirtualThreadExecutionEnabled();
+	}
+
+	@Test
+	void cachesExecutionTimingEnabled() {
+		when(delegate.isExecutionTimingEnabled()).thenReturn(true);
+
+		assertThat(cache.isExecutionTimingEnabled()).isTrue();
+		assertThat(cache.isExecutionTimingEnabled()).isTrue();
+
+		verify(delegate, only()).isExecutionTimingEnabled();
+	}
+
 	@Test
 	void cachesExtensionAutoDetectionEnabled() {
 		when(delegate.isExtensionAutoDetectionEnabled()).thenReturn(true);
@@ -36,6 +36,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPacka
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.engine.discovery.PackageNameFilter.excludePackageNames;
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -197,6 +198,29 @@ class DiscoverySelectorResolverTests {
 		assertThat(uniqueIds).contains(uniqueIdForMethod(MyTestClass.class, "test1()"));
 	}
 
+	@Test
+	void parallelResolutionYieldsSameTreeAsSequentialResolution() throws Exception {
+		var selectors = new ArrayList<DiscoverySelector>();
+		for (var testClass : List.of(YourTestClass.class, HerTestClass.class, MyTestClass.class)) {
+			for (var method : testClass.getDeclaredMethods()) {
+				selectors.add(selectMethod(testClass, method));
+			}
+		}
+		selectors.add(selectUniqueId(uniqueIdForMethod(OtherTestClass.NestedTestClass.class, "test6()")));
+		selectors.add(selectMethod(HerTestClass.class, MyTestClass.class.getDeclaredMethod("test1")));
+		selectors.add(selectClass(OtherTestClass.NestedTestClass.class));
+
+		resolve(request().selectors(selectors));
+		var parallelEngineDescriptor = new JupiterEngineDescriptor(engineId(), configuration);
+		new DiscoverySelectorResolver().resolveSelectors(request().selectors(selectors) //
+				.configurationParameter(SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME, "4") //
+				.build(), parallelEngineDescriptor);
+
+		assertThat(parallelEngineDescriptor.getDescendants()).extracting(TestDescriptor::getUniqueId) //
+				.isNotEmpty() //
+				.containsExactlyElementsOf(uniqueIds());
+	}
+
 	@Test
 	void methodResolutionFromInheritedMethod() throws NoSuchMethodException {
 		MethodSelector selector = selectMethod(HerTestClass.class, MyTestClass.class.getDeclaredMethod("test1"));
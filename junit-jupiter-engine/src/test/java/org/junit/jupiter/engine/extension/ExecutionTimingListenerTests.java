@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.AFTER_ALL_METHODS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.AFTER_EACH_CALLBACKS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.AFTER_EACH_METHODS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.AFTER_TEST_EXECUTION_CALLBACKS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.BEFORE_ALL_METHODS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.BEFORE_EACH_CALLBACKS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.BEFORE_EACH_METHODS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.BEFORE_TEST_EXECUTION_CALLBACKS;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.PARAMETER_RESOLUTION;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.TEST_INSTANCE_CONSTRUCTION;
+import static org.junit.jupiter.api.extension.ExecutionTimingListener.Phase.TEST_METHOD;
+import static org.junit.jupiter.engine.Constants.EXECUTION_TIMING_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.EXECUTION_TIMING_REPORT_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExecutionTimingListener;
+import org.junit.jupiter.api.extension.ExecutionTimingListener.Phase;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+/**
+ * Integration tests for the {@link ExecutionTimingListener} extension API.
+ *
+ * @since 5.6
+ */
+class ExecutionTimingListenerTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void listenerIsNotInvokedByDefault() {
+		RecordingListener.phases.clear();
+
+		executeTestsForClass(TimedTestCase.class).testEvents().assertStatistics(stats -> stats.succeeded(1));
+
+		assertThat(RecordingListener.phases).isEmpty();
+	}
+
+	@Test
+	void listenerIsInvokedForAllPhasesIfEnabled() {
+		RecordingListener.phases.clear();
+
+		execute(EXECUTION_TIMING_ENABLED_PROPERTY_NAME).testEvents().assertStatistics(
+			stats -> stats.succeeded(1).reportingEntryPublished(0));
+
+		// The display name of a static nested class includes its enclosing class
+		String classDisplayName = "ExecutionTimingListenerTests$TimedTestCase";
+		assertThat(RecordingListener.phases).contains(classDisplayName + ":" + BEFORE_ALL_METHODS,
+			classDisplayName + ":" + AFTER_ALL_METHODS, "test(TestInfo):" + TEST_INSTANCE_CONSTRUCTION,
+			"test(TestInfo):" + BEFORE_EACH_CALLBACKS, "test(TestInfo):" + BEFORE_EACH_METHODS,
+			"test(TestInfo):" + BEFORE_TEST_EXECUTION_CALLBACKS, "test(TestInfo):" + PARAMETER_RESOLUTION,
+			"test(TestInfo):" + TEST_METHOD, "test(TestInfo):" + AFTER_TEST_EXECUTION_CALLBACKS,
+			"test(TestInfo):" + AFTER_EACH_METHODS, "test(TestInfo):" + AFTER_EACH_CALLBACKS);
+	}
+
+	@Test
+	void totalDurationsArePublishedAsReportEntryIfEnabled() {
+		EngineExecutionResults results = execute(EXECUTION_TIMING_REPORT_ENABLED_PROPERTY_NAME);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(1).reportingEntryPublished(1));
+		Map<String, String> values = results.testEvents().reportingEntryPublished().list().get(0).getRequiredPayload(
+			ReportEntry.class).getKeyValuePairs();
+		assertThat(values).containsKeys("timing.before_each_methods", "timing.test_method",
+			"timing.parameter_resolution");
+		assertThat(Long.parseLong(values.get("timing.test_method"))).isGreaterThan(0);
+	}
+
+	private EngineExecutionResults execute(String propertyName) {
+		return executeTests(request().selectors(selectClass(TimedTestCase.class)).configurationParameter(propertyName,
+			"true").build());
+	}
+
+	static class RecordingListener implements ExecutionTimingListener {
+
+		static final List<String> phases = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void phaseFinished(ExtensionContext context, Phase phase, long durationNanos) {
+			assertThat(durationNanos).isGreaterThanOrEqualTo(0);
+			phases.add(context.getDisplayName() + ":" + phase);
+		}
+	}
+
+	@ExtendWith(RecordingListener.class)
+	static class TimedTestCase {
+
+		@BeforeAll
+		static void beforeAll() {
+		}
+
+		@BeforeEach
+		void beforeEach() {
+		}
+
+		@Test
+		void test(TestInfo testInfo) {
+		}
+
+		@AfterEach
+		void afterEach() {
+		}
+
+		@AfterAll
+		static void afterAll() {
+		}
+	}
+
+}
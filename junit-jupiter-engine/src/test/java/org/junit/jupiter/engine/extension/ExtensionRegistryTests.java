@@ -13,8 +13,10 @@ package org.junit.jupiter.engine.extension;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryFrom;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryWithDefaultExtensions;
@@ -146,6 +148,48 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	@Test
+	void repeatedLookupsReturnCachedExtensions() {
+		MutableExtensionRegistry child = createRegistryFrom(registry, singletonList(MyExtension.class));
+
+		List<MyExtensionApi> extensions = child.getExtensions(MyExtensionApi.class);
+
+		assertEquals(1, extensions.size());
+		assertSame(extensions, child.getExtensions(MyExtensionApi.class));
+	}
+
+	@Test
+	void extensionsRegisteredInParentAfterLookupAreFoundInChild() {
+		MutableExtensionRegistry parent = registry;
+		MutableExtensionRegistry child = createRegistryFrom(parent, singletonList(MyExtension.class));
+		assertEquals(1, countExtensions(child, MyExtensionApi.class));
+
+		parent.registerExtension(YourExtension.class);
+
+		assertEquals(2, countExtensions(child, MyExtensionApi.class));
+		assertEquals(asList(YourExtension.class, MyExtension.class),
+			asClasses(child.getExtensions(MyExtensionApi.class)));
+		assertEquals(asList(MyExtension.class, YourExtension.class),
+			asClasses(child.getReversedExtensions(MyExtensionApi.class)));
+	}
+
+	@Test
+	void reversedExtensionsAreStableAcrossLookups() {
+		MutableExtensionRegistry child = createRegistryFrom(registry, asList(MyExtension.class, YourExtension.class));
+
+		List<MyExtensionApi> first = child.getReversedExtensions(MyExtensionApi.class);
+		List<MyExtensionApi> second = child.getReversedExtensions(MyExtensionApi.class);
+
+		assertEquals(asList(YourExtension.class, MyExtension.class), asClasses(first));
+		assertEquals(asClasses(first), asClasses(second));
+		assertEquals(asList(MyExtension.class, YourExtension.class),
+			asClasses(child.getExtensions(MyExtensionApi.class)));
+	}
+
+	private List<Class<?>> asClasses(List<?> extensions) {
+		return extensions.stream().<Class<?>> map(Object::getClass).collect(toList());
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
@@ -13,6 +13,7 @@ package org.junit.jupiter.engine.extension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.testkit.engine.EventConditions.container;
@@ -130,8 +131,33 @@ class TestExecutionExceptionHandlerTests extends AbstractJupiterTestEngineTests
 		assertEquals(Arrays.asList("convert", "rethrow", "swallow"), handlerCalls);
 	}
 
+	@Test
+	void handlersRegisteredOnClassAreCalledForEachTest() {
+		LauncherDiscoveryRequest request = request().selectors(selectClass(SharedHandlersTestCase.class)).build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+		assertEquals(Arrays.asList("convert", "swallow", "convert", "swallow"), handlerCalls);
+	}
+
 	// -------------------------------------------------------------------
 
+	@ExtendWith(SwallowException.class)
+	@ExtendWith(ConvertException.class)
+	static class SharedHandlersTestCase {
+
+		@Test
+		void first() {
+			throw new RuntimeException("unchecked");
+		}
+
+		@Test
+		void second() {
+			throw new RuntimeException("unchecked");
+		}
+	}
+
 	static class ATestCase {
 
 		@Test
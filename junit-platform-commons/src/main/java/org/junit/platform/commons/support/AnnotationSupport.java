@@ -36,6 +36,12 @@ import org.junit.platform.commons.util.ReflectionUtils;
  * authors are encouraged to use these supported methods in order to align with
  * the behavior of the JUnit Platform.
  *
+ * <p>As of JUnit Platform 1.6, the results of {@code findAnnotation()},
+ * {@code findRepeatableAnnotations()}, and {@code isAnnotated()} for classes,
+ * methods, constructors, fields, and parameters are cached, including the
+ * absence of an annotation. Repeated lookups on the same element are
+ * therefore inexpensive.
+ *
  * @since 1.0
  * @see ClassSupport
  * @see ModifierSupport
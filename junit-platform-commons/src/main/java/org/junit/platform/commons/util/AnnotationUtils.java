@@ -18,8 +18,10 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Repeatable;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -30,6 +32,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -63,6 +66,24 @@ public final class AnnotationUtils {
 	private static final ConcurrentHashMap<Class<? extends Annotation>, Boolean> repeatableAnnotationContainerCache = //
 		new ConcurrentHashMap<>(16);
 
+	/**
+	 * Results of {@link #findAnnotation(AnnotatedElement, Class)} per class
+	 * declaring the annotated element.
+	 *
+	 * <p>The results are attached to the declaring class via {@link ClassValue}
+	 * so that they do not prevent the class and its class loader from being
+	 * garbage collected.
+	 */
+	private static final ClassValue<ConcurrentMap<AnnotationLookup, Optional<?>>> annotationCache = new LookupCache<>();
+
+	/**
+	 * Results of {@link #findRepeatableAnnotations(AnnotatedElement, Class)}
+	 * per class declaring the annotated element.
+	 *
+	 * @see #annotationCache
+	 */
+	private static final ClassValue<ConcurrentMap<AnnotationLookup, List<?>>> repeatableAnnotationsCache = new LookupCache<>();
+
 	/**
 	 * Determine if an annotation of {@code annotationType} is either
 	 * <em>present</em> or <em>meta-present</em> on the supplied optional
@@ -109,8 +130,33 @@ public final class AnnotationUtils {
 	/**
 	 * @see org.junit.platform.commons.support.AnnotationSupport#findAnnotation(AnnotatedElement, Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		Preconditions.notNull(annotationType, "annotationType must not be null");
+		Class<?> declaringClass = getCacheableDeclaringClass(element, annotationType);
+		if (declaringClass == null) {
+			return lookUpAnnotation(element, annotationType);
+		}
+		ConcurrentMap<AnnotationLookup, Optional<?>> cache = annotationCache.get(declaringClass);
+		AnnotationLookup lookup = new AnnotationLookup(element, annotationType);
+		// Not computeIfAbsent(), since the search may recursively look up
+		// meta-annotations declared by the same annotation type.
+		Optional<A> annotation = (Optional<A>) cache.get(lookup);
+		if (annotation == null) {
+			annotation = lookUpAnnotation(element, annotationType);
+			cache.putIfAbsent(lookup, annotation);
+		}
+		return annotation;
+	}
+
+	/**
+	 * Find the first annotation of {@code annotationType} on the supplied
+	 * {@code element} without consulting the cache used by
+	 * {@link #findAnnotation(AnnotatedElement, Class)}.
+	 *
+	 * @since 1.6
+	 */
+	static <A extends Annotation> Optional<A> lookUpAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
 		return findAnnotation(element, annotationType, inherited, new HashSet<>());
 	}
@@ -200,10 +246,35 @@ public final class AnnotationUtils {
 	/**
 	 * @see org.junit.platform.commons.support.AnnotationSupport#findRepeatableAnnotations(AnnotatedElement, Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public static <A extends Annotation> List<A> findRepeatableAnnotations(AnnotatedElement element,
 			Class<A> annotationType) {
 
 		Preconditions.notNull(annotationType, "annotationType must not be null");
+		Class<?> declaringClass = getCacheableDeclaringClass(element, annotationType);
+		if (declaringClass == null) {
+			return lookUpRepeatableAnnotations(element, annotationType);
+		}
+		ConcurrentMap<AnnotationLookup, List<?>> cache = repeatableAnnotationsCache.get(declaringClass);
+		AnnotationLookup lookup = new AnnotationLookup(element, annotationType);
+		List<A> annotations = (List<A>) cache.get(lookup);
+		if (annotations == null) {
+			annotations = lookUpRepeatableAnnotations(element, annotationType);
+			cache.putIfAbsent(lookup, annotations);
+		}
+		return annotations;
+	}
+
+	/**
+	 * Find all repeatable annotations of {@code annotationType} on the
+	 * supplied {@code element} without consulting the cache used by
+	 * {@link #findRepeatableAnnotations(AnnotatedElement, Class)}.
+	 *
+	 * @since 1.6
+	 */
+	static <A extends Annotation> List<A> lookUpRepeatableAnnotations(AnnotatedElement element,
+			Class<A> annotationType) {
+
 		Repeatable repeatable = annotationType.getAnnotation(Repeatable.class);
 		Preconditions.notNull(repeatable, () -> annotationType.getName() + " must be @Repeatable");
 		Class<? extends Annotation> containerType = repeatable.value();
@@ -387,4 +458,105 @@ public final class AnnotationUtils {
 		return (annotationType != null && annotationType.getName().startsWith("java.lang.annotation"));
 	}
 
+	/**
+	 * Get the class to whose cache the results of looking up annotations of
+	 * the supplied type on the supplied element are attached.
+	 *
+	 * <p>Only the reflective elements of the JDK are guaranteed to always
+	 * return the same annotations. Other implementations of
+	 * {@link AnnotatedElement} are never cached. Lookups of annotation types
+	 * that are not visible from the class loader of the declaring class are not
+	 * cached either, since the cache entry would otherwise keep the class loader
+	 * of the annotation type reachable for as long as the declaring class.
+	 *
+	 * @return the declaring class of the element; {@code null} if the results
+	 * must not be cached
+	 * @since 1.6
+	 */
+	private static Class<?> getCacheableDeclaringClass(AnnotatedElement element,
+			Class<? extends Annotation> annotationType) {
+
+		Class<?> declaringClass;
+		if (element instanceof Class) {
+			declaringClass = (Class<?>) element;
+		}
+		else if (element instanceof Executable) {
+			declaringClass = ((Executable) element).getDeclaringClass();
+		}
+		else if (element instanceof Field) {
+			declaringClass = ((Field) element).getDeclaringClass();
+		}
+		else if (element instanceof Parameter) {
+			declaringClass = ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+		}
+		else {
+			return null;
+		}
+		return isVisible(annotationType, declaringClass.getClassLoader()) ? declaringClass : null;
+	}
+
+	private static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+		ClassLoader typeClassLoader = type.getClassLoader();
+		if (typeClassLoader == null) {
+			return true;
+		}
+		for (ClassLoader candidate = classLoader; candidate != null; candidate = candidate.getParent()) {
+			if (candidate == typeClassLoader) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Creates an empty map of lookup results for each class on first access.
+	 *
+	 * @since 1.6
+	 */
+	private static final class LookupCache<V> extends ClassValue<ConcurrentMap<AnnotationLookup, V>> {
+
+		@Override
+		protected ConcurrentMap<AnnotationLookup, V> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+
+	}
+
+	/**
+	 * Key of the annotation caches: an annotated element and the type of
+	 * annotation looked up on it.
+	 *
+	 * @since 1.6
+	 */
+	private static final class AnnotationLookup {
+
+		private final AnnotatedElement element;
+		private final Class<? extends Annotation> annotationType;
+		private final int hashCode;
+
+		AnnotationLookup(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+			this.element = element;
+			this.annotationType = annotationType;
+			this.hashCode = 31 * element.hashCode() + annotationType.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof AnnotationLookup)) {
+				return false;
+			}
+			AnnotationLookup that = (AnnotationLookup) obj;
+			return this.annotationType == that.annotationType && this.element.equals(that.element);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
 }
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Determines which class files in a classpath root are worth loading by
+ * inspecting their constant pools instead of loading them.
+ *
+ * <p>A class is considered a <em>candidate</em> if at least one of the
+ * following holds:
+ *
+ * <ul>
+ * <li>its constant pool references one of the candidate annotations or an
+ * annotation declared in the same root that is (meta-)annotated with one of
+ * them</li>
+ * <li>it extends a class other than {@code Object}, {@code Enum}, or
+ * {@code Record} or implements an interface, since it might inherit
+ * annotated methods</li>
+ * <li>it declares nested classes</li>
+ * <li>its class file cannot be parsed</li>
+ * </ul>
+ *
+ * <p>Annotation types are never considered candidates.
+ *
+ * @since 1.6
+ */
+class ClassFilePrefilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFilePrefilter.class);
+
+	private static final int MAGIC = 0xCAFEBABE;
+	private static final int ACC_ANNOTATION = 0x2000;
+
+	private static final Set<String> TRIVIAL_SUPERCLASSES = CollectionUtils.toSet(
+		new String[] { "java/lang/Object", "java/lang/Enum", "java/lang/Record" });
+
+	private final Set<String> candidateAnnotationDescriptors = new HashSet<>();
+
+	ClassFilePrefilter(Set<String> candidateAnnotationNames) {
+		for (String annotationName : candidateAnnotationNames) {
+			this.candidateAnnotationDescriptors.add(descriptor(annotationName.replace('.', '/')));
+		}
+	}
+
+	/**
+	 * Read all class files in the supplied directory and return the fully
+	 * qualified names of all classes that are <em>not</em> candidates.
+	 *
+	 * <p>Class files that cannot be read are never excluded.
+	 */
+	Set<String> findExcludedClassNames(Path baseDir) {
+		List<ClassFileInfo> classFiles = new ArrayList<>();
+		try {
+			Files.walkFileTree(baseDir, new ClassFileVisitor(classFile -> {
+				ClassFileInfo info = read(() -> Files.newInputStream(classFile), classFile);
+				if (info != null) {
+					classFiles.add(info);
+				}
+			}));
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
+		}
+		return findExcludedClassNames(classFiles);
+	}
+
+	/**
+	 * Read the supplied class file entries of a JAR file and return the fully
+	 * qualified names of all classes that are <em>not</em> candidates.
+	 *
+	 * <p>Class files that cannot be read are never excluded.
+	 */
+	Set<String> findExcludedClassNames(ZipFile jarFile, List<ZipEntry> classFileEntries) {
+		List<ClassFileInfo> classFiles = new ArrayList<>();
+		for (ZipEntry entry : classFileEntries) {
+			ClassFileInfo info = read(() -> jarFile.getInputStream(entry), entry.getName());
+			if (info != null) {
+				classFiles.add(info);
+			}
+		}
+		return findExcludedClassNames(classFiles);
+	}
+
+	private Set<String> findExcludedClassNames(List<ClassFileInfo> classFiles) {
+		Set<String> relevantDescriptors = findRelevantAnnotationDescriptors(classFiles);
+		Set<String> excludedClassNames = new HashSet<>();
+		for (ClassFileInfo info : classFiles) {
+			if (info.isAnnotation() || !isCandidate(info, relevantDescriptors)) {
+				excludedClassNames.add(info.internalName.replace('/', '.'));
+			}
+		}
+		return excludedClassNames;
+	}
+
+	/**
+	 * Compute the descriptors of the candidate annotations and all annotations
+	 * in the supplied class files that are transitively meta-annotated with
+	 * them.
+	 */
+	private Set<String> findRelevantAnnotationDescriptors(List<ClassFileInfo> classFiles) {
+		Set<String> relevantDescriptors = new HashSet<>(this.candidateAnnotationDescriptors);
+		List<ClassFileInfo> annotations = new ArrayList<>();
+		for (ClassFileInfo info : classFiles) {
+			if (info.isAnnotation()) {
+				annotations.add(info);
+			}
+		}
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (ClassFileInfo annotation : annotations) {
+				String descriptor = descriptor(annotation.internalName);
+				if (!relevantDescriptors.contains(descriptor) && annotation.references(relevantDescriptors)) {
+					relevantDescriptors.add(descriptor);
+					changed = true;
+				}
+			}
+		}
+		return relevantDescriptors;
+	}
+
+	private boolean isCandidate(ClassFileInfo info, Set<String> relevantDescriptors) {
+		return info.hasNontrivialSupertypes() || info.declaresNestedClasses || info.references(relevantDescriptors);
+	}
+
+	private static String descriptor(String internalName) {
+		return "L" + internalName + ";";
+	}
+
+	/**
+	 * Read the parts of the supplied class file up to its interfaces.
+	 *
+	 * @return the class file info or {@code null} if the file could not be
+	 * parsed
+	 */
+	private static ClassFileInfo read(InputStreamSupplier classFile, Object location) {
+		try (InputStream inputStream = classFile.get();
+				DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream))) {
+			if (in.readInt() != MAGIC) {
+				return null;
+			}
+			in.readUnsignedShort(); // minor version
+			in.readUnsignedShort(); // major version
+			int constantPoolCount = in.readUnsignedShort();
+			String[] utf8Constants = new String[constantPoolCount];
+			int[] classNameIndexes = new int[constantPoolCount];
+			for (int i = 1; i < constantPoolCount; i++) {
+				int tag = in.readUnsignedByte();
+				switch (tag) {
+					case 1: // Utf8
+						utf8Constants[i] = in.readUTF();
+						break;
+					case 7: // Class
+						classNameIndexes[i] = in.readUnsignedShort();
+						break;
+					case 8: // String
+					case 16: // MethodType
+					case 19: // Module
+					case 20: // Package
+						in.skipBytes(2);
+						break;
+					case 15: // MethodHandle
+						in.skipBytes(3);
+						break;
+					case 3: // Integer
+					case 4: // Float
+					case 9: // Fieldref
+					case 10: // Methodref
+					case 11: // InterfaceMethodref
+					case 12: // NameAndType
+					case 17: // Dynamic
+					case 18: // InvokeDynamic
+						in.skipBytes(4);
+						break;
+					case 5: // Long
+					case 6: // Double
+						in.skipBytes(8);
+						i++;
+						break;
+					default:
+						return null;
+				}
+			}
+			int accessFlags = in.readUnsignedShort();
+			String internalName = utf8Constants[classNameIndexes[in.readUnsignedShort()]];
+			int superClassIndex = in.readUnsignedShort();
+			String superClassName = superClassIndex == 0 ? null : utf8Constants[classNameIndexes[superClassIndex]];
+			int interfacesCount = in.readUnsignedShort();
+			return new ClassFileInfo(internalName, accessFlags, superClassName, interfacesCount, utf8Constants,
+				classNameIndexes);
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Failed to read class file " + location);
+			return null;
+		}
+	}
+
+	private interface InputStreamSupplier {
+
+		InputStream get() throws IOException;
+
+	}
+
+	private static class ClassFileInfo {
+
+		private final String internalName;
+		private final int accessFlags;
+		private final String superClassName;
+		private final int interfacesCount;
+		private final List<String> descriptors = new ArrayList<>();
+		private final boolean declaresNestedClasses;
+
+		ClassFileInfo(String internalName, int accessFlags, String superClassName, int interfacesCount,
+				String[] utf8Constants, int[] classNameIndexes) {
+			this.internalName = internalName;
+			this.accessFlags = accessFlags;
+			this.superClassName = superClassName;
+			this.interfacesCount = interfacesCount;
+			for (String constant : utf8Constants) {
+				// Only descriptors and signatures can reference annotation types
+				if (constant != null && constant.indexOf(';') >= 0) {
+					this.descriptors.add(constant);
+				}
+			}
+			String nestedClassPrefix = internalName + "$";
+			boolean nestedClasses = false;
+			for (int nameIndex : classNameIndexes) {
+				if (nameIndex != 0 && utf8Constants[nameIndex].startsWith(nestedClassPrefix)) {
+					nestedClasses = true;
+					break;
+				}
+			}
+			this.declaresNestedClasses = nestedClasses;
+		}
+
+		boolean isAnnotation() {
+			return (this.accessFlags & ACC_ANNOTATION) != 0;
+		}
+
+		boolean hasNontrivialSupertypes() {
+			return this.interfacesCount > 0
+					|| (this.superClassName != null && !TRIVIAL_SUPERCLASSES.contains(this.superClassName));
+		}
+
+		boolean references(Set<String> typeDescriptors) {
+			for (String descriptor : this.descriptors) {
+				if (typeDescriptors.contains(descriptor)) {
+					return true;
+				}
+				for (String typeDescriptor : typeDescriptors) {
+					if (descriptor.contains(typeDescriptor)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -41,7 +41,7 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 
 	@Override
 	public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
-		if (isNotPackageInfo(file) && isNotModuleInfo(file) && isClassFile(file)) {
+		if (isClassFileToScan(file)) {
 			classFileConsumer.accept(file);
 		}
 		return CONTINUE;
@@ -61,16 +61,36 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 		return CONTINUE;
 	}
 
-	private static boolean isNotPackageInfo(Path path) {
-		return !path.endsWith(PACKAGE_INFO_FILE_NAME);
+	/**
+	 * Determine if the supplied file is a class file other than
+	 * {@code package-info.class} and {@code module-info.class}.
+	 *
+	 * @since 1.6
+	 */
+	static boolean isClassFileToScan(Path file) {
+		return isClassFileToScan(file.getFileName().toString());
 	}
 
-	private static boolean isNotModuleInfo(Path path) {
-		return !path.endsWith(MODULE_INFO_FILE_NAME);
+	/**
+	 * Determine if the supplied file name denotes a class file other than
+	 * {@code package-info.class} and {@code module-info.class}.
+	 *
+	 * @since 1.6
+	 */
+	static boolean isClassFileToScan(String fileName) {
+		return isNotPackageInfo(fileName) && isNotModuleInfo(fileName) && isClassFile(fileName);
 	}
 
-	private static boolean isClassFile(Path file) {
-		return file.getFileName().toString().endsWith(CLASS_FILE_SUFFIX);
+	private static boolean isNotPackageInfo(String fileName) {
+		return !fileName.equals(PACKAGE_INFO_FILE_NAME);
+	}
+
+	private static boolean isNotModuleInfo(String fileName) {
+		return !fileName.equals(MODULE_INFO_FILE_NAME);
+	}
+
+	private static boolean isClassFile(String fileName) {
+		return fileName.endsWith(CLASS_FILE_SUFFIX);
 	}
 
 }
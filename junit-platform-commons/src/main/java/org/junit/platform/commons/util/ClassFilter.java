@@ -10,8 +10,12 @@
 
 package org.junit.platform.commons.util;
 
+import static java.util.Collections.emptySet;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -41,15 +45,119 @@ public class ClassFilter implements Predicate<Class<?>> {
 	 * Create a {@link ClassFilter} instance that filters by names and classes.
 	 */
 	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
-		return new ClassFilter(namePredicate, classPredicate);
+		return new ClassFilter(namePredicate, classPredicate, emptySet(), null, false);
+	}
+
+	/**
+	 * Create a {@link ClassFilter} instance that filters by names and classes
+	 * and allows classpath scanning to skip loading classes whose class files
+	 * reference none of the supplied annotations.
+	 *
+	 * @param candidateAnnotationNames the fully qualified names of the
+	 * annotations that classes matching the class predicate reference; if
+	 * empty, all classes are loaded
+	 * @since 1.6
+	 * @see #getCandidateAnnotationNames()
+	 */
+	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			Set<String> candidateAnnotationNames) {
+		return of(namePredicate, classPredicate, candidateAnnotationNames, null);
+	}
+
+	/**
+	 * Create a {@link ClassFilter} instance that filters by names and classes,
+	 * allows classpath scanning to skip loading classes whose class files
+	 * reference none of the supplied annotations, and records rejected
+	 * classes in the supplied cache.
+	 *
+	 * @param candidateAnnotationNames the fully qualified names of the
+	 * annotations that classes matching the class predicate reference; if
+	 * empty, all classes are loaded
+	 * @param scanCache the cache of rejected class files; may be {@code null}
+	 * @since 1.6
+	 * @see #getScanCache()
+	 */
+	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			Set<String> candidateAnnotationNames, ClasspathScanCache scanCache) {
+		return of(namePredicate, classPredicate, candidateAnnotationNames, scanCache, false);
+	}
+
+	/**
+	 * Create a {@link ClassFilter} instance that filters by names and classes,
+	 * allows classpath scanning to skip loading classes whose class files
+	 * reference none of the supplied annotations, records rejected classes in
+	 * the supplied cache, and optionally allows classpath scanning to only
+	 * load the test classes listed in the {@link TestIndex} of a classpath
+	 * root.
+	 *
+	 * @param candidateAnnotationNames the fully qualified names of the
+	 * annotations that classes matching the class predicate reference; if
+	 * empty, all classes are loaded
+	 * @param scanCache the cache of rejected class files; may be {@code null}
+	 * @param testIndexEnabled whether classpath scanning may use test indexes
+	 * @since 1.6
+	 * @see #isTestIndexEnabled()
+	 */
+	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			Set<String> candidateAnnotationNames, ClasspathScanCache scanCache, boolean testIndexEnabled) {
+		Preconditions.notNull(candidateAnnotationNames, "candidate annotation names must not be null");
+		return new ClassFilter(namePredicate, classPredicate, new LinkedHashSet<>(candidateAnnotationNames),
+			scanCache, testIndexEnabled);
 	}
 
 	private final Predicate<String> namePredicate;
 	private final Predicate<Class<?>> classPredicate;
+	private final Set<String> candidateAnnotationNames;
+	private final ClasspathScanCache scanCache;
+	private final boolean testIndexEnabled;
 
-	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
+	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			Set<String> candidateAnnotationNames, ClasspathScanCache scanCache, boolean testIndexEnabled) {
 		this.namePredicate = Preconditions.notNull(namePredicate, "name predicate must not be null");
 		this.classPredicate = Preconditions.notNull(classPredicate, "class predicate must not be null");
+		this.candidateAnnotationNames = candidateAnnotationNames;
+		this.scanCache = scanCache;
+		this.testIndexEnabled = testIndexEnabled;
+	}
+
+	/**
+	 * Get the fully qualified names of the annotations that all classes
+	 * matching this filter directly or indirectly reference.
+	 *
+	 * <p>If not empty, classpath scanning inspects the constant pools of class
+	 * files before loading them and skips classes that do not reference any
+	 * of these annotations or annotations that are meta-annotated with them,
+	 * and cannot inherit them either.
+	 *
+	 * @since 1.6
+	 */
+	public Set<String> getCandidateAnnotationNames() {
+		return this.candidateAnnotationNames;
+	}
+
+	/**
+	 * Get the cache that classpath scanning uses to skip loading classes that
+	 * were rejected by the class predicate of this filter in a previous scan
+	 * and have not changed since.
+	 *
+	 * @since 1.6
+	 */
+	public Optional<ClasspathScanCache> getScanCache() {
+		return Optional.ofNullable(this.scanCache);
+	}
+
+	/**
+	 * Determine whether classpath scanning only loads the test classes listed
+	 * in the {@link TestIndex} of a classpath root that contains one.
+	 *
+	 * <p>Since an index only lists the classes its annotation processor
+	 * considered test classes, it must only be enabled if all classes that
+	 * match this filter are indexed.
+	 *
+	 * @since 1.6
+	 */
+	public boolean isTestIndexEnabled() {
+		return this.testIndexEnabled;
 	}
 
 	/**
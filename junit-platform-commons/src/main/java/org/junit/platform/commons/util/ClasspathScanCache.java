@@ -0,0 +1,255 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Cache of class files that were rejected by the class predicate of a
+ * {@link ClassFilter} in a previous classpath scan, keyed by their size and
+ * last modification time.
+ *
+ * <p>Class files that have not changed since they were rejected are not
+ * loaded again. Only rejections that cannot depend on other class files are
+ * recorded: the class must not have a superclass other than {@code Object},
+ * {@code Enum}, or {@code Record}, must not implement interfaces, must not
+ * declare nested classes, and neither the class nor its members or their
+ * parameters may be annotated with annotations that are not part of the JDK
+ * since their meta-annotations may change. Class files in JAR files are never
+ * cached.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.6
+ * @see ClassFilter#getScanCache()
+ */
+@API(status = INTERNAL, since = "1.6")
+public final class ClasspathScanCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClasspathScanCache.class);
+
+	private static final Set<String> TRIVIAL_SUPERCLASSES = CollectionUtils.toSet(
+		new String[] { "java.lang.Object", "java.lang.Enum", "java.lang.Record" });
+
+	/**
+	 * Load the cache stored in the supplied file, which does not need to
+	 * exist yet.
+	 */
+	public static ClasspathScanCache load(Path file) {
+		Preconditions.notNull(file, "file must not be null");
+		return new ClasspathScanCache(file, read(file));
+	}
+
+	private final Path file;
+	private final Map<String, String> rejectedClassFiles;
+	private volatile boolean modified;
+
+	private ClasspathScanCache(Path file, Map<String, String> rejectedClassFiles) {
+		this.file = file;
+		this.rejectedClassFiles = rejectedClassFiles;
+	}
+
+	/**
+	 * Determine if the supplied class file was rejected in a previous scan and
+	 * has not changed since.
+	 */
+	boolean isUnchangedRejectedClassFile(Path classFile) {
+		String stamp = this.rejectedClassFiles.get(key(classFile));
+		return stamp != null && stamp.equals(stamp(classFile));
+	}
+
+	/**
+	 * Record whether the class loaded from the supplied class file matched the
+	 * class predicate.
+	 */
+	void record(Path classFile, Class<?> type, boolean matched) {
+		String key = key(classFile);
+		if (!matched && isCacheable(type)) {
+			String stamp = stamp(classFile);
+			if (stamp != null && !stamp.equals(this.rejectedClassFiles.put(key, stamp))) {
+				this.modified = true;
+			}
+		}
+		else if (this.rejectedClassFiles.remove(key) != null) {
+			this.modified = true;
+		}
+	}
+
+	/**
+	 * Remove entries of class files that no longer exist or have changed, and
+	 * write this cache to its file if it was modified since it was loaded or
+	 * last saved.
+	 *
+	 * <p>Synchronized so that concurrent calls do not write the file at the
+	 * same time; the file is replaced atomically where supported so that
+	 * other processes never read a partially written cache.
+	 */
+	public synchronized void save() {
+		if (this.rejectedClassFiles.entrySet().removeIf(entry -> !isUnchanged(entry.getKey(), entry.getValue()))) {
+			this.modified = true;
+		}
+		if (!this.modified) {
+			return;
+		}
+		this.modified = false;
+		Properties properties = new Properties();
+		properties.putAll(this.rejectedClassFiles);
+		try {
+			Path target = this.file.toAbsolutePath();
+			Path parent = target.getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Path tempFile = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream out = Files.newOutputStream(tempFile)) {
+					properties.store(out, "JUnit Platform classpath scan cache");
+				}
+				replace(tempFile, target);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Failed to write classpath scan cache to " + this.file);
+		}
+	}
+
+	private static boolean isUnchanged(String classFile, String stamp) {
+		try {
+			return stamp.equals(stamp(Paths.get(classFile)));
+		}
+		catch (InvalidPathException e) {
+			return false;
+		}
+	}
+
+	private static void replace(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static boolean isCacheable(Class<?> type) {
+		try {
+			Class<?> superclass = type.getSuperclass();
+			boolean trivialHierarchy = type.isAnnotation()
+					|| ((superclass == null || TRIVIAL_SUPERCLASSES.contains(superclass.getName()))
+							&& type.getInterfaces().length == 0);
+			return trivialHierarchy && type.getDeclaredClasses().length == 0 && !hasNonJdkAnnotations(type);
+		}
+		catch (Throwable throwable) {
+			BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+			return false;
+		}
+	}
+
+	/**
+	 * Determine if the supplied class, its fields, methods, constructors, or
+	 * their parameters are annotated with annotations that are not loaded by
+	 * the bootstrap or platform class loader; their meta-annotations are
+	 * declared in other class files that may change independently.
+	 */
+	private static boolean hasNonJdkAnnotations(Class<?> type) {
+		List<AnnotatedElement> elements = new ArrayList<>();
+		elements.add(type);
+		elements.addAll(Arrays.asList(type.getDeclaredFields()));
+		List<Executable> executables = new ArrayList<>(Arrays.asList(type.getDeclaredMethods()));
+		executables.addAll(Arrays.asList(type.getDeclaredConstructors()));
+		for (Executable executable : executables) {
+			elements.add(executable);
+			elements.addAll(Arrays.asList(executable.getParameters()));
+		}
+		ClassLoader platformClassLoader = ClassLoader.getSystemClassLoader().getParent();
+		// @formatter:off
+		return elements.stream()
+				.flatMap(element -> Arrays.stream(element.getDeclaredAnnotations()))
+				.map(Annotation::annotationType)
+				.map(Class::getClassLoader)
+				.anyMatch(classLoader -> classLoader != null && classLoader != platformClassLoader);
+		// @formatter:on
+	}
+
+	private static String key(Path classFile) {
+		return classFile.toAbsolutePath().toString();
+	}
+
+	/**
+	 * @return the size and last modification time of the supplied class file
+	 * or {@code null} if it is not cacheable
+	 */
+	private static String stamp(Path classFile) {
+		if (classFile.getFileSystem() != FileSystems.getDefault()) {
+			return null;
+		}
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+			return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Map<String, String> read(Path file) {
+		Map<String, String> rejectedClassFiles = new ConcurrentHashMap<>();
+		if (!Files.isRegularFile(file)) {
+			return rejectedClassFiles;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Failed to read classpath scan cache from " + file);
+			return rejectedClassFiles;
+		}
+		for (String classFile : properties.stringPropertyNames()) {
+			rejectedClassFiles.put(classFile, properties.getProperty(classFile));
+		}
+		return rejectedClassFiles;
+	}
+
+}
@@ -11,7 +11,9 @@
 package org.junit.platform.commons.util;
 
 import static java.lang.String.format;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
@@ -19,22 +21,36 @@ import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX
 
 import java.io.IOException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.FlightRecorderEventType.FlightRecorderEvent;
 
 /**
  * <h3>DISCLAIMER</h3>
@@ -49,6 +65,37 @@ class ClasspathScanner {
 
 	private static final Logger logger = LoggerFactory.getLogger(ClasspathScanner.class);
 
+	// @formatter:off
+	private static final FlightRecorderEventType CLASSPATH_SCAN_EVENT = FlightRecorderEventType
+			.builder("org.junit.platform.commons.ClasspathScan")
+			.label("Classpath Scan")
+			.category("JUnit", "Discovery")
+			.field("root", "Root", String.class)
+			.field("basePackage", "Base Package", String.class)
+			.field("classFiles", "Class Files Scanned", int.class)
+			.field("classes", "Classes Found", int.class)
+			.build();
+	// @formatter:on
+
+	/**
+	 * Name of the JVM system property used to configure the number of threads
+	 * used to scan classpath roots and load classes: {@value}
+	 *
+	 * <p>Defaults to {@code 1} which scans each classpath root in the calling
+	 * thread.
+	 *
+	 * @since 1.6
+	 */
+	static final String PARALLELISM_PROPERTY_NAME = "junit.platform.classpath.scanning.parallelism";
+
+	private static final Comparator<Path> FILE_NAME_ORDER = Comparator.comparing(path -> path.getFileName().toString());
+
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_URI_SCHEME = "jar";
+	private static final String JAR_FILE_EXTENSION = ".jar";
+	private static final String JAR_URI_SEPARATOR = "!";
+	private static final String META_INF_DIRECTORY = "META-INF/";
+
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
 	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
@@ -62,46 +109,129 @@ class ClasspathScanner {
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> loadClass;
 
+	private final int parallelism;
+
 	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass) {
 
+		this(classLoaderSupplier, loadClass, 1);
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass, int parallelism) {
+
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than zero");
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Get the parallelism configured via the
+	 * {@value #PARALLELISM_PROPERTY_NAME} JVM system property or {@code 1} if
+	 * it is not set or invalid.
+	 *
+	 * @since 1.6
+	 */
+	static int getConfiguredParallelism() {
+		String value = System.getProperty(PARALLELISM_PROPERTY_NAME);
+		if (StringUtils.isBlank(value)) {
+			return 1;
+		}
+		try {
+			int parallelism = Integer.parseInt(value.trim());
+			Preconditions.condition(parallelism > 0, "parallelism must be greater than zero");
+			return parallelism;
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> format("Invalid value for system property [%s]: %s; scanning serially.",
+				PARALLELISM_PROPERTY_NAME, value));
+			return 1;
+		}
 	}
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter) {
 
 		PackageUtils.assertPackageNameIsValid(basePackageName);
 		Preconditions.notNull(classFilter, "classFilter must not be null");
-		basePackageName = basePackageName.trim();
+		String trimmedBasePackageName = basePackageName.trim();
 
-		return findClassesForUris(getRootUrisForPackage(basePackageName), basePackageName, classFilter);
+		return scan(classLoader -> findClassesForUris(getRootUrisForPackage(trimmedBasePackageName),
+			trimmedBasePackageName, classFilter, classLoader));
 	}
 
 	List<Class<?>> scanForClassesInClasspathRoot(URI root, ClassFilter classFilter) {
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 
-		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
+		return scan(
+			classLoader -> findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter, classLoader));
+	}
+
+	/**
+	 * Run the supplied scan in the current thread or, if parallel scanning is
+	 * enabled, in a dedicated {@link ForkJoinPool} that is shut down
+	 * afterwards.
+	 *
+	 * <p>The class loader is resolved in the current thread since the context
+	 * class loader of pool threads may differ.
+	 */
+	private List<Class<?>> scan(Function<ClassLoader, List<Class<?>>> scan) {
+		ClassLoader classLoader = getClassLoader();
+		if (!isParallel()) {
+			return scan.apply(classLoader);
+		}
+		ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+		try {
+			return pool.invoke(ForkJoinTask.adapt(() -> scan.apply(classLoader)));
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private boolean isParallel() {
+		return this.parallelism > 1;
 	}
 
 	/**
 	 * Recursively scan for classes in all of the supplied source directories.
 	 */
-	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
+	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader) {
+		if (isParallel()) {
+			List<ForkJoinTask<List<Class<?>>>> tasks = new ArrayList<>();
+			for (URI baseUri : baseUris) {
+				tasks.add(
+					ForkJoinTask.adapt(() -> findClassesForUri(baseUri, basePackageName, classFilter, classLoader)));
+			}
+			ForkJoinTask.invokeAll(tasks);
+			return tasks.stream().map(ForkJoinTask::join).flatMap(Collection::stream).distinct().collect(toList());
+		}
 		// @formatter:off
 		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
+				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, classLoader))
 				.flatMap(Collection::stream)
 				.distinct()
 				.collect(toList());
 		// @formatter:on
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
-		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
-			Path baseDir = closeablePath.getPath();
-			return findClassesForPath(baseDir, basePackageName, classFilter);
+	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader) {
+		FlightRecorderEvent event = CLASSPATH_SCAN_EVENT.begin();
+		try {
+			Optional<Path> jarFile = toJarFile(baseUri, basePackageName);
+			if (jarFile.isPresent()) {
+				return findClassesInJarFile(jarFile.get(), basePackageName, classFilter, classLoader, event);
+			}
+			try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
+				Path baseDir = closeablePath.getPath();
+				return findClassesForPath(baseDir, basePackageName, classFilter, classLoader, event);
+			}
 		}
 		catch (PreconditionViolationException ex) {
 			throw ex;
@@ -110,41 +240,202 @@ class ClasspathScanner {
 			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
 			return emptyList();
 		}
+		finally {
+			event.set("root", baseUri.toString()).set("basePackage", basePackageName).commit();
+		}
+	}
+
+	/**
+	 * Determine the local JAR file the supplied URI points to if it denotes
+	 * the root of the JAR file or the directory of the supplied package
+	 * within it.
+	 *
+	 * @since 1.6
+	 */
+	private static Optional<Path> toJarFile(URI uri, String basePackageName) throws URISyntaxException {
+		URI jarUri;
+		if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+			String[] parts = uri.toString().split(JAR_URI_SEPARATOR);
+			String entryPath = basePackageName.isEmpty() ? "/" : "/" + packagePath(basePackageName);
+			if (parts.length != 2 || !entryPath.equals(parts[1])) {
+				return Optional.empty();
+			}
+			jarUri = new URI(parts[0].substring(JAR_URI_SCHEME.length() + 1));
+		}
+		else if (basePackageName.isEmpty() && uri.getPath() != null && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+			jarUri = uri;
+		}
+		else {
+			return Optional.empty();
+		}
+		if (!FILE_URI_SCHEME.equals(jarUri.getScheme())) {
+			return Optional.empty();
+		}
+		Path jarFile = Paths.get(jarUri);
+		return Files.isRegularFile(jarFile) ? Optional.of(jarFile) : Optional.empty();
+	}
+
+	/**
+	 * Scan the entries of the supplied JAR file in the directory of the
+	 * supplied package by reading its central directory instead of opening
+	 * a zip file system.
+	 *
+	 * @since 1.6
+	 */
+	private List<Class<?>> findClassesInJarFile(Path jarFile, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader, FlightRecorderEvent event) throws IOException {
+		String entryNamePrefix = basePackageName.isEmpty() ? ""
+				: packagePath(basePackageName) + CLASSPATH_RESOURCE_PATH_SEPARATOR;
+		try (ZipFile zipFile = new ZipFile(jarFile.toFile())) {
+			// Only load the test classes listed in a test index generated at compile time, if enabled and present
+			List<ZipEntry> entries = classFilter.isTestIndexEnabled()
+					? TestIndex.findTestClassEntries(zipFile, entryNamePrefix).orElse(null)
+					: null;
+			ClassFilter effectiveClassFilter = classFilter;
+			if (entries == null) {
+				entries = findClassFileEntries(zipFile, entryNamePrefix);
+				effectiveClassFilter = prefilter(zipFile, entries, classFilter);
+			}
+			List<Class<?>> classes = new ArrayList<>();
+			for (ZipEntry entry : entries) {
+				processJarEntrySafely(jarFile, entry.getName(), effectiveClassFilter, classLoader, classes::add);
+			}
+			event.set("classFiles", entries.size()).set("classes", classes.size());
+			return classes;
+		}
 	}
 
-	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter classFilter) {
+	private static List<ZipEntry> findClassFileEntries(ZipFile zipFile, String entryNamePrefix) {
+		List<ZipEntry> entries = new ArrayList<>();
+		Enumeration<? extends ZipEntry> allEntries = zipFile.entries();
+		while (allEntries.hasMoreElements()) {
+			ZipEntry entry = allEntries.nextElement();
+			String name = entry.getName();
+			if (!entry.isDirectory() && name.startsWith(entryNamePrefix) && !name.startsWith(META_INF_DIRECTORY)
+					&& ClassFileVisitor.isClassFileToScan(
+						name.substring(name.lastIndexOf(CLASSPATH_RESOURCE_PATH_SEPARATOR) + 1))) {
+				entries.add(entry);
+			}
+		}
+		entries.sort(Comparator.comparing(ZipEntry::getName));
+		return entries;
+	}
+
+	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter originalClassFilter,
+			ClassLoader classLoader, FlightRecorderEvent event) {
 		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
-		List<Class<?>> classes = new ArrayList<>();
-		try {
-			Files.walkFileTree(baseDir, new ClassFileVisitor(
-				classFile -> processClassFileSafely(baseDir, basePackageName, classFilter, classFile, classes::add)));
+		// Only load the test classes listed in a test index generated at compile time, if enabled and present
+		Optional<List<Path>> indexedClassFiles = originalClassFilter.isTestIndexEnabled()
+				? TestIndex.findTestClassFiles(baseDir, basePackageName)
+				: Optional.empty();
+		if (indexedClassFiles.isPresent()) {
+			List<Class<?>> classes = new ArrayList<>();
+			for (Path classFile : indexedClassFiles.get()) {
+				processClassFileSafely(baseDir, basePackageName, originalClassFilter, classLoader, classFile,
+					classes::add);
+			}
+			event.set("classFiles", indexedClassFiles.get().size()).set("classes", classes.size());
+			return classes;
 		}
-		catch (IOException ex) {
-			logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
+		ClassFilter classFilter = prefilter(baseDir, originalClassFilter);
+		AtomicInteger classFiles = new AtomicInteger();
+		List<Class<?>> classes;
+		if (isParallel()) {
+			classes = new ScanTask(baseDir, basePackageName, classFilter, classLoader, classFiles, baseDir).invoke();
 		}
+		else {
+			classes = new ArrayList<>();
+			try {
+				Files.walkFileTree(baseDir, new ClassFileVisitor(classFile -> {
+					classFiles.incrementAndGet();
+					processClassFileSafely(baseDir, basePackageName, classFilter, classLoader, classFile, classes::add);
+				}));
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
+			}
+		}
+		event.set("classFiles", classFiles.get()).set("classes", classes.size());
 		return classes;
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
-			Consumer<Class<?>> classConsumer) {
+	/**
+	 * Narrow the supplied filter to the candidate classes found by a
+	 * {@link ClassFilePrefilter}, if the filter declares candidate
+	 * annotations.
+	 */
+	private ClassFilter prefilter(Path baseDir, ClassFilter classFilter) {
+		if (classFilter.getCandidateAnnotationNames().isEmpty()) {
+			return classFilter;
+		}
+		return excluding(classFilter,
+			new ClassFilePrefilter(classFilter.getCandidateAnnotationNames()).findExcludedClassNames(baseDir));
+	}
+
+	private ClassFilter prefilter(ZipFile zipFile, List<ZipEntry> classFileEntries, ClassFilter classFilter) {
+		if (classFilter.getCandidateAnnotationNames().isEmpty()) {
+			return classFilter;
+		}
+		return excluding(classFilter, new ClassFilePrefilter(
+			classFilter.getCandidateAnnotationNames()).findExcludedClassNames(zipFile, classFileEntries));
+	}
+
+	private static ClassFilter excluding(ClassFilter classFilter, Set<String> excludedClassNames) {
+		return ClassFilter.of(name -> !excludedClassNames.contains(name) && classFilter.match(name),
+			classFilter::match, emptySet(), classFilter.getScanCache().orElse(null), classFilter.isTestIndexEnabled());
+	}
+
+	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader, Path classFile, Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
 			if (classFilter.match(fullyQualifiedClassName)) {
+				ClasspathScanCache scanCache = classFilter.getScanCache().orElse(null);
+				if (scanCache != null && scanCache.isUnchangedRejectedClassFile(classFile)) {
+					return;
+				}
 				try {
-					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
-							.toOptional()
-							.filter(classFilter) // Always use ".filter(classFilter)" to include future predicates.
-							.ifPresent(classConsumer);
-					// @formatter:on
+					Optional<Class<?>> loadedClass = loadClass.apply(fullyQualifiedClassName, classLoader).toOptional();
+					// Always use ".filter(classFilter)" to include future predicates.
+					Optional<Class<?>> matchingClass = loadedClass.filter(classFilter);
+					if (scanCache != null) {
+						loadedClass.ifPresent(type -> scanCache.record(classFile, type, matchingClass.isPresent()));
+					}
+					matchingClass.ifPresent(classConsumer);
 				}
 				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
+					handleInternalError(classFile.toAbsolutePath(), fullyQualifiedClassName, internalError);
 				}
 			}
 		}
 		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+			handleThrowable(classFile.toAbsolutePath(), throwable);
+		}
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	private void processJarEntrySafely(Path jarFile, String entryName, ClassFilter classFilter,
+			ClassLoader classLoader, Consumer<Class<?>> classConsumer) {
+		String location = jarFile.toAbsolutePath() + JAR_URI_SEPARATOR + CLASSPATH_RESOURCE_PATH_SEPARATOR + entryName;
+		try {
+			String fullyQualifiedClassName = entryName.substring(0,
+				entryName.length() - CLASS_FILE_SUFFIX.length()).replace(CLASSPATH_RESOURCE_PATH_SEPARATOR,
+					PACKAGE_SEPARATOR_CHAR);
+			if (classFilter.match(fullyQualifiedClassName)) {
+				try {
+					// Always use ".filter(classFilter)" to include future predicates.
+					loadClass.apply(fullyQualifiedClassName, classLoader).toOptional().filter(classFilter).ifPresent(
+						classConsumer);
+				}
+				catch (InternalError internalError) {
+					handleInternalError(location, fullyQualifiedClassName, internalError);
+				}
+			}
+		}
+		catch (Throwable throwable) {
+			handleThrowable(location, throwable);
 		}
 	}
 
@@ -176,7 +467,7 @@ class ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(Object classFile, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
 			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
 		}
@@ -185,15 +476,15 @@ class ClasspathScanner {
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Object classFile, Throwable throwable) {
 		rethrowIfBlacklisted(throwable);
 		logGenericFileProcessingException(classFile, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(Object classFile, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				classFile, fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			rethrowIfBlacklisted(t);
@@ -202,9 +493,9 @@ class ClasspathScanner {
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classFile, Throwable throwable) {
+	private void logGenericFileProcessingException(Object classFile, Throwable throwable) {
 		logger.debug(throwable, () -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.",
-			classFile.toAbsolutePath()));
+			classFile));
 	}
 
 	private ClassLoader getClassLoader() {
@@ -231,4 +522,70 @@ class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * Scans a directory or loads a class file as part of a parallel scan.
+	 *
+	 * <p>Subdirectories and class files are processed by forked tasks whose
+	 * results are joined in the order of their file names so that the
+	 * resulting list of classes does not depend on scheduling.
+	 *
+	 * @since 1.6
+	 */
+	@SuppressWarnings("serial")
+	private class ScanTask extends RecursiveTask<List<Class<?>>> {
+
+		private final Path baseDir;
+		private final String basePackageName;
+		private final ClassFilter classFilter;
+		private final ClassLoader classLoader;
+		private final AtomicInteger classFiles;
+		private final Path path;
+
+		ScanTask(Path baseDir, String basePackageName, ClassFilter classFilter, ClassLoader classLoader,
+				AtomicInteger classFiles, Path path) {
+			this.baseDir = baseDir;
+			this.basePackageName = basePackageName;
+			this.classFilter = classFilter;
+			this.classLoader = classLoader;
+			this.classFiles = classFiles;
+			this.path = path;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			List<Class<?>> classes = new ArrayList<>();
+			if (!Files.isDirectory(this.path, NOFOLLOW_LINKS)) {
+				this.classFiles.incrementAndGet();
+				processClassFileSafely(this.baseDir, this.basePackageName, this.classFilter, this.classLoader,
+					this.path, classes::add);
+				return classes;
+			}
+			List<ScanTask> subtasks = new ArrayList<>();
+			for (Path entry : listDirectory()) {
+				if (Files.isDirectory(entry, NOFOLLOW_LINKS) || ClassFileVisitor.isClassFileToScan(entry)) {
+					subtasks.add(new ScanTask(this.baseDir, this.basePackageName, this.classFilter, this.classLoader,
+						this.classFiles, entry));
+				}
+			}
+			invokeAll(subtasks);
+			for (ScanTask subtask : subtasks) {
+				classes.addAll(subtask.join());
+			}
+			return classes;
+		}
+
+		private List<Path> listDirectory() {
+			List<Path> entries = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.path)) {
+				stream.forEach(entries::add);
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "I/O error visiting directory: " + this.path);
+			}
+			entries.sort(FILE_NAME_ORDER);
+			return entries;
+		}
+
+	}
+
 }
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.singletonList;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Type of event that is emitted to the Java Flight Recorder (JFR).
+ *
+ * <p>Since the {@code jdk.jfr} API is not available on Java 8, event types
+ * are registered reflectively via {@code jdk.jfr.EventFactory}. As long as
+ * JFR is not available or has not been initialized &mdash; for example, via
+ * {@code -XX:StartFlightRecording} or by starting a recording later on
+ * &mdash; {@link #begin()} returns an event that does nothing. An event type
+ * is registered when the first event is begun after JFR has been
+ * initialized.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.6
+ */
+@API(status = INTERNAL, since = "1.6")
+public final class FlightRecorderEventType {
+
+	private static final Logger logger = LoggerFactory.getLogger(FlightRecorderEventType.class);
+
+	/**
+	 * Create a new builder for an event type with the supplied name.
+	 *
+	 * @param name the fully qualified name of the event type; never
+	 * {@code null} or blank
+	 */
+	public static Builder builder(String name) {
+		return new Builder(Preconditions.notBlank(name, "name must not be null or blank"));
+	}
+
+	private final String name;
+	private final String label;
+	private final String[] category;
+	private final Map<String, Field> fields;
+
+	private Object eventFactory;
+	private Object eventType;
+	private volatile boolean registered;
+
+	private FlightRecorderEventType(Builder builder) {
+		this.name = builder.name;
+		this.label = builder.label;
+		this.category = builder.category;
+		this.fields = builder.fields;
+	}
+
+	/**
+	 * Begin a new event of this type.
+	 *
+	 * @return the new event; never {@code null} but possibly
+	 * {@linkplain FlightRecorderEvent#isEnabled() disabled}
+	 */
+	public FlightRecorderEvent begin() {
+		if (!this.registered) {
+			if (Jfr.INSTANCE == null || !Jfr.INSTANCE.isInitialized()) {
+				return FlightRecorderEvent.DISABLED;
+			}
+			register();
+		}
+		if (this.eventFactory == null) {
+			return FlightRecorderEvent.DISABLED;
+		}
+		Jfr jfr = Jfr.INSTANCE;
+		if (!(Boolean) jfr.invoke(jfr.eventTypeIsEnabled, this.eventType)) {
+			return FlightRecorderEvent.DISABLED;
+		}
+		Object event = jfr.invoke(jfr.newEvent, this.eventFactory);
+		if (event == null) {
+			return FlightRecorderEvent.DISABLED;
+		}
+		jfr.invoke(jfr.begin, event);
+		return new FlightRecorderEvent(this, event);
+	}
+
+	private synchronized void register() {
+		if (!this.registered) {
+			Object factory = Jfr.INSTANCE.createEventFactory(this);
+			if (factory != null) {
+				this.eventType = Jfr.INSTANCE.invoke(Jfr.INSTANCE.getEventType, factory);
+				this.eventFactory = this.eventType == null ? null : factory;
+			}
+			// Writing the volatile field publishes the event factory and type
+			this.registered = true;
+		}
+	}
+
+	/**
+	 * Event of a {@link FlightRecorderEventType} that has been started but not
+	 * yet committed.
+	 */
+	public static final class FlightRecorderEvent {
+
+		private static final FlightRecorderEvent DISABLED = new FlightRecorderEvent(null, null);
+
+		private final FlightRecorderEventType type;
+		private final Object event;
+
+		private FlightRecorderEvent(FlightRecorderEventType type, Object event) {
+			this.type = type;
+			this.event = event;
+		}
+
+		/**
+		 * Determine if this event will be written to the recording once it
+		 * has been {@linkplain #commit() committed}.
+		 *
+		 * <p>Callers may use this method to avoid computing expensive field
+		 * values for disabled events.
+		 */
+		public boolean isEnabled() {
+			return this.event != null;
+		}
+
+		/**
+		 * Set the value of the field with the supplied name.
+		 *
+		 * @return this event for method chaining
+		 */
+		public FlightRecorderEvent set(String fieldName, Object value) {
+			if (this.event != null) {
+				Field field = this.type.fields.get(fieldName);
+				Preconditions.notNull(field, () -> "Unknown field: " + fieldName);
+				Jfr.INSTANCE.invoke(Jfr.INSTANCE.set, this.event, field.index, value);
+			}
+			return this;
+		}
+
+		/**
+		 * End this event and write it to the recording.
+		 */
+		public void commit() {
+			if (this.event != null) {
+				Jfr.INSTANCE.invoke(Jfr.INSTANCE.commit, this.event);
+			}
+		}
+
+	}
+
+	/**
+	 * Builder for {@link FlightRecorderEventType FlightRecorderEventTypes}.
+	 */
+	public static final class Builder {
+
+		private final String name;
+		private final Map<String, Field> fields = new LinkedHashMap<>();
+		private String label;
+		private String[] category = new String[] { "JUnit" };
+
+		private Builder(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Set the human-readable label of the event type.
+		 */
+		public Builder label(String label) {
+			this.label = label;
+			return this;
+		}
+
+		/**
+		 * Set the category of the event type as a hierarchy of names.
+		 */
+		public Builder category(String... category) {
+			this.category = category;
+			return this;
+		}
+
+		/**
+		 * Add a field of the supplied type, which must be a primitive type or
+		 * {@link String}.
+		 */
+		public Builder field(String name, String label, Class<?> type) {
+			return addField(name, label, type, false);
+		}
+
+		/**
+		 * Add a {@code long} field that holds a duration in nanoseconds.
+		 */
+		public Builder timespanField(String name, String label) {
+			return addField(name, label, long.class, true);
+		}
+
+		private Builder addField(String name, String label, Class<?> type, boolean timespan) {
+			Preconditions.condition(!this.fields.containsKey(name), () -> "Duplicate field: " + name);
+			this.fields.put(name, new Field(this.fields.size(), name, label, type, timespan));
+			return this;
+		}
+
+		public FlightRecorderEventType build() {
+			return new FlightRecorderEventType(this);
+		}
+
+	}
+
+	private static class Field {
+
+		private final int index;
+		private final String name;
+		private final String label;
+		private final Class<?> type;
+		private final boolean timespan;
+
+		Field(int index, String name, String label, Class<?> type, boolean timespan) {
+			this.index = index;
+			this.name = name;
+			this.label = label;
+			this.type = type;
+			this.timespan = timespan;
+		}
+
+	}
+
+	/**
+	 * Reflective access to the {@code jdk.jfr} API.
+	 */
+	private static class Jfr {
+
+		static final Jfr INSTANCE = load();
+
+		private static Jfr load() {
+			try {
+				return new Jfr();
+			}
+			catch (Throwable throwable) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				logger.debug(throwable, () -> "Java Flight Recorder is not available");
+				return null;
+			}
+		}
+
+		final Method isInitialized;
+		final Constructor<?> annotationElement;
+		final Constructor<?> valueDescriptor;
+		final Class<?> nameAnnotation;
+		final Class<?> labelAnnotation;
+		final Class<?> categoryAnnotation;
+		final Class<?> stackTraceAnnotation;
+		final Class<?> timespanAnnotation;
+		final Method createEventFactory;
+		final Method getEventType;
+		final Method eventTypeIsEnabled;
+		final Method newEvent;
+		final Method begin;
+		final Method set;
+		final Method commit;
+
+		private Jfr() throws Exception {
+			Class<?> flightRecorderClass = Class.forName("jdk.jfr.FlightRecorder");
+			Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+			Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+			Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+			Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType");
+			Class<?> eventClass = Class.forName("jdk.jfr.Event");
+			this.isInitialized = flightRecorderClass.getMethod("isInitialized");
+			this.annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+			this.valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+			this.nameAnnotation = Class.forName("jdk.jfr.Name");
+			this.labelAnnotation = Class.forName("jdk.jfr.Label");
+			this.categoryAnnotation = Class.forName("jdk.jfr.Category");
+			this.stackTraceAnnotation = Class.forName("jdk.jfr.StackTrace");
+			this.timespanAnnotation = Class.forName("jdk.jfr.Timespan");
+			this.createEventFactory = eventFactoryClass.getMethod("create", List.class, List.class);
+			this.getEventType = eventFactoryClass.getMethod("getEventType");
+			this.eventTypeIsEnabled = eventTypeClass.getMethod("isEnabled");
+			this.newEvent = eventFactoryClass.getMethod("newEvent");
+			this.begin = eventClass.getMethod("begin");
+			this.set = eventClass.getMethod("set", int.class, Object.class);
+			this.commit = eventClass.getMethod("commit");
+		}
+
+		boolean isInitialized() {
+			return (Boolean) invoke(this.isInitialized, null);
+		}
+
+		Object createEventFactory(FlightRecorderEventType type) {
+			try {
+				List<Object> annotations = new ArrayList<>();
+				annotations.add(this.annotationElement.newInstance(this.nameAnnotation, type.name));
+				if (type.label != null) {
+					annotations.add(this.annotationElement.newInstance(this.labelAnnotation, type.label));
+				}
+				annotations.add(this.annotationElement.newInstance(this.categoryAnnotation, type.category));
+				annotations.add(this.annotationElement.newInstance(this.stackTraceAnnotation, false));
+				List<Object> valueDescriptors = new ArrayList<>();
+				for (Field field : type.fields.values()) {
+					List<Object> fieldAnnotations = new ArrayList<>(
+						singletonList(this.annotationElement.newInstance(this.labelAnnotation, field.label)));
+					if (field.timespan) {
+						fieldAnnotations.add(this.annotationElement.newInstance(this.timespanAnnotation, "NANOSECONDS"));
+					}
+					valueDescriptors.add(this.valueDescriptor.newInstance(field.type, field.name, fieldAnnotations));
+				}
+				return this.createEventFactory.invoke(null, annotations, valueDescriptors);
+			}
+			catch (Throwable throwable) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				logger.debug(throwable, () -> "Failed to register Java Flight Recorder event type " + type.name);
+				return null;
+			}
+		}
+
+		Object invoke(Method method, Object target, Object... arguments) {
+			try {
+				return method.invoke(target, arguments);
+			}
+			catch (Throwable throwable) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				logger.debug(throwable, () -> "Failed to invoke " + method);
+				return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+			}
+		}
+
+	}
+
+}
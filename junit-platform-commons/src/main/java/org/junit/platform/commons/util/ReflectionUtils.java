@@ -45,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -117,7 +119,31 @@ public final class ReflectionUtils {
 	private static final Class<?>[] EMPTY_CLASS_ARRAY = new Class<?>[0];
 
 	private static final ClasspathScanner classpathScanner = new ClasspathScanner(
-		ClassLoaderUtils::getDefaultClassLoader, ReflectionUtils::tryToLoadClass);
+		ClassLoaderUtils::getDefaultClassLoader, ReflectionUtils::tryToLoadClass,
+		ClasspathScanner.getConfiguredParallelism());
+
+	/**
+	 * Internal caches of the sorted members of a class and of the members
+	 * found in its type hierarchy.
+	 *
+	 * <p>The caches are stored in the classes themselves via {@link ClassValue},
+	 * so they do not prevent the classes or their class loaders from being
+	 * garbage collected.
+	 *
+	 * @since 1.6
+	 */
+	private static final ClassValue<List<Field>> fieldsCache = //
+		perClass(clazz -> toSortedList(clazz.getFields()));
+	private static final ClassValue<List<Field>> declaredFieldsCache = //
+		perClass(clazz -> toSortedList(clazz.getDeclaredFields()));
+	private static final ClassValue<List<Method>> methodsCache = //
+		perClass(clazz -> toSortedList(clazz.getMethods()));
+	private static final TraversalCache<Method> declaredMethodsCache = //
+		new TraversalCache<>(ReflectionUtils::computeDeclaredMethods);
+	private static final TraversalCache<Field> fieldsInHierarchyCache = //
+		new TraversalCache<>(ReflectionUtils::computeAllFieldsInHierarchy);
+	private static final TraversalCache<Method> methodsInHierarchyCache = //
+		new TraversalCache<>(ReflectionUtils::computeAllMethodsInHierarchy);
 
 	/**
 	 * Internal cache of common class names mapped to their types.
@@ -1090,6 +1116,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return fieldsInHierarchyCache.get(clazz, traversalMode);
+	}
+
+	private static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Field> localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1112,7 +1142,7 @@ public final class ReflectionUtils {
 			fields.addAll(interfaceFields);
 			fields.addAll(superclassFields);
 		}
-		return fields;
+		return Collections.unmodifiableList(fields);
 	}
 
 	/**
@@ -1295,6 +1325,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return methodsInHierarchyCache.get(clazz, traversalMode);
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Method> localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -1317,55 +1351,59 @@ public final class ReflectionUtils {
 			methods.addAll(interfaceMethods);
 			methods.addAll(superclassMethods);
 		}
-		return methods;
+		return Collections.unmodifiableList(methods);
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getFields()} that sorts the fields
-	 * and converts them to a mutable list.
+	 * and caches them in an unmodifiable list.
 	 */
 	private static List<Field> getFields(Class<?> clazz) {
-		return toSortedMutableList(clazz.getFields());
+		return fieldsCache.get(clazz);
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getDeclaredFields()} that sorts the
-	 * fields and converts them to a mutable list.
+	 * fields and caches them in an unmodifiable list.
 	 */
 	private static List<Field> getDeclaredFields(Class<?> clazz) {
-		return toSortedMutableList(clazz.getDeclaredFields());
+		return declaredFieldsCache.get(clazz);
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getMethods()} that sorts the methods
-	 * and converts them to a mutable list.
+	 * and caches them in an unmodifiable list.
 	 */
 	private static List<Method> getMethods(Class<?> clazz) {
-		return toSortedMutableList(clazz.getMethods());
+		return methodsCache.get(clazz);
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getDeclaredMethods()} that sorts the
-	 * methods and converts them to a mutable list.
+	 * methods and caches them in an unmodifiable list.
 	 *
 	 * <p>In addition, the list returned by this method includes interface
 	 * default methods which are either prepended or appended to the list of
 	 * declared methods depending on the supplied traversal mode.
 	 */
 	private static List<Method> getDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+		return declaredMethodsCache.get(clazz, traversalMode);
+	}
+
+	private static List<Method> computeDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// Note: getDefaultMethods() already sorts the methods,
 		List<Method> defaultMethods = getDefaultMethods(clazz);
-		List<Method> declaredMethods = toSortedMutableList(clazz.getDeclaredMethods());
+		List<Method> declaredMethods = new ArrayList<>(toSortedList(clazz.getDeclaredMethods()));
 
 		// Take the traversal mode into account in order to retain the inherited
 		// nature of interface default methods.
 		if (traversalMode == BOTTOM_UP) {
 			declaredMethods.addAll(defaultMethods);
-			return declaredMethods;
+			return Collections.unmodifiableList(declaredMethods);
 		}
 		else {
 			defaultMethods.addAll(declaredMethods);
-			return defaultMethods;
+			return Collections.unmodifiableList(defaultMethods);
 		}
 	}
 
@@ -1381,7 +1419,7 @@ public final class ReflectionUtils {
 		// @formatter:off
 		// Visible default methods are interface default methods that have not
 		// been overridden.
-		List<Method> visibleDefaultMethods = Arrays.stream(clazz.getMethods())
+		List<Method> visibleDefaultMethods = getMethods(clazz).stream()
 				.filter(Method::isDefault)
 				.collect(toCollection(ArrayList::new));
 		if (visibleDefaultMethods.isEmpty()) {
@@ -1395,22 +1433,23 @@ public final class ReflectionUtils {
 		// @formatter:on
 	}
 
-	private static List<Field> toSortedMutableList(Field[] fields) {
-		// @formatter:off
-		return Arrays.stream(fields)
-				.sorted(ReflectionUtils::defaultFieldSorter)
-				// Use toCollection() instead of toList() to ensure list is mutable.
-				.collect(toCollection(ArrayList::new));
-		// @formatter:on
+	private static List<Field> toSortedList(Field[] fields) {
+		Arrays.sort(fields, ReflectionUtils::defaultFieldSorter);
+		return Collections.unmodifiableList(Arrays.asList(fields));
 	}
 
-	private static List<Method> toSortedMutableList(Method[] methods) {
-		// @formatter:off
-		return Arrays.stream(methods)
-				.sorted(ReflectionUtils::defaultMethodSorter)
-				// Use toCollection() instead of toList() to ensure list is mutable.
-				.collect(toCollection(ArrayList::new));
-		// @formatter:on
+	private static List<Method> toSortedList(Method[] methods) {
+		Arrays.sort(methods, ReflectionUtils::defaultMethodSorter);
+		return Collections.unmodifiableList(Arrays.asList(methods));
+	}
+
+	private static <T> ClassValue<T> perClass(Function<Class<?>, T> function) {
+		return new ClassValue<T>() {
+			@Override
+			protected T computeValue(Class<?> type) {
+				return function.apply(type);
+			}
+		};
 	}
 
 	/**
@@ -1606,4 +1645,26 @@ public final class ReflectionUtils {
 		return t;
 	}
 
+	/**
+	 * Per-class cache of the results of a function that depends on a
+	 * {@link HierarchyTraversalMode}.
+	 *
+	 * @since 1.6
+	 */
+	private static final class TraversalCache<T> {
+
+		private final ClassValue<List<T>> topDown;
+		private final ClassValue<List<T>> bottomUp;
+
+		TraversalCache(BiFunction<Class<?>, HierarchyTraversalMode, List<T>> function) {
+			this.topDown = perClass(clazz -> function.apply(clazz, TOP_DOWN));
+			this.bottomUp = perClass(clazz -> function.apply(clazz, BOTTOM_UP));
+		}
+
+		List<T> get(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+			return (traversalMode == TOP_DOWN ? this.topDown : this.bottomUp).get(clazz);
+		}
+
+	}
+
 }
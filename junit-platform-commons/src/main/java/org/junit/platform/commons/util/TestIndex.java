@@ -0,0 +1,284 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.TERMINATE;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Collections.unmodifiableSortedSet;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Index of the test classes in a classpath root that is generated at compile
+ * time and stored in the {@value #RESOURCE_NAME} resource.
+ *
+ * <p>The index is a UTF-8 encoded text file. Each line consists of a keyword
+ * and values separated by spaces:
+ *
+ * <ul>
+ * <li>{@code type <binary name>} for every top-level type that was compiled
+ * while generating the index</li>
+ * <li>{@code test <binary name> [<method name> ...]} for every class that is
+ * or contains a potential test class, followed by the names of its testable
+ * methods</li>
+ * </ul>
+ *
+ * <p>Empty lines and lines starting with {@code #} are ignored.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.6
+ */
+@API(status = INTERNAL, since = "1.6")
+public final class TestIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestIndex.class);
+
+	/**
+	 * Name of the resource that contains the index in a classpath root:
+	 * {@value}
+	 */
+	public static final String RESOURCE_NAME = "META-INF/junit-platform/test-index";
+
+	private static final String TYPE_KEYWORD = "type";
+	private static final String TEST_KEYWORD = "test";
+	private static final char NESTED_CLASS_SEPARATOR = '$';
+
+	/**
+	 * Read an index from the supplied reader.
+	 */
+	public static TestIndex read(Reader reader) throws IOException {
+		TestIndex index = new TestIndex();
+		BufferedReader bufferedReader = new BufferedReader(reader);
+		String line;
+		while ((line = bufferedReader.readLine()) != null) {
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			String[] values = line.split(" +");
+			if (values.length >= 2 && TYPE_KEYWORD.equals(values[0])) {
+				index.addType(values[1]);
+			}
+			else if (values.length >= 2 && TEST_KEYWORD.equals(values[0])) {
+				List<String> methodNames = new ArrayList<>();
+				for (int i = 2; i < values.length; i++) {
+					methodNames.add(values[i]);
+				}
+				index.addTestClass(values[1], methodNames);
+			}
+			else {
+				logger.debug(() -> "Ignoring invalid test index line: " + values[0]);
+			}
+		}
+		return index;
+	}
+
+	private final SortedSet<String> typeNames = new TreeSet<>();
+	private final Map<String, SortedSet<String>> testMethodNames = new TreeMap<>();
+
+	/**
+	 * Add a top-level type that was compiled while generating this index.
+	 */
+	public void addType(String binaryName) {
+		this.typeNames.add(binaryName);
+	}
+
+	/**
+	 * Add a potential test class with the supplied testable methods.
+	 */
+	public void addTestClass(String binaryName, Collection<String> methodNames) {
+		this.testMethodNames.computeIfAbsent(binaryName, key -> new TreeSet<>()).addAll(methodNames);
+	}
+
+	/**
+	 * Remove the test classes declared in the supplied top-level type,
+	 * including nested classes.
+	 */
+	public void removeTestClasses(String topLevelBinaryName) {
+		this.testMethodNames.keySet().removeIf(binaryName -> binaryName.equals(topLevelBinaryName)
+				|| binaryName.startsWith(topLevelBinaryName + NESTED_CLASS_SEPARATOR));
+	}
+
+	public Set<String> getTypeNames() {
+		return unmodifiableSet(this.typeNames);
+	}
+
+	public Set<String> getTestClassNames() {
+		return unmodifiableSet(this.testMethodNames.keySet());
+	}
+
+	public SortedSet<String> getTestMethodNames(String testClassName) {
+		SortedSet<String> methodNames = this.testMethodNames.get(testClassName);
+		return methodNames == null ? new TreeSet<>() : unmodifiableSortedSet(methodNames);
+	}
+
+	/**
+	 * Write this index to the supplied writer.
+	 */
+	public void write(Writer writer) throws IOException {
+		writer.write("# JUnit Platform test index\n");
+		for (String typeName : this.typeNames) {
+			writer.write(TYPE_KEYWORD + " " + typeName + "\n");
+		}
+		for (Map.Entry<String, SortedSet<String>> entry : this.testMethodNames.entrySet()) {
+			writer.write(TEST_KEYWORD + " " + entry.getKey());
+			for (String methodName : entry.getValue()) {
+				writer.write(" " + methodName);
+			}
+			writer.write("\n");
+		}
+	}
+
+	/**
+	 * Find the class files of all indexed test classes in the supplied base
+	 * directory, which corresponds to the supplied package.
+	 *
+	 * <p>Indexes in directories are only used if every class file in the
+	 * base directory belongs to an indexed type; indexes in JAR files are
+	 * always used since they are packaged together with their class files.
+	 *
+	 * @return the class files of the indexed test classes in the base
+	 * directory or empty if there is no usable index
+	 */
+	static Optional<List<Path>> findTestClassFiles(Path baseDir, String basePackageName) {
+		Path root = baseDir;
+		if (!basePackageName.isEmpty()) {
+			for (int i = 0; i < basePackageName.split("\\.").length && root != null; i++) {
+				root = root.getParent();
+			}
+		}
+		if (root == null) {
+			return Optional.empty();
+		}
+		Path indexFile = root.resolve(RESOURCE_NAME);
+		if (!Files.isRegularFile(indexFile)) {
+			return Optional.empty();
+		}
+		TestIndex index;
+		try (Reader reader = Files.newBufferedReader(indexFile, UTF_8)) {
+			index = read(reader);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read test index " + indexFile);
+			return Optional.empty();
+		}
+		if (baseDir.getFileSystem() == FileSystems.getDefault() && !index.coversAllClassFiles(root, baseDir)) {
+			logger.debug(() -> "Ignoring outdated test index " + indexFile);
+			return Optional.empty();
+		}
+		String prefix = basePackageName.isEmpty() ? "" : basePackageName + ".";
+		List<Path> classFiles = new ArrayList<>();
+		for (String testClassName : index.getTestClassNames()) {
+			if (testClassName.startsWith(prefix)) {
+				Path classFile = root.resolve(testClassName.replace('.', '/') + ClassFileVisitor.CLASS_FILE_SUFFIX);
+				if (Files.isRegularFile(classFile)) {
+					classFiles.add(classFile);
+				}
+			}
+		}
+		return Optional.of(classFiles);
+	}
+
+	/**
+	 * Find the class file entries of all indexed test classes in the supplied
+	 * JAR file whose names start with the supplied prefix.
+	 *
+	 * @return the entries of the indexed test classes or empty if the JAR
+	 * file does not contain an index
+	 */
+	static Optional<List<ZipEntry>> findTestClassEntries(ZipFile jarFile, String entryNamePrefix) {
+		ZipEntry indexEntry = jarFile.getEntry(RESOURCE_NAME);
+		if (indexEntry == null) {
+			return Optional.empty();
+		}
+		TestIndex index;
+		try (Reader reader = new InputStreamReader(jarFile.getInputStream(indexEntry), UTF_8)) {
+			index = read(reader);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read test index " + jarFile.getName() + "!/" + RESOURCE_NAME);
+			return Optional.empty();
+		}
+		List<ZipEntry> entries = new ArrayList<>();
+		for (String testClassName : index.getTestClassNames()) {
+			String entryName = testClassName.replace('.', '/') + ClassFileVisitor.CLASS_FILE_SUFFIX;
+			ZipEntry entry = entryName.startsWith(entryNamePrefix) ? jarFile.getEntry(entryName) : null;
+			if (entry != null) {
+				entries.add(entry);
+			}
+		}
+		return Optional.of(entries);
+	}
+
+	private boolean coversAllClassFiles(Path root, Path baseDir) {
+		boolean[] covered = { true };
+		try {
+			Files.walkFileTree(baseDir, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					if (ClassFileVisitor.isClassFileToScan(file)
+							&& !typeNames.contains(topLevelBinaryName(root, file))) {
+						covered[0] = false;
+						return TERMINATE;
+					}
+					return CONTINUE;
+				}
+			});
+		}
+		catch (IOException ex) {
+			return false;
+		}
+		return covered[0];
+	}
+
+	private static String topLevelBinaryName(Path root, Path classFile) {
+		String relativePath = root.relativize(classFile).toString();
+		String binaryName = relativePath.substring(0,
+			relativePath.length() - ClassFileVisitor.CLASS_FILE_SUFFIX.length()).replace(
+				root.getFileSystem().getSeparator(), ".");
+		int nestedClassSeparatorIndex = binaryName.indexOf(NESTED_CLASS_SEPARATOR, binaryName.lastIndexOf('.') + 1);
+		return nestedClassSeparatorIndex < 0 ? binaryName : binaryName.substring(0, nestedClassSeparatorIndex);
+	}
+
+}
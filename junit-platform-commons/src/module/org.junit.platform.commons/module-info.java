@@ -23,6 +23,7 @@ module org.junit.platform.commons {
 			org.junit.jupiter.params,
 			org.junit.platform.console,
 			org.junit.platform.engine,
+			org.junit.platform.index,
 			org.junit.platform.launcher,
 			org.junit.platform.reporting,
 			org.junit.platform.runner,
@@ -37,6 +38,7 @@ module org.junit.platform.commons {
 			org.junit.jupiter.params,
 			org.junit.platform.console,
 			org.junit.platform.engine,
+			org.junit.platform.index,
 			org.junit.platform.launcher,
 			org.junit.platform.reporting,
 			org.junit.platform.runner,
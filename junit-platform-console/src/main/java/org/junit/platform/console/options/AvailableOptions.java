@@ -82,6 +82,14 @@ class AvailableOptions {
 	@Option(names = "--fail-if-no-tests", description = "Fail and return exit status code 2 if no tests are found.")
 	private boolean failIfNoTests; // no single-dash equivalent: was introduced in 5.3-M1
 
+	@Option(names = "--fork-count", paramLabel = "COUNT", description = "EXPERIMENTAL: Execute the discovered top-level "
+			+ "containers in the specified number of forked JVMs instead of the current one.")
+	private int forkCount; // no single-dash equivalent: was introduced in 1.6
+
+	@Option(names = "--fork-jvm-arg", paramLabel = "ARG", arity = "1", description = "EXPERIMENTAL: Provide an "
+			+ "argument for the forked JVMs, for example, --fork-jvm-arg=-Xmx1g. This option can be repeated.")
+	private List<String> forkJvmArguments = new ArrayList<>(); // no single-dash equivalent: was introduced in 1.6
+
 	// --- Reports ---------------------------------------------------------
 
 	@Option(names = "--reports-dir", paramLabel = "DIR", description = "Enable report output into a specified local directory (will be created if it does not exist).")
@@ -235,6 +243,18 @@ class AvailableOptions {
 	@Option(names = { "--E", "-exclude-engine" }, arity = "1", hidden = true)
 	private List<String> excludedEngines2 = new ArrayList<>();
 
+	@Option(names = "--shard-index", paramLabel = "INDEX", description = "Provide the zero-based index of the shard of "
+			+ "tests to execute. Must be used together with --shard-count.")
+	private Integer shardIndex; // no single-dash equivalent: was introduced in 1.6
+
+	@Option(names = "--shard-count", paramLabel = "COUNT", description = "Provide the total number of shards the "
+			+ "discovered tests are split into. Must be used together with --shard-index.")
+	private Integer shardCount; // no single-dash equivalent: was introduced in 1.6
+
+	@Option(names = "--shard-durations-file", paramLabel = "FILE", description = "Provide a file containing "
+			+ "recorded durations to balance the expected durations of all shards.")
+	private Path shardDurationsFile; // no single-dash equivalent: was introduced in 1.6
+
 	// --- Configuration Parameters ----------------------------------------
 
 	// Implementation note: the @Option annotation is on a setter method to allow validation.
@@ -272,6 +292,14 @@ class AvailableOptions {
 		}
 	}
 
+	private int validateForkCount(int forkCount) {
+		if (forkCount < 0) {
+			throw new ParameterException(spec.commandLine(),
+				String.format("Invalid fork count '%d': must not be negative.", forkCount));
+		}
+		return forkCount;
+	}
+
 	@Option(names = { "-config" }, arity = "1", hidden = true)
 	public void setConfigurationParameters2(Map<String, String> keyValuePairs) {
 		setConfigurationParameters(keyValuePairs);
@@ -297,6 +325,8 @@ class AvailableOptions {
 		result.setTheme(choose(this.theme, this.theme2, CommandLineOptions.DEFAULT_THEME));
 		result.setAdditionalClasspathEntries(merge(this.additionalClasspathEntries, this.additionalClasspathEntries2));
 		result.setFailIfNoTests(this.failIfNoTests);
+		result.setForkCount(validateForkCount(this.forkCount));
+		result.setForkJvmArguments(this.forkJvmArguments);
 
 		// Reports
 		result.setReportsDir(choose(this.reportsDir, this.reportsDir2, null));
@@ -325,6 +355,9 @@ class AvailableOptions {
 		result.setExcludedTagExpressions(merge(this.excludedTags, this.excludedTags2));
 		result.setIncludedEngines(merge(this.includedEngines, this.includedEngines2));
 		result.setExcludedEngines(merge(this.excludedEngines, this.excludedEngines2));
+		result.setShardIndex(this.shardIndex);
+		result.setShardCount(this.shardCount);
+		result.setShardDurationsFile(this.shardDurationsFile);
 
 		// Configuration Parameters
 		result.setConfigurationParameters(this.configurationParameters);
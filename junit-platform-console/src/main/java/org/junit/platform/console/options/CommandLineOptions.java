@@ -44,6 +44,8 @@ public class CommandLineOptions {
 	private Theme theme = DEFAULT_THEME;
 	private List<Path> additionalClasspathEntries = emptyList();
 	private boolean failIfNoTests;
+	private int forkCount;
+	private List<String> forkJvmArguments = emptyList();
 
 	private boolean scanClasspath;
 	private List<Path> selectedClasspathEntries = emptyList();
@@ -67,6 +69,9 @@ public class CommandLineOptions {
 	private List<String> excludedEngines = emptyList();
 	private List<String> includedTagExpressions = emptyList();
 	private List<String> excludedTagExpressions = emptyList();
+	private Integer shardIndex;
+	private Integer shardCount;
+	private Path shardDurationsFile;
 
 	private Path reportsDir;
 
@@ -146,6 +151,22 @@ public class CommandLineOptions {
 		this.failIfNoTests = failIfNoTests;
 	}
 
+	public int getForkCount() {
+		return this.forkCount;
+	}
+
+	public void setForkCount(int forkCount) {
+		this.forkCount = forkCount;
+	}
+
+	public List<String> getForkJvmArguments() {
+		return this.forkJvmArguments;
+	}
+
+	public void setForkJvmArguments(List<String> forkJvmArguments) {
+		this.forkJvmArguments = forkJvmArguments;
+	}
+
 	public List<Path> getSelectedClasspathEntries() {
 		return this.selectedClasspathEntries;
 	}
@@ -287,6 +308,30 @@ public class CommandLineOptions {
 		this.excludedTagExpressions = excludedTags;
 	}
 
+	public Optional<Integer> getShardIndex() {
+		return Optional.ofNullable(this.shardIndex);
+	}
+
+	public void setShardIndex(Integer shardIndex) {
+		this.shardIndex = shardIndex;
+	}
+
+	public Optional<Integer> getShardCount() {
+		return Optional.ofNullable(this.shardCount);
+	}
+
+	public void setShardCount(Integer shardCount) {
+		this.shardCount = shardCount;
+	}
+
+	public Optional<Path> getShardDurationsFile() {
+		return Optional.ofNullable(this.shardDurationsFile);
+	}
+
+	public void setShardDurationsFile(Path shardDurationsFile) {
+		this.shardDurationsFile = shardDurationsFile;
+	}
+
 	public Optional<Path> getReportsDir() {
 		return Optional.ofNullable(this.reportsDir);
 	}
@@ -16,6 +16,7 @@ import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
@@ -60,10 +61,16 @@ public class ConsoleTestExecutor {
 
 	private TestExecutionSummary executeTests(PrintWriter out) {
 		Launcher launcher = launcherSupplier.get();
-		SummaryGeneratingListener summaryListener = registerListeners(out, launcher);
+		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
+		TestExecutionListener[] listeners = createListeners(out, summaryListener);
 
 		LauncherDiscoveryRequest discoveryRequest = new DiscoveryRequestCreator().toDiscoveryRequest(options);
-		launcher.execute(discoveryRequest);
+		if (options.getForkCount() > 0) {
+			new ForkedTestExecutor(options, launcher).execute(discoveryRequest, listeners);
+		}
+		else {
+			launcher.execute(discoveryRequest, listeners);
+		}
 
 		TestExecutionSummary summary = summaryListener.getSummary();
 		if (summary.getTotalFailureCount() > 0 || options.getDetails() != Details.NONE) {
@@ -93,15 +100,15 @@ public class ConsoleTestExecutor {
 		}
 	}
 
-	private SummaryGeneratingListener registerListeners(PrintWriter out, Launcher launcher) {
+	private TestExecutionListener[] createListeners(PrintWriter out, SummaryGeneratingListener summaryListener) {
+		List<TestExecutionListener> listeners = new ArrayList<>();
 		// always register summary generating listener
-		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
-		launcher.registerTestExecutionListeners(summaryListener);
+		listeners.add(summaryListener);
 		// optionally, register test plan execution details printing listener
-		createDetailsPrintingListener(out).ifPresent(launcher::registerTestExecutionListeners);
+		createDetailsPrintingListener(out).ifPresent(listeners::add);
 		// optionally, register XML reports writing listener
-		createXmlWritingListener(out).ifPresent(launcher::registerTestExecutionListeners);
-		return summaryListener;
+		createXmlWritingListener(out).ifPresent(listeners::add);
+		return listeners.toArray(new TestExecutionListener[0]);
 	}
 
 	private Optional<TestExecutionListener> createDetailsPrintingListener(PrintWriter out) {
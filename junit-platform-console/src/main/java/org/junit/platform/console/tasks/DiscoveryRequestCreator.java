@@ -18,6 +18,7 @@ import static org.junit.platform.engine.discovery.PackageNameFilter.excludePacka
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.ShardFilter.forShard;
 import static org.junit.platform.launcher.TagFilter.excludeTags;
 import static org.junit.platform.launcher.TagFilter.includeTags;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -94,7 +95,12 @@ class DiscoveryRequestCreator {
 		return selectors;
 	}
 
-	private void addFilters(LauncherDiscoveryRequestBuilder requestBuilder, CommandLineOptions options) {
+	/**
+	 * Add the filters of the supplied options to the supplied request builder;
+	 * also used by {@link ForkedTestWorker} to apply the same filters as the
+	 * {@code ConsoleLauncher}.
+	 */
+	void addFilters(LauncherDiscoveryRequestBuilder requestBuilder, CommandLineOptions options) {
 		requestBuilder.filters(includeClassNamePatterns(options.getIncludedClassNamePatterns().toArray(new String[0])));
 
 		if (!options.getExcludedClassNamePatterns().isEmpty()) {
@@ -125,6 +131,16 @@ class DiscoveryRequestCreator {
 		if (!options.getExcludedEngines().isEmpty()) {
 			requestBuilder.filters(excludeEngines(options.getExcludedEngines()));
 		}
+
+		if (options.getShardIndex().isPresent() || options.getShardCount().isPresent()) {
+			Preconditions.condition(options.getShardIndex().isPresent() && options.getShardCount().isPresent(),
+				"--shard-index and --shard-count must be used together");
+			int shardIndex = options.getShardIndex().get();
+			int shardCount = options.getShardCount().get();
+			requestBuilder.filters(options.getShardDurationsFile() //
+					.map(file -> forShard(shardIndex, shardCount, file)) //
+					.orElseGet(() -> forShard(shardIndex, shardCount)));
+		}
 	}
 
 }
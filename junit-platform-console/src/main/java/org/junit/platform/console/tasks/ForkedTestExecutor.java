@@ -0,0 +1,522 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.junit.platform.console.tasks.ForkedTestWorker.DONE;
+import static org.junit.platform.console.tasks.ForkedTestWorker.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.console.tasks.ForkedTestWorker.EXECUTE;
+import static org.junit.platform.console.tasks.ForkedTestWorker.EXIT;
+import static org.junit.platform.console.tasks.ForkedTestWorker.FINISHED;
+import static org.junit.platform.console.tasks.ForkedTestWorker.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.console.tasks.ForkedTestWorker.SKIPPED;
+import static org.junit.platform.console.tasks.ForkedTestWorker.STARTED;
+import static org.junit.platform.console.tasks.ForkedTestWorker.TOKEN_ENVIRONMENT_VARIABLE;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.console.tasks.ForkedTestWorker.FilteringObjectInputStream;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Executes the tests of a {@link LauncherDiscoveryRequest} in a number of
+ * forked JVMs running {@link ForkedTestWorker}.
+ *
+ * <p>The tests are discovered in the current JVM. The top-level containers of
+ * all engines, typically test classes, are then distributed dynamically over
+ * the forked JVMs via a local socket: each JVM requests the next container as
+ * soon as it has finished the previous one. The forked JVMs select exactly
+ * the tests of a container that were discovered in the current JVM and apply
+ * the same filters. The events reported by the forked JVMs are passed on to
+ * the supplied listeners as if the tests were executed in the current JVM.
+ *
+ * <p>Since any local process may connect to the socket, the forked JVMs have
+ * to authenticate themselves with a random token before anything else is
+ * read from the connection.
+ *
+ * @since 1.6
+ */
+class ForkedTestExecutor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ForkedTestExecutor.class);
+
+	private static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+	private static final int SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+	private final CommandLineOptions options;
+	private final Launcher launcher;
+	private final String token = generateToken();
+
+	ForkedTestExecutor(CommandLineOptions options, Launcher launcher) {
+		Preconditions.condition(options.getForkCount() > 0, "forkCount must be greater than 0");
+		Preconditions.condition(!options.isScanModulepath(),
+			"Scanning the module-path and executing tests in forked JVMs at the same time is not supported");
+		this.options = options;
+		this.launcher = launcher;
+	}
+
+	private static String generateToken() {
+		byte[] bytes = new byte[32];
+		new SecureRandom().nextBytes(bytes);
+		return Base64.getEncoder().encodeToString(bytes);
+	}
+
+	void execute(LauncherDiscoveryRequest discoveryRequest, TestExecutionListener... listeners) {
+		ForkedTestPlan testPlan = new ForkedTestPlan(launcher.discover(discoveryRequest));
+		Queue<TestIdentifier> units = new ConcurrentLinkedQueue<>();
+		for (TestIdentifier root : testPlan.getRoots()) {
+			if (testPlan.getChildren(root).isEmpty()) {
+				// forked JVMs report discovery errors of the engine
+				units.add(root);
+			}
+			else {
+				units.addAll(testPlan.getChildren(root));
+			}
+		}
+		// computed before any dynamic tests are added to the test plan
+		Map<TestIdentifier, List<String>> selectedUniqueIds = new HashMap<>();
+		units.forEach(unit -> selectedUniqueIds.put(unit, testPlan.getLeafUniqueIds(unit)));
+
+		SynchronizedListener listener = new SynchronizedListener(testPlan, listeners);
+		listener.testPlanExecutionStarted(testPlan);
+		testPlan.getRoots().forEach(listener::executionStarted);
+		try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			serverSocket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+			int forkCount = Math.min(options.getForkCount(), units.size());
+			List<Process> processes = new ArrayList<>(forkCount);
+			List<Thread> threads = new ArrayList<>(forkCount);
+			try {
+				for (int i = 0; i < forkCount; i++) {
+					processes.add(startWorker(serverSocket.getLocalPort()));
+				}
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CONNECT_TIMEOUT_MILLIS);
+				while (threads.size() < forkCount) {
+					WorkerConnection connection = accept(serverSocket, deadline, units, selectedUniqueIds, listener);
+					if (connection != null) {
+						Thread thread = new Thread(connection, "junit-fork-" + (threads.size() + 1));
+						thread.start();
+						threads.add(thread);
+					}
+				}
+				for (Thread thread : threads) {
+					thread.join();
+				}
+			}
+			catch (SocketTimeoutException e) {
+				throw new JUnitException("Forked JVM did not connect within " + CONNECT_TIMEOUT_MILLIS + " ms", e);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				stopWorkers(processes);
+			}
+		}
+		catch (IOException e) {
+			throw new JUnitException("Failed to communicate with forked JVMs", e);
+		}
+
+		// containers left over if all forked JVMs crashed
+		TestIdentifier unit;
+		while ((unit = units.poll()) != null) {
+			listener.executionStarted(unit);
+			listener.executionFinished(unit,
+				TestExecutionResult.failed(new JUnitException("No forked JVM left to execute " + unit)));
+		}
+		testPlan.getRoots().forEach(
+			root -> listener.executionFinished(root, listener.getEngineResult(root.getUniqueId())));
+		listener.testPlanExecutionFinished(testPlan);
+	}
+
+	private Process startWorker(int port) throws IOException {
+		Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+		List<String> classpath = new ArrayList<>();
+		classpath.add(System.getProperty("java.class.path"));
+		options.getAdditionalClasspathEntries().stream().map(Path::toString).forEach(classpath::add);
+		List<String> command = new ArrayList<>();
+		command.add(java.toString());
+		command.addAll(options.getForkJvmArguments());
+		command.add("-cp");
+		command.add(String.join(File.pathSeparator, classpath));
+		command.add(ForkedTestWorker.class.getName());
+		command.add(String.valueOf(port));
+		logger.config(() -> "Starting forked JVM: " + command);
+		ProcessBuilder processBuilder = new ProcessBuilder(command).inheritIO();
+		// not passed as an argument since those are visible to other users
+		processBuilder.environment().put(TOKEN_ENVIRONMENT_VARIABLE, token);
+		return processBuilder.start();
+	}
+
+	/**
+	 * Accept the next connection and check that it was opened by one of the
+	 * forked JVMs before reading anything else from it.
+	 *
+	 * @return the connection or {@code null} if it was rejected
+	 * @throws SocketTimeoutException if the deadline has passed
+	 */
+	private WorkerConnection accept(ServerSocket serverSocket, long deadline, Queue<TestIdentifier> units,
+			Map<TestIdentifier, List<String>> selectedUniqueIds, SynchronizedListener listener) throws IOException {
+		int timeoutMillis = (int) TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+		if (timeoutMillis <= 0) {
+			throw new SocketTimeoutException();
+		}
+		serverSocket.setSoTimeout(timeoutMillis);
+		Socket socket = serverSocket.accept();
+		try {
+			socket.setSoTimeout(timeoutMillis);
+			InputStream in = new BufferedInputStream(socket.getInputStream());
+			String receivedToken = new DataInputStream(in).readUTF();
+			if (MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+				receivedToken.getBytes(StandardCharsets.UTF_8))) {
+				socket.setSoTimeout(0);
+				return new WorkerConnection(socket, in, units, selectedUniqueIds, listener);
+			}
+			logger.warn(() -> "Rejected connection with invalid token from " + socket.getRemoteSocketAddress());
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Rejected connection from " + socket.getRemoteSocketAddress());
+		}
+		socket.close();
+		return null;
+	}
+
+	private void stopWorkers(List<Process> processes) {
+		for (Process process : processes) {
+			try {
+				if (!process.waitFor(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+					logger.warn(() -> "Forked JVM did not terminate within " + SHUTDOWN_TIMEOUT_SECONDS + " s");
+					process.destroyForcibly();
+				}
+			}
+			catch (InterruptedException e) {
+				process.destroyForcibly();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * The configuration parameters passed on to the forked JVMs, excluding
+	 * sharding since each of them only executes a single container at a time.
+	 */
+	private Map<String, String> getForkedConfigurationParameters() {
+		Map<String, String> configurationParameters = new LinkedHashMap<>(options.getConfigurationParameters());
+		configurationParameters.remove(LauncherConstants.SHARD_INDEX_PROPERTY_NAME);
+		configurationParameters.remove(LauncherConstants.SHARD_COUNT_PROPERTY_NAME);
+		configurationParameters.remove(LauncherConstants.SHARD_DURATIONS_FILE_PROPERTY_NAME);
+		return configurationParameters;
+	}
+
+	/**
+	 * Talks to a single forked JVM until there are no containers left to
+	 * execute or the JVM terminates unexpectedly.
+	 */
+	private class WorkerConnection implements Runnable {
+
+		private final Socket socket;
+		private final InputStream inputStream;
+		private final Queue<TestIdentifier> units;
+		private final Map<TestIdentifier, List<String>> selectedUniqueIds;
+		private final SynchronizedListener listener;
+
+		WorkerConnection(Socket socket, InputStream inputStream, Queue<TestIdentifier> units,
+				Map<TestIdentifier, List<String>> selectedUniqueIds, SynchronizedListener listener) {
+			this.socket = socket;
+			this.inputStream = inputStream;
+			this.units = units;
+			this.selectedUniqueIds = selectedUniqueIds;
+			this.listener = listener;
+		}
+
+		@Override
+		public void run() {
+			try (Socket socket = this.socket) {
+				ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+				out.writeObject(getForkedConfigurationParameters());
+				ForkedTestWorker.writeFilterOptions(out, options);
+				out.flush();
+				ObjectInputStream in = new FilteringObjectInputStream(inputStream, false);
+				TestIdentifier unit;
+				while ((unit = units.poll()) != null) {
+					Deque<TestIdentifier> started = new ArrayDeque<>();
+					try {
+						out.writeUTF(EXECUTE);
+						out.writeObject(new ArrayList<>(selectedUniqueIds.get(unit)));
+						out.flush();
+						receiveEvents(in, started);
+					}
+					catch (IOException | ClassNotFoundException e) {
+						abort(unit, started, e);
+						return;
+					}
+				}
+				out.writeUTF(EXIT);
+				out.flush();
+			}
+			catch (IOException e) {
+				logger.warn(e, () -> "Failed to communicate with forked JVM");
+			}
+		}
+
+		private void receiveEvents(ObjectInputStream in, Deque<TestIdentifier> started)
+				throws IOException, ClassNotFoundException {
+			String type;
+			while (!DONE.equals(type = in.readUTF())) {
+				TestIdentifier testIdentifier = (TestIdentifier) in.readObject();
+				switch (type) {
+					case DYNAMIC_TEST_REGISTERED:
+						listener.dynamicTestRegistered(testIdentifier);
+						break;
+					case SKIPPED:
+						listener.executionSkipped(testIdentifier, (String) in.readObject());
+						break;
+					case STARTED:
+						if (isRoot(testIdentifier)) {
+							break;
+						}
+						started.push(testIdentifier);
+						listener.executionStarted(testIdentifier);
+						break;
+					case FINISHED:
+						Status status = Status.valueOf((String) in.readObject());
+						byte[] throwable = (byte[]) in.readObject();
+						TestExecutionResult result = toResult(status, throwable);
+						if (isRoot(testIdentifier)) {
+							listener.engineFinished(testIdentifier.getUniqueId(), result);
+							break;
+						}
+						started.remove(testIdentifier);
+						listener.executionFinished(testIdentifier, result);
+						break;
+					case REPORTING_ENTRY_PUBLISHED:
+						@SuppressWarnings("unchecked")
+						Map<String, String> keyValuePairs = (Map<String, String>) in.readObject();
+						listener.reportingEntryPublished(testIdentifier, ReportEntry.from(keyValuePairs));
+						break;
+					default:
+						throw new JUnitException("Unexpected event from forked JVM: " + type);
+				}
+			}
+		}
+
+		private boolean isRoot(TestIdentifier testIdentifier) {
+			return !testIdentifier.getParentId().isPresent();
+		}
+
+		private TestExecutionResult toResult(Status status, byte[] throwable) {
+			switch (status) {
+				case SUCCESSFUL:
+					return TestExecutionResult.successful();
+				case ABORTED:
+					return TestExecutionResult.aborted(
+						throwable == null ? null : ForkedTestWorker.deserializeThrowable(throwable));
+				default:
+					return TestExecutionResult.failed(
+						throwable == null ? null : ForkedTestWorker.deserializeThrowable(throwable));
+			}
+		}
+
+		/**
+		 * Report all tests and containers that were started but did not finish
+		 * before the forked JVM terminated as failed.
+		 */
+		private void abort(TestIdentifier unit, Deque<TestIdentifier> started, Exception cause) {
+			JUnitException exception = new JUnitException("Forked JVM terminated unexpectedly", cause);
+			if (started.isEmpty() && !isRoot(unit)) {
+				listener.executionStarted(unit);
+				started.push(unit);
+			}
+			while (!started.isEmpty()) {
+				listener.executionFinished(started.pop(), TestExecutionResult.failed(exception));
+			}
+			if (isRoot(unit)) {
+				listener.engineFinished(unit.getUniqueId(), TestExecutionResult.failed(exception));
+			}
+		}
+	}
+
+	/**
+	 * Passes events on to all listeners one at a time since they may be
+	 * reported by several forked JVMs concurrently and adds test identifiers
+	 * that were only registered in a forked JVM to the test plan.
+	 */
+	private static class SynchronizedListener implements TestExecutionListener {
+
+		private final ForkedTestPlan testPlan;
+		private final TestExecutionListener[] listeners;
+		private final Map<String, TestExecutionResult> engineResults = new ConcurrentHashMap<>();
+
+		SynchronizedListener(ForkedTestPlan testPlan, TestExecutionListener[] listeners) {
+			this.testPlan = testPlan;
+			this.listeners = listeners;
+		}
+
+		void engineFinished(String uniqueId, TestExecutionResult result) {
+			if (result.getStatus() != Status.SUCCESSFUL) {
+				engineResults.putIfAbsent(uniqueId, result);
+			}
+		}
+
+		TestExecutionResult getEngineResult(String uniqueId) {
+			return engineResults.getOrDefault(uniqueId, TestExecutionResult.successful());
+		}
+
+		@Override
+		public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+			for (TestExecutionListener listener : listeners) {
+				listener.testPlanExecutionStarted(testPlan);
+			}
+		}
+
+		@Override
+		public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+			for (TestExecutionListener listener : listeners) {
+				listener.testPlanExecutionFinished(testPlan);
+			}
+		}
+
+		@Override
+		public synchronized void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			TestIdentifier resolved = testPlan.resolve(testIdentifier);
+			for (TestExecutionListener listener : listeners) {
+				listener.dynamicTestRegistered(resolved);
+			}
+		}
+
+		@Override
+		public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			TestIdentifier resolved = testPlan.resolve(testIdentifier);
+			for (TestExecutionListener listener : listeners) {
+				listener.executionSkipped(resolved, reason);
+			}
+		}
+
+		@Override
+		public synchronized void executionStarted(TestIdentifier testIdentifier) {
+			TestIdentifier resolved = testPlan.resolve(testIdentifier);
+			for (TestExecutionListener listener : listeners) {
+				listener.executionStarted(resolved);
+			}
+		}
+
+		@Override
+		public synchronized void executionFinished(TestIdentifier testIdentifier,
+				TestExecutionResult testExecutionResult) {
+			TestIdentifier resolved = testPlan.resolve(testIdentifier);
+			for (TestExecutionListener listener : listeners) {
+				listener.executionFinished(resolved, testExecutionResult);
+			}
+		}
+
+		@Override
+		public synchronized void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			TestIdentifier resolved = testPlan.resolve(testIdentifier);
+			for (TestExecutionListener listener : listeners) {
+				listener.reportingEntryPublished(resolved, entry);
+			}
+		}
+	}
+
+	/**
+	 * Copy of the discovered {@link TestPlan} that the test identifiers
+	 * reported by forked JVMs are resolved against.
+	 */
+	static class ForkedTestPlan extends TestPlan {
+
+		private final Map<String, TestIdentifier> testIdentifiers = new ConcurrentHashMap<>();
+
+		ForkedTestPlan(TestPlan discoveredTestPlan) {
+			super(discoveredTestPlan.containsTests());
+			for (TestIdentifier root : discoveredTestPlan.getRoots()) {
+				register(root);
+				discoveredTestPlan.getDescendants(root).forEach(this::register);
+			}
+		}
+
+		/**
+		 * Get the unique IDs of the descendants of the supplied identifier that
+		 * have no children, or of the identifier itself if it has none, i.e.
+		 * of exactly the tests that were selected and not filtered out.
+		 */
+		List<String> getLeafUniqueIds(TestIdentifier testIdentifier) {
+			List<String> uniqueIds = new ArrayList<>();
+			if (getChildren(testIdentifier).isEmpty()) {
+				uniqueIds.add(testIdentifier.getUniqueId());
+			}
+			for (TestIdentifier descendant : getDescendants(testIdentifier)) {
+				if (getChildren(descendant).isEmpty()) {
+					uniqueIds.add(descendant.getUniqueId());
+				}
+			}
+			return uniqueIds;
+		}
+
+		/**
+		 * Get the identifier of this test plan with the same unique ID as the
+		 * supplied one, adding the supplied one if there is none.
+		 */
+		TestIdentifier resolve(TestIdentifier testIdentifier) {
+			TestIdentifier existing = testIdentifiers.get(testIdentifier.getUniqueId());
+			if (existing != null) {
+				return existing;
+			}
+			register(testIdentifier);
+			return testIdentifier;
+		}
+
+		@SuppressWarnings("deprecation")
+		private void register(TestIdentifier testIdentifier) {
+			testIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
+			super.add(testIdentifier);
+		}
+	}
+
+}
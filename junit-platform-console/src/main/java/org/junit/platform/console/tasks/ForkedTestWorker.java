@@ -0,0 +1,326 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Entry point of the JVMs forked by the {@code ConsoleLauncher} when the
+ * {@code --fork-count} option is used.
+ *
+ * <p>A worker connects to the local port passed as its only argument,
+ * authenticates itself using the token passed via the
+ * {@value #TOKEN_ENVIRONMENT_VARIABLE} environment variable, receives the
+ * configuration of the test run, and then executes the selected tests of one
+ * top-level container at a time as requested by the {@code ConsoleLauncher}
+ * while sending all execution events back to it.
+ *
+ * @since 1.6
+ * @see ForkedTestExecutor
+ */
+@API(status = INTERNAL, since = "1.6")
+public class ForkedTestWorker {
+
+	static final String EXECUTE = "execute";
+	static final String EXIT = "exit";
+	static final String STARTED = "started";
+	static final String SKIPPED = "skipped";
+	static final String FINISHED = "finished";
+	static final String DYNAMIC_TEST_REGISTERED = "dynamic";
+	static final String REPORTING_ENTRY_PUBLISHED = "report";
+	static final String DONE = "done";
+
+	static final String TOKEN_ENVIRONMENT_VARIABLE = "JUNIT_PLATFORM_FORK_TOKEN";
+
+	public static void main(String... args) throws Exception {
+		int port = Integer.parseInt(args[0]);
+		String token = System.getenv(TOKEN_ENVIRONMENT_VARIABLE);
+		if (token == null) {
+			throw new JUnitException("Environment variable " + TOKEN_ENVIRONMENT_VARIABLE + " is not set");
+		}
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			new ForkedTestWorker(LauncherFactory.create()).run(socket, token);
+		}
+		// Do not wait for threads tests may have left behind
+		System.exit(0);
+	}
+
+	private final Launcher launcher;
+
+	ForkedTestWorker(Launcher launcher) {
+		this.launcher = launcher;
+	}
+
+	@SuppressWarnings("unchecked")
+	void run(Socket socket, String token) throws IOException, ClassNotFoundException {
+		OutputStream outputStream = new BufferedOutputStream(socket.getOutputStream());
+		// The ConsoleLauncher does not read any object before it has checked the token
+		new DataOutputStream(outputStream).writeUTF(token);
+		ObjectOutputStream out = new ObjectOutputStream(outputStream);
+		out.flush();
+		ObjectInputStream in = new FilteringObjectInputStream(new BufferedInputStream(socket.getInputStream()),
+			false);
+		Map<String, String> configurationParameters = (Map<String, String>) in.readObject();
+		CommandLineOptions filterOptions = readFilterOptions(in);
+		DiscoveryRequestCreator discoveryRequestCreator = new DiscoveryRequestCreator();
+		TestExecutionListener listener = new EventForwardingListener(out);
+		while (EXECUTE.equals(in.readUTF())) {
+			List<String> uniqueIds = (List<String>) in.readObject();
+			LauncherDiscoveryRequestBuilder requestBuilder = request() //
+					.selectors(uniqueIds.stream().map(DiscoverySelectors::selectUniqueId).collect(toList())) //
+					.configurationParameters(configurationParameters);
+			discoveryRequestCreator.addFilters(requestBuilder, filterOptions);
+			launcher.execute(requestBuilder.build(), listener);
+			synchronized (out) {
+				out.writeUTF(DONE);
+				out.flush();
+			}
+		}
+	}
+
+	/**
+	 * Send the filters of the supplied options to a forked JVM, except for
+	 * sharding since the {@code ConsoleLauncher} already applied it.
+	 */
+	static void writeFilterOptions(ObjectOutputStream out, CommandLineOptions options) throws IOException {
+		out.writeObject(new ArrayList<>(options.getIncludedClassNamePatterns()));
+		out.writeObject(new ArrayList<>(options.getExcludedClassNamePatterns()));
+		out.writeObject(new ArrayList<>(options.getIncludedPackages()));
+		out.writeObject(new ArrayList<>(options.getExcludedPackages()));
+		out.writeObject(new ArrayList<>(options.getIncludedTagExpressions()));
+		out.writeObject(new ArrayList<>(options.getExcludedTagExpressions()));
+		out.writeObject(new ArrayList<>(options.getIncludedEngines()));
+		out.writeObject(new ArrayList<>(options.getExcludedEngines()));
+	}
+
+	@SuppressWarnings("unchecked")
+	static CommandLineOptions readFilterOptions(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		CommandLineOptions options = new CommandLineOptions();
+		options.setIncludedClassNamePatterns((List<String>) in.readObject());
+		options.setExcludedClassNamePatterns((List<String>) in.readObject());
+		options.setIncludedPackages((List<String>) in.readObject());
+		options.setExcludedPackages((List<String>) in.readObject());
+		options.setIncludedTagExpressions((List<String>) in.readObject());
+		options.setExcludedTagExpressions((List<String>) in.readObject());
+		options.setIncludedEngines((List<String>) in.readObject());
+		options.setExcludedEngines((List<String>) in.readObject());
+		return options;
+	}
+
+	/**
+	 * Serialize the supplied throwable, replacing it with a
+	 * {@link JUnitException} with the same message and stack trace if it
+	 * cannot be serialized or would be rejected by
+	 * {@link #deserializeThrowable(byte[])}.
+	 */
+	static byte[] serializeThrowable(Throwable throwable) {
+		try {
+			byte[] bytes = serialize(throwable);
+			deserialize(bytes);
+			return bytes;
+		}
+		catch (IOException | ClassNotFoundException e) {
+			JUnitException replacement = new JUnitException(throwable.toString());
+			replacement.setStackTrace(throwable.getStackTrace());
+			try {
+				return serialize(replacement);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Deserialize a throwable using the current thread's context class loader
+	 * so that exception types of the tests being executed can be resolved.
+	 */
+	static Throwable deserializeThrowable(byte[] bytes) {
+		try {
+			return deserialize(bytes);
+		}
+		catch (IOException | ClassNotFoundException e) {
+			return new JUnitException("Failed to deserialize exception thrown in forked JVM", e);
+		}
+	}
+
+	private static Throwable deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new FilteringObjectInputStream(new ByteArrayInputStream(bytes), true)) {
+			Object object = in.readObject();
+			if (object instanceof Throwable) {
+				return (Throwable) object;
+			}
+			throw new InvalidClassException(object.getClass().getName(), "Not a Throwable");
+		}
+	}
+
+	/**
+	 * Resolves classes using the current thread's context class loader but
+	 * only accepts those that are expected to be exchanged between the
+	 * {@code ConsoleLauncher} and its forked JVMs: JDK value types and
+	 * collections, types of the JUnit Platform and opentest4j, and optionally
+	 * throwables.
+	 */
+	static class FilteringObjectInputStream extends ObjectInputStream {
+
+		private static final Set<String> ALLOWED_PACKAGES = new HashSet<>(
+			asList("java.lang", "java.math", "java.time", "java.util"));
+		private static final Set<String> ALLOWED_CLASSES = new HashSet<>(
+			asList(File.class.getName(), URI.class.getName()));
+		private static final List<String> ALLOWED_PACKAGE_PREFIXES = asList("org.junit.platform.", "org.opentest4j.");
+
+		private final boolean throwablesAllowed;
+
+		FilteringObjectInputStream(InputStream in, boolean throwablesAllowed) throws IOException {
+			super(in);
+			this.throwablesAllowed = throwablesAllowed;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			Class<?> type;
+			try {
+				type = Class.forName(desc.getName(), false, ClassLoaderUtils.getDefaultClassLoader());
+			}
+			catch (ClassNotFoundException e) {
+				type = super.resolveClass(desc);
+			}
+			if (!isAllowed(type)) {
+				throw new InvalidClassException(desc.getName(), "Class is not allowed to be deserialized");
+			}
+			return type;
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+			throw new InvalidClassException("Proxy classes are not allowed to be deserialized");
+		}
+
+		private boolean isAllowed(Class<?> type) {
+			Class<?> elementType = type;
+			while (elementType.isArray()) {
+				elementType = elementType.getComponentType();
+			}
+			if (elementType.isPrimitive() || (throwablesAllowed && Throwable.class.isAssignableFrom(elementType))) {
+				return true;
+			}
+			String className = elementType.getName();
+			int lastDot = className.lastIndexOf('.');
+			String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+			return ALLOWED_PACKAGES.contains(packageName) || ALLOWED_CLASSES.contains(className)
+					|| ALLOWED_PACKAGE_PREFIXES.stream().anyMatch(className::startsWith);
+		}
+	}
+
+	/**
+	 * Sends all events to the {@code ConsoleLauncher}; synchronized since tests
+	 * may be executed in parallel within a worker.
+	 */
+	private static class EventForwardingListener implements TestExecutionListener {
+
+		private final ObjectOutputStream out;
+
+		EventForwardingListener(ObjectOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			send(DYNAMIC_TEST_REGISTERED, testIdentifier);
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			send(SKIPPED, testIdentifier, reason);
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			send(STARTED, testIdentifier);
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			byte[] throwable = testExecutionResult.getThrowable().map(ForkedTestWorker::serializeThrowable).orElse(
+				null);
+			send(FINISHED, testIdentifier, testExecutionResult.getStatus().name(), throwable);
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			send(REPORTING_ENTRY_PUBLISHED, testIdentifier, new LinkedHashMap<>(entry.getKeyValuePairs()));
+		}
+
+		private void send(String type, Object... objects) {
+			synchronized (out) {
+				try {
+					out.writeUTF(type);
+					for (Object object : objects) {
+						out.writeObject(object);
+					}
+					out.flush();
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		}
+	}
+
+}
@@ -10,12 +10,16 @@
 
 package org.junit.platform.engine;
 
-import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,6 +35,10 @@ import org.junit.platform.commons.util.ToStringBuilder;
  *
  * <p>Instances of this class have value semantics and are immutable.
  *
+ * @implNote Each {@code UniqueId} only stores its last {@link Segment} and a
+ * reference to the {@code UniqueId} it was {@linkplain #append appended} to,
+ * so that IDs in a test tree share their common prefixes.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
@@ -80,32 +88,63 @@ public class UniqueId implements Cloneable, Serializable {
 		return new UniqueId(UniqueIdFormat.getDefault(), new Segment(segmentType, value));
 	}
 
+	/**
+	 * Serialized form compatible with previous versions that stored the
+	 * complete list of segments.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("uniqueIdFormat", UniqueIdFormat.class),
+			new ObjectStreamField("segments", List.class) };
+
 	private final UniqueIdFormat uniqueIdFormat;
-	private final List<Segment> segments;
+	// null for root IDs
+	private final UniqueId parent;
+	// null for empty IDs
+	private final Segment lastSegment;
+	private final int size;
 	// lazily computed
 	private transient int hashCode;
 	// lazily computed
 	private transient String toString;
+	// only set while deserializing
+	private transient UniqueId deserialized;
 
 	private UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
+		this(uniqueIdFormat, null, segment);
+	}
+
+	private UniqueId(UniqueIdFormat uniqueIdFormat, UniqueId parent, Segment lastSegment) {
 		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = singletonList(segment);
+		this.parent = parent;
+		this.lastSegment = lastSegment;
+		this.size = lastSegment == null ? 0 : (parent == null ? 1 : parent.size + 1);
 	}
 
 	/**
 	 * Initialize a {@code UniqueId} instance.
 	 *
-	 * @implNote A defensive copy of the segment list is <b>not</b> created by
-	 * this implementation. All callers should immediately drop the reference
-	 * to the list instance that they pass into this constructor.
+	 * @implNote The supplied segment list is <b>not</b> retained by this
+	 * implementation.
 	 */
 	UniqueId(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
-		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = unmodifiableList(segments);
+		this(uniqueIdFormat, createParent(uniqueIdFormat, segments),
+			segments.isEmpty() ? null : segments.get(segments.size() - 1));
+	}
+
+	private static UniqueId createParent(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
+		UniqueId parent = null;
+		for (int i = 0; i < segments.size() - 1; i++) {
+			parent = new UniqueId(uniqueIdFormat, parent, segments.get(i));
+		}
+		return parent;
 	}
 
 	final Optional<Segment> getRoot() {
-		return this.segments.isEmpty() ? Optional.empty() : Optional.of(this.segments.get(0));
+		UniqueId root = this;
+		while (root.parent != null) {
+			root = root.parent;
+		}
+		return Optional.ofNullable(root.lastSegment);
 	}
 
 	/**
@@ -122,7 +161,11 @@ public class UniqueId implements Cloneable, Serializable {
 	 * {@code UniqueId}.
 	 */
 	public final List<Segment> getSegments() {
-		return this.segments;
+		Segment[] segments = new Segment[this.size];
+		for (UniqueId current = this; current != null && current.size > 0; current = current.parent) {
+			segments[current.size - 1] = current.lastSegment;
+		}
+		return unmodifiableList(Arrays.asList(segments));
 	}
 
 	/**
@@ -156,9 +199,7 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public final UniqueId append(Segment segment) {
 		Preconditions.notNull(segment, "segment must not be null");
-		List<Segment> baseSegments = new ArrayList<>(this.segments);
-		baseSegments.add(segment);
-		return new UniqueId(this.uniqueIdFormat, baseSegments);
+		return new UniqueId(this.uniqueIdFormat, this.size == 0 ? null : this, segment);
 	}
 
 	/**
@@ -172,9 +213,17 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public boolean hasPrefix(UniqueId potentialPrefix) {
 		Preconditions.notNull(potentialPrefix, "potentialPrefix must not be null");
-		int size = this.segments.size();
-		int prefixSize = potentialPrefix.segments.size();
-		return size >= prefixSize && this.segments.subList(0, prefixSize).equals(potentialPrefix.segments);
+		if (this.size < potentialPrefix.size) {
+			return false;
+		}
+		if (potentialPrefix.size == 0) {
+			return true;
+		}
+		UniqueId prefix = this;
+		for (int i = potentialPrefix.size; i < this.size; i++) {
+			prefix = prefix.parent;
+		}
+		return prefix.equals(potentialPrefix);
 	}
 
 	/**
@@ -190,8 +239,8 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public UniqueId removeLastSegment() {
-		Preconditions.condition(this.segments.size() > 1, "Cannot remove last remaining segment");
-		return new UniqueId(uniqueIdFormat, new ArrayList<>(segments.subList(0, segments.size() - 1)));
+		Preconditions.condition(this.size > 1, "Cannot remove last remaining segment");
+		return this.parent;
 	}
 
 	/**
@@ -202,7 +251,7 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public Segment getLastSegment() {
-		return this.segments.get(this.segments.size() - 1);
+		return this.lastSegment;
 	}
 
 	@Override
@@ -220,14 +269,25 @@ public class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		if (this.size != that.size || (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode)) {
+			return false;
+		}
+		// stop at the first shared prefix
+		for (UniqueId left = this, right = that; left != right; left = left.parent, right = right.parent) {
+			if (!Objects.equals(left.lastSegment, right.lastSegment)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public int hashCode() {
 		int value = this.hashCode;
 		if (value == 0) {
-			value = this.segments.hashCode();
+			// same as the hash code of the list of segments
+			value = this.lastSegment == null ? 1
+					: 31 * (this.parent == null ? 1 : this.parent.hashCode()) + this.lastSegment.hashCode();
 			if (value == 0) {
 				// handle the edge case of the computed hashCode being 0
 				value = 1;
@@ -252,7 +312,8 @@ public class UniqueId implements Cloneable, Serializable {
 	public String toString() {
 		String s = this.toString;
 		if (s == null) {
-			s = this.uniqueIdFormat.format(this);
+			s = this.parent == null ? this.uniqueIdFormat.format(this)
+					: this.uniqueIdFormat.format(this.parent.toString(), this.lastSegment);
 			// this is a benign race like String#hash
 			// we potentially read and write values from multiple threads
 			// without a happens-before relationship
@@ -265,6 +326,25 @@ public class UniqueId implements Cloneable, Serializable {
 		return s;
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("uniqueIdFormat", this.uniqueIdFormat);
+		fields.put("segments", new ArrayList<>(getSegments()));
+		out.writeFields();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		UniqueIdFormat format = (UniqueIdFormat) fields.get("uniqueIdFormat", null);
+		List<Segment> segments = (List<Segment>) fields.get("segments", null);
+		this.deserialized = new UniqueId(format, new ArrayList<>(segments));
+	}
+
+	private Object readResolve() {
+		return this.deserialized;
+	}
+
 	/**
 	 * A segment of a {@link UniqueId} comprises a <em>type</em> and a
 	 * <em>value</em>.
@@ -333,6 +413,11 @@ public class UniqueId implements Cloneable, Serializable {
 			// @formatter:on
 		}
 
+		private Object readResolve() {
+			// share the few distinct types like parsed segments do
+			return new Segment(UniqueIdFormat.internSegmentType(this.type), this.value);
+		}
+
 	}
 
 }
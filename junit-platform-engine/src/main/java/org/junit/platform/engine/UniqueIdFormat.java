@@ -11,17 +11,18 @@
 package org.junit.platform.engine;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,10 +42,34 @@ class UniqueIdFormat implements Serializable {
 
 	private static final UniqueIdFormat defaultFormat = new UniqueIdFormat('[', ':', ']', '/');
 
+	private static final int MAX_INTERNED_SEGMENT_TYPES = 1000;
+	private static final ConcurrentMap<String, String> internedSegmentTypes = new ConcurrentHashMap<>();
+
 	static UniqueIdFormat getDefault() {
 		return defaultFormat;
 	}
 
+	/**
+	 * Return a canonical instance of the supplied segment type.
+	 *
+	 * <p>There are only a few distinct types that are shared by many
+	 * segments. Unlike {@link String#intern()}, this method stops caching new
+	 * types once a limit is reached.
+	 *
+	 * @since 1.6
+	 */
+	static String internSegmentType(String type) {
+		String interned = internedSegmentTypes.get(type);
+		if (interned != null) {
+			return interned;
+		}
+		if (internedSegmentTypes.size() >= MAX_INTERNED_SEGMENT_TYPES) {
+			return type;
+		}
+		interned = internedSegmentTypes.putIfAbsent(type, type);
+		return interned == null ? type : interned;
+	}
+
 	private static String quote(char c) {
 		return Pattern.quote(String.valueOf(c));
 	}
@@ -92,17 +117,64 @@ class UniqueIdFormat implements Serializable {
 	 * @throws JUnitException if the string cannot be parsed
 	 */
 	UniqueId parse(String source) throws JUnitException {
-		String[] parts = source.split(String.valueOf(this.segmentDelimiter));
-		List<Segment> segments = Arrays.stream(parts).map(this::createSegment).collect(toList());
+		List<Segment> segments = new ArrayList<>();
+		// like String.split(), ignore trailing delimiters unless the source is empty
+		int end = source.length();
+		while (end > 0 && source.charAt(end - 1) == this.segmentDelimiter) {
+			end--;
+		}
+		if (end > 0 || source.isEmpty()) {
+			int start = 0;
+			while (true) {
+				int delimiterIndex = source.indexOf(this.segmentDelimiter, start);
+				int segmentEnd = delimiterIndex < 0 || delimiterIndex > end ? end : delimiterIndex;
+				segments.add(createSegment(source, start, segmentEnd));
+				if (segmentEnd == end) {
+					break;
+				}
+				start = segmentEnd + 1;
+			}
+		}
 		return new UniqueId(this, segments);
 	}
 
+	/**
+	 * Create a segment from the supplied range of the source.
+	 *
+	 * <p>Segments without encoded or special characters in their type or
+	 * value are parsed in a single pass; all others are handled by
+	 * {@link #createSegment(String)}.
+	 */
+	private Segment createSegment(String source, int start, int end) throws JUnitException {
+		if (end - start < 5 || source.charAt(start) != this.openSegment
+				|| source.charAt(end - 1) != this.closeSegment) {
+			return createSegment(source.substring(start, end));
+		}
+		int separatorIndex = -1;
+		for (int i = start + 1; i < end - 1; i++) {
+			char c = source.charAt(i);
+			if (c == this.typeValueSeparator && separatorIndex < 0) {
+				separatorIndex = i;
+			}
+			else if (c == this.typeValueSeparator || c == this.openSegment || c == this.closeSegment || c == '%'
+					|| c == '+') {
+				return createSegment(source.substring(start, end));
+			}
+		}
+		if (separatorIndex <= start + 1 || separatorIndex >= end - 2) {
+			return createSegment(source.substring(start, end));
+		}
+		String type = internSegmentType(source.substring(start + 1, separatorIndex));
+		String value = source.substring(separatorIndex + 1, end - 1);
+		return new Segment(type, value);
+	}
+
 	private Segment createSegment(String segmentString) throws JUnitException {
 		Matcher segmentMatcher = this.segmentPattern.matcher(segmentString);
 		if (!segmentMatcher.matches()) {
 			throw new JUnitException(String.format("'%s' is not a well-formed UniqueId segment", segmentString));
 		}
-		String type = decode(checkAllowed(segmentMatcher.group(1)));
+		String type = internSegmentType(decode(checkAllowed(segmentMatcher.group(1))));
 		String value = decode(checkAllowed(segmentMatcher.group(2)));
 		return new Segment(type, value);
 	}
@@ -131,6 +203,16 @@ class UniqueIdFormat implements Serializable {
 		// @formatter:on
 	}
 
+	/**
+	 * Format and return the string representation of the {@code UniqueId}
+	 * that consists of the supplied, already formatted prefix and segment.
+	 *
+	 * @since 1.6
+	 */
+	String format(String formattedPrefix, Segment lastSegment) {
+		return formattedPrefix + this.segmentDelimiter + describe(lastSegment);
+	}
+
 	private String describe(Segment segment) {
 		String body = encode(segment.getType()) + typeValueSeparator + encode(segment.getValue());
 		return openSegment + body + closeSegment;
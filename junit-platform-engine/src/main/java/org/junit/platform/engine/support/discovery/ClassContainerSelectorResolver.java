@@ -10,16 +10,20 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInClasspathRoot;
 import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInModule;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInPackage;
+import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
+import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInPackage;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.selectors;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.commons.util.ClasspathScanCache;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.discovery.ModuleSelector;
@@ -32,15 +36,28 @@ class ClassContainerSelectorResolver implements SelectorResolver {
 
 	private final Predicate<Class<?>> classFilter;
 	private final Predicate<String> classNameFilter;
+	private final ClassFilter scanningClassFilter;
+	private final ClasspathScanCache scanCache;
 
 	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter) {
+		this(classFilter, classNameFilter, emptySet(), null, false);
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter,
+			Set<String> candidateAnnotationNames, ClasspathScanCache scanCache, boolean testIndexEnabled) {
 		this.classFilter = classFilter;
 		this.classNameFilter = classNameFilter;
+		this.scanningClassFilter = ClassFilter.of(classNameFilter, classFilter, candidateAnnotationNames, scanCache,
+			testIndexEnabled);
+		this.scanCache = scanCache;
 	}
 
 	@Override
 	public Resolution resolve(ClasspathRootSelector selector, Context context) {
-		return classSelectors(findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter, classNameFilter));
+		return classSelectors(findAllClassesInClasspathRoot(selector.getClasspathRoot(), scanningClassFilter));
 	}
 
 	@Override
@@ -50,7 +67,17 @@ class ClassContainerSelectorResolver implements SelectorResolver {
 
 	@Override
 	public Resolution resolve(PackageSelector selector, Context context) {
-		return classSelectors(findAllClassesInPackage(selector.getPackageName(), classFilter, classNameFilter));
+		return classSelectors(findAllClassesInPackage(selector.getPackageName(), scanningClassFilter));
+	}
+
+	/**
+	 * Write the scan cache, if any, once all selectors have been resolved,
+	 * possibly concurrently.
+	 */
+	void saveScanCache() {
+		if (scanCache != null) {
+			scanCache.save();
+		}
 	}
 
 	private Resolution classSelectors(List<Class<?>> classes) {
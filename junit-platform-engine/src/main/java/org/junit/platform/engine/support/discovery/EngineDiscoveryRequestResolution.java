@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.joining;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
@@ -18,21 +19,32 @@ import static org.junit.platform.engine.SelectorResolutionResult.resolved;
 import static org.junit.platform.engine.SelectorResolutionResult.unresolved;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryListener;
 import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.SelectorResolutionResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassSelector;
@@ -56,59 +68,219 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
  */
 class EngineDiscoveryRequestResolution {
 
+	private static final int CHUNKS_PER_THREAD = 4;
+
 	private final EngineDiscoveryRequest request;
 	private final Context defaultContext;
 	private final List<SelectorResolver> resolvers;
 	private final List<TestDescriptor.Visitor> visitors;
 	private final TestDescriptor engineDescriptor;
-	private final Map<DiscoverySelector, Resolution> resolvedSelectors = new LinkedHashMap<>();
-	private final Map<UniqueId, Match> resolvedUniqueIds = new LinkedHashMap<>();
+	private final int parallelism;
+	private final Map<DiscoverySelector, Resolution> resolvedSelectors = new ConcurrentHashMap<>();
+	private final Map<UniqueId, Match> resolvedUniqueIds = new ConcurrentHashMap<>();
 	private final Queue<DiscoverySelector> remainingSelectors = new ArrayDeque<>();
-	private final Map<DiscoverySelector, Context> contextBySelector = new HashMap<>();
+	private final Map<DiscoverySelector, Context> contextBySelector = new ConcurrentHashMap<>();
+
+	// Only used when resolving selectors in parallel
+	private final Map<DiscoverySelector, Object> selectorLocks = new ConcurrentHashMap<>();
+	private final Map<UniqueId, AddedDescriptor> addedDescriptors = new HashMap<>();
+	private final ThreadLocal<Integer> currentSelectorIndex = new ThreadLocal<>();
 
 	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
 			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors) {
+		this(request, engineDescriptor, resolvers, visitors, 1);
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
+			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors, int parallelism) {
 		this.request = request;
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
 		this.visitors = visitors;
+		this.parallelism = parallelism;
 		this.defaultContext = new DefaultContext(null);
 		this.resolvedUniqueIds.put(engineDescriptor.getUniqueId(), Match.exact(engineDescriptor));
 	}
 
 	void run() {
 		remainingSelectors.addAll(request.getSelectorsByType(DiscoverySelector.class));
-		while (!remainingSelectors.isEmpty()) {
-			resolveCompletely(remainingSelectors.poll());
+		if (isParallel()) {
+			resolveInParallel();
+		}
+		else {
+			while (!remainingSelectors.isEmpty()) {
+				resolveCompletely(remainingSelectors.poll(), remainingSelectors);
+			}
 		}
 		visitors.forEach(engineDescriptor::accept);
 	}
 
-	private void resolveCompletely(DiscoverySelector selector) {
-		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
-		UniqueId engineId = engineDescriptor.getUniqueId();
+	private boolean isParallel() {
+		return parallelism > 1;
+	}
+
+	/**
+	 * Resolve the remaining selectors in rounds: all selectors enqueued in
+	 * one round are resolved concurrently, and their additional selectors
+	 * are enqueued in the order of the selectors that yielded them.
+	 *
+	 * <p>Since this is the order in which the queue is processed when
+	 * resolving sequentially, the children of all descriptors are reordered
+	 * after each round to match the result of a sequential resolution.
+	 */
+	private void resolveInParallel() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "junit-selector-resolution-" + threadNumber.incrementAndGet());
+			thread.setContextClassLoader(contextClassLoader);
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			while (!remainingSelectors.isEmpty()) {
+				List<DiscoverySelector> selectors = new ArrayList<>(remainingSelectors);
+				remainingSelectors.clear();
+				resolveInParallel(selectors, executorService);
+				restoreSequentialOrder();
+				// Selectors and descriptors of previous rounds are found in the caches
+				selectorLocks.clear();
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void resolveInParallel(List<DiscoverySelector> selectors, ExecutorService executorService) {
+		// Resolve contiguous chunks of selectors per task to keep the scheduling overhead low
+		int chunkSize = Math.max(1, (selectors.size() + CHUNKS_PER_THREAD * parallelism - 1)
+				/ (CHUNKS_PER_THREAD * parallelism));
+		List<Callable<List<DiscoverySelector>>> tasks = new ArrayList<>();
+		for (int start = 0; start < selectors.size(); start += chunkSize) {
+			int chunkStart = start;
+			int chunkEnd = Math.min(start + chunkSize, selectors.size());
+			tasks.add(() -> {
+				List<DiscoverySelector> additionalSelectors = new ArrayList<>();
+				try {
+					for (int i = chunkStart; i < chunkEnd; i++) {
+						currentSelectorIndex.set(i);
+						resolveCompletely(selectors.get(i), additionalSelectors);
+					}
+				}
+				finally {
+					currentSelectorIndex.remove();
+				}
+				return additionalSelectors;
+			});
+		}
+		try {
+			for (Future<List<DiscoverySelector>> future : executorService.invokeAll(tasks)) {
+				remainingSelectors.addAll(future.get());
+			}
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while resolving selectors", ex);
+		}
+	}
+
+	/**
+	 * Reorder the descriptors added in the last round by the index of the
+	 * first selector that yielded them, keeping all previously added
+	 * descriptors in front.
+	 */
+	private void restoreSequentialOrder() {
+		Set<TestDescriptor> parents = new LinkedHashSet<>();
+		addedDescriptors.values().forEach(added -> added.descriptor.getParent().ifPresent(parents::add));
+		for (TestDescriptor parent : parents) {
+			List<AddedDescriptor> addedChildren = new ArrayList<>();
+			for (TestDescriptor child : parent.getChildren()) {
+				AddedDescriptor added = addedDescriptors.get(child.getUniqueId());
+				if (added != null && added.descriptor == child) {
+					addedChildren.add(added);
+				}
+			}
+			List<AddedDescriptor> sortedChildren = new ArrayList<>(addedChildren);
+			sortedChildren.sort(comparingInt(added -> added.selectorIndex));
+			if (!sortedChildren.equals(addedChildren)) {
+				sortedChildren.forEach(added -> parent.removeChild(added.descriptor));
+				sortedChildren.forEach(added -> parent.addChild(added.descriptor));
+			}
+		}
+		addedDescriptors.clear();
+	}
+
+	/**
+	 * Record that the supplied descriptor and its ancestors were yielded by
+	 * the selector currently being resolved in parallel, if it precedes the
+	 * selector that added them.
+	 */
+	private void recordSelectorIndex(TestDescriptor descriptor) {
+		Integer selectorIndex = currentSelectorIndex.get();
+		if (selectorIndex == null) {
+			return;
+		}
+		synchronized (addedDescriptors) {
+			TestDescriptor current = descriptor;
+			while (current != null) {
+				AddedDescriptor added = addedDescriptors.get(current.getUniqueId());
+				if (added == null || added.descriptor != current) {
+					return;
+				}
+				added.selectorIndex = Math.min(added.selectorIndex, selectorIndex);
+				current = current.getParent().orElse(null);
+			}
+		}
+	}
+
+	private Resolution recordSelectorIndex(Resolution resolution) {
+		resolution.getMatches().forEach(match -> recordSelectorIndex(match.getTestDescriptor()));
+		return resolution;
+	}
+
+	private void resolveCompletely(DiscoverySelector selector, Collection<DiscoverySelector> additionalSelectors) {
 		try {
 			Optional<Resolution> result = resolve(selector);
 			if (result.isPresent()) {
-				discoveryListener.selectorProcessed(engineId, selector, resolved());
-				enqueueAdditionalSelectors(result.get());
+				notifySelectorProcessed(selector, resolved());
+				enqueueAdditionalSelectors(result.get(), additionalSelectors);
 			}
 			else {
-				discoveryListener.selectorProcessed(engineId, selector, unresolved());
+				notifySelectorProcessed(selector, unresolved());
 			}
 		}
 		catch (Throwable t) {
 			rethrowIfBlacklisted(t);
-			discoveryListener.selectorProcessed(engineId, selector, failed(t));
+			notifySelectorProcessed(selector, failed(t));
+		}
+	}
+
+	private void notifySelectorProcessed(DiscoverySelector selector, SelectorResolutionResult result) {
+		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
+		if (isParallel()) {
+			synchronized (this) {
+				discoveryListener.selectorProcessed(engineDescriptor.getUniqueId(), selector, result);
+			}
+		}
+		else {
+			discoveryListener.selectorProcessed(engineDescriptor.getUniqueId(), selector, result);
 		}
 	}
 
-	private void enqueueAdditionalSelectors(Resolution resolution) {
-		remainingSelectors.addAll(resolution.getSelectors());
+	private void enqueueAdditionalSelectors(Resolution resolution,
+			Collection<DiscoverySelector> additionalSelectors) {
+		additionalSelectors.addAll(resolution.getSelectors());
 		resolution.getMatches().stream().filter(Match::isExact).forEach(match -> {
 			Set<? extends DiscoverySelector> childSelectors = match.expand();
 			if (!childSelectors.isEmpty()) {
-				remainingSelectors.addAll(childSelectors);
+				additionalSelectors.addAll(childSelectors);
 				DefaultContext context = new DefaultContext(match.getTestDescriptor());
 				childSelectors.forEach(selector -> contextBySelector.put(selector, context));
 			}
@@ -116,9 +288,24 @@ class EngineDiscoveryRequestResolution {
 	}
 
 	private Optional<Resolution> resolve(DiscoverySelector selector) {
-		if (resolvedSelectors.containsKey(selector)) {
-			return Optional.of(resolvedSelectors.get(selector));
+		Resolution resolution = resolvedSelectors.get(selector);
+		if (resolution != null) {
+			return Optional.of(recordSelectorIndex(resolution));
+		}
+		if (!isParallel()) {
+			return resolveUncached(selector);
 		}
+		// Resolve each selector only once even if it is the parent of several selectors
+		synchronized (selectorLocks.computeIfAbsent(selector, key -> new Object())) {
+			resolution = resolvedSelectors.get(selector);
+			if (resolution != null) {
+				return Optional.of(recordSelectorIndex(resolution));
+			}
+			return resolveUncached(selector);
+		}
+	}
+
+	private Optional<Resolution> resolveUncached(DiscoverySelector selector) {
 		if (selector instanceof UniqueIdSelector) {
 			return resolveUniqueId((UniqueIdSelector) selector);
 		}
@@ -163,8 +350,9 @@ class EngineDiscoveryRequestResolution {
 
 	private Optional<Resolution> resolveUniqueId(UniqueIdSelector selector) {
 		UniqueId uniqueId = selector.getUniqueId();
-		if (resolvedUniqueIds.containsKey(uniqueId)) {
-			return Optional.of(Resolution.match(resolvedUniqueIds.get(uniqueId)));
+		Match resolvedMatch = resolvedUniqueIds.get(uniqueId);
+		if (resolvedMatch != null) {
+			return Optional.of(recordSelectorIndex(Resolution.match(resolvedMatch)));
 		}
 		if (!uniqueId.hasPrefix(engineDescriptor.getUniqueId())) {
 			return Optional.empty();
@@ -247,13 +435,53 @@ class EngineDiscoveryRequestResolution {
 			if (child.isPresent()) {
 				UniqueId uniqueId = child.get().getUniqueId();
 				if (resolvedUniqueIds.containsKey(uniqueId)) {
-					return Optional.of((T) resolvedUniqueIds.get(uniqueId).getTestDescriptor());
+					TestDescriptor resolvedDescriptor = resolvedUniqueIds.get(uniqueId).getTestDescriptor();
+					recordSelectorIndex(resolvedDescriptor);
+					return Optional.of((T) resolvedDescriptor);
+				}
+				if (isParallel()) {
+					return Optional.of((T) addInParallel(parent, child.get()));
 				}
 				parent.addChild(child.get());
 			}
 			return child;
 		}
 
+		/**
+		 * Add the supplied child unless a descriptor with the same unique ID
+		 * was already added by a selector that is resolved concurrently.
+		 *
+		 * @return the added or previously added descriptor
+		 */
+		private TestDescriptor addInParallel(TestDescriptor parent, TestDescriptor child) {
+			synchronized (addedDescriptors) {
+				AddedDescriptor added = addedDescriptors.get(child.getUniqueId());
+				if (added != null) {
+					recordSelectorIndex(added.descriptor);
+					return added.descriptor;
+				}
+				parent.addChild(child);
+				addedDescriptors.put(child.getUniqueId(), new AddedDescriptor(child, currentSelectorIndex.get()));
+				return child;
+			}
+		}
+
+	}
+
+	/**
+	 * Descriptor added while resolving selectors in parallel along with the
+	 * index of the first selector of the current round that yielded it.
+	 */
+	private static class AddedDescriptor {
+
+		private final TestDescriptor descriptor;
+		private int selectorIndex;
+
+		AddedDescriptor(TestDescriptor descriptor, int selectorIndex) {
+			this.descriptor = descriptor;
+			this.selectorIndex = selectorIndex;
+		}
+
 	}
 
 }
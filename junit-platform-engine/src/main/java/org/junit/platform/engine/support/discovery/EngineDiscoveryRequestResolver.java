@@ -10,15 +10,19 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toCollection;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ClasspathScanCache;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -51,6 +55,96 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
 @API(status = EXPERIMENTAL, since = "1.5")
 public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 
+	/**
+	 * Property name used to enable inspecting class files before loading them
+	 * when resolving class containers: {@value}
+	 *
+	 * <p>If enabled, resolvers added via
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate, Set)} only
+	 * load classes whose class files reference one of the candidate
+	 * annotations, an annotation declared in the same classpath root that is
+	 * meta-annotated with one of them, or might inherit them. Classes that
+	 * are only annotated with composed annotations declared in other
+	 * classpath roots or JARs are not discovered in this mode.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME = "junit.platform.discovery.classfile.prefilter.enabled";
+
+	/**
+	 * Property name used to set the directory in which classpath scanning
+	 * caches the class files rejected by each engine: {@value}
+	 *
+	 * <p>If set, resolvers added via
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate)} or
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate, Set)} store
+	 * the size and last modification time of class files in classpath root
+	 * directories whose classes did not satisfy their predicate in a file
+	 * named after the engine ID. Subsequent runs do not load these classes
+	 * again until their class files change. Classes that extend other
+	 * classes, implement interfaces, or declare nested classes are not
+	 * cached since their test methods may be declared in other class files.
+	 * Classes that use annotations not declared by the JDK are not cached
+	 * either since changes to these annotations, for example adding a
+	 * meta-annotation, may change whether they satisfy the predicate.
+	 *
+	 * <p>No default value; if not set, no cache is used.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String DISCOVERY_CACHE_DIR_PROPERTY_NAME = "junit.platform.discovery.cache.dir";
+
+	/**
+	 * Property name used to enable only loading the test classes listed in
+	 * test indexes when resolving class containers: {@value}
+	 *
+	 * <p>If enabled, resolvers added via
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate)} or
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate, Set)} only
+	 * load the classes listed in the {@code META-INF/junit-platform/test-index}
+	 * resource of classpath roots and JARs that contain one, instead of all
+	 * of their classes. The index is generated at compile time by the
+	 * {@code junit-platform-index} annotation processor. Classes it does not
+	 * consider test classes, for example classes of test engines that do not
+	 * use annotations, are not discovered in this mode. Indexes in classpath
+	 * root directories are ignored if they do not list all top-level types
+	 * of the directory; however, changes to existing classes that were
+	 * compiled without the annotation processor afterwards, for example by
+	 * an IDE, are not detected.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String TEST_INDEX_ENABLED_PROPERTY_NAME = "junit.platform.discovery.index.enabled";
+
+	/**
+	 * Property name used to set the number of threads used to resolve
+	 * selectors: {@value}
+	 *
+	 * <p>If set to a value greater than {@code 1}, all selectors of the
+	 * request are resolved concurrently, followed by all selectors they
+	 * yield, and so on. The resulting tree of test descriptors is the same as
+	 * when resolving sequentially. Adding test descriptors to their parents
+	 * via the {@link SelectorResolver.Context Context} is synchronized, and
+	 * the predefined class container resolver writes its scan cache only once
+	 * after all selectors have been resolved. Any other state that custom
+	 * {@link SelectorResolver SelectorResolvers} or the test descriptors they
+	 * create share between selectors, for example filters collected on a
+	 * common parent, must be thread-safe in this case.
+	 *
+	 * <p>Defaults to {@code 1}.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME = "junit.platform.discovery.selectors.parallelism";
+
 	private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators;
 	private final List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators;
 
@@ -110,7 +204,17 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		InitializationContext<T> initializationContext = new DefaultInitializationContext<>(request, engineDescriptor);
 		List<SelectorResolver> resolvers = instantiate(resolverCreators, initializationContext);
 		List<TestDescriptor.Visitor> visitors = instantiate(visitorCreators, initializationContext);
-		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors).run();
+		int parallelism = request.getConfigurationParameters().get(SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME,
+			Integer::parseInt).orElse(1);
+		Preconditions.condition(parallelism > 0,
+			() -> SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME + " must be greater than zero: " + parallelism);
+		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors, parallelism).run();
+		// @formatter:off
+		resolvers.stream()
+				.filter(ClassContainerSelectorResolver.class::isInstance)
+				.map(ClassContainerSelectorResolver.class::cast)
+				.forEach(ClassContainerSelectorResolver::saveScanCache);
+		// @formatter:on
 	}
 
 	private <R> List<R> instantiate(List<Function<InitializationContext<T>, R>> creators,
@@ -157,7 +261,62 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		public Builder<T> addClassContainerSelectorResolver(Predicate<Class<?>> classFilter) {
 			Preconditions.notNull(classFilter, "classFilter must not be null");
 			return addSelectorResolver(
-				context -> new ClassContainerSelectorResolver(classFilter, context.getClassNameFilter()));
+				context -> createClassContainerSelectorResolver(context, classFilter, emptySet()));
+		}
+
+		/**
+		 * Add a predefined resolver that resolves {@link ClasspathRootSelector
+		 * ClasspathRootSelectors}, {@link ModuleSelector ModuleSelectors}, and
+		 * {@link PackageSelector PackageSelectors} into {@link ClassSelector
+		 * ClassSelectors} by scanning for classes that satisfy the supplied
+		 * predicate in the respective class containers to this builder.
+		 *
+		 * <p>If the {@value EngineDiscoveryRequestResolver#CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME}
+		 * configuration parameter is set to {@code true}, classes in classpath
+		 * roots and packages that cannot satisfy the predicate because they
+		 * neither reference nor inherit one of the supplied annotations are
+		 * not loaded.
+		 *
+		 * @param classFilter predicate the resolved classes must satisfy; never
+		 * {@code null}
+		 * @param candidateAnnotationNames the fully qualified names of the
+		 * annotations that all classes satisfying the predicate reference
+		 * directly or via meta-annotations; never {@code null}
+		 * @return this builder for method chaining
+		 * @since 1.6
+		 */
+		@API(status = EXPERIMENTAL, since = "1.6")
+		public Builder<T> addClassContainerSelectorResolver(Predicate<Class<?>> classFilter,
+				Set<String> candidateAnnotationNames) {
+			Preconditions.notNull(classFilter, "classFilter must not be null");
+			Preconditions.notNull(candidateAnnotationNames, "candidateAnnotationNames must not be null");
+			return addSelectorResolver(context -> {
+				boolean prefilterEnabled = context.getDiscoveryRequest().getConfigurationParameters().getBoolean(
+					CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME).orElse(false);
+				return createClassContainerSelectorResolver(context, classFilter,
+					prefilterEnabled ? candidateAnnotationNames : emptySet());
+			});
+		}
+
+		private SelectorResolver createClassContainerSelectorResolver(InitializationContext<T> context,
+				Predicate<Class<?>> classFilter, Set<String> candidateAnnotationNames) {
+			// @formatter:off
+			ClasspathScanCache scanCache = context.getDiscoveryRequest().getConfigurationParameters()
+					.get(DISCOVERY_CACHE_DIR_PROPERTY_NAME)
+					.map(String::trim)
+					.filter(dir -> !dir.isEmpty())
+					.map(dir -> Paths.get(dir).resolve(getEngineId(context) + ".properties"))
+					.map(ClasspathScanCache::load)
+					.orElse(null);
+			// @formatter:on
+			boolean testIndexEnabled = context.getDiscoveryRequest().getConfigurationParameters().getBoolean(
+				TEST_INDEX_ENABLED_PROPERTY_NAME).orElse(false);
+			return new ClassContainerSelectorResolver(classFilter, context.getClassNameFilter(),
+				candidateAnnotationNames, scanCache, testIndexEnabled);
+		}
+
+		private String getEngineId(InitializationContext<T> context) {
+			return context.getEngineDescriptor().getUniqueId().getEngineId().orElse("engine");
 		}
 
 		/**
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Periodically samples the system load, the number of blocked worker threads,
+ * and the heap usage and adjusts the effective parallelism of a
+ * {@link ForkJoinPool} accordingly.
+ *
+ * <p>The parallelism of the pool itself can only be changed on Java 19 and
+ * later. On earlier versions, only the amount of work that is eagerly forked
+ * by {@link ForkJoinPoolHierarchicalTestExecutorService} is adjusted.
+ *
+ * @since 1.6
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ */
+class AdaptiveParallelismController implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	private static final Method setParallelismMethod = ReflectionUtils.findMethod(ForkJoinPool.class,
+		"setParallelism", int.class).orElse(null);
+
+	static final double HEAP_PRESSURE_THRESHOLD = 0.9;
+	static final double CPU_OVERLOAD_THRESHOLD = 1.0;
+	static final double CPU_IDLE_THRESHOLD = 0.75;
+
+	private final ForkJoinPool forkJoinPool;
+	private final Collection<Thread> workerThreads;
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final IntConsumer parallelismListener;
+	private final ScheduledExecutorService scheduler;
+	private final OperatingSystemMXBean operatingSystem;
+	private final MemoryMXBean memory;
+
+	private volatile int parallelism;
+
+	AdaptiveParallelismController(ForkJoinPool forkJoinPool, Collection<Thread> workerThreads,
+			ParallelExecutionConfiguration configuration, long samplingIntervalMillis,
+			IntConsumer parallelismListener) {
+		this(forkJoinPool, workerThreads, configuration, samplingIntervalMillis, parallelismListener,
+			ManagementFactory.getOperatingSystemMXBean(), ManagementFactory.getMemoryMXBean());
+	}
+
+	AdaptiveParallelismController(ForkJoinPool forkJoinPool, Collection<Thread> workerThreads,
+			ParallelExecutionConfiguration configuration, long samplingIntervalMillis,
+			IntConsumer parallelismListener, OperatingSystemMXBean operatingSystem, MemoryMXBean memory) {
+		this.forkJoinPool = forkJoinPool;
+		this.workerThreads = workerThreads;
+		this.minParallelism = 1;
+		this.maxParallelism = Math.max(configuration.getParallelism(), configuration.getMaxPoolSize());
+		this.parallelismListener = parallelismListener;
+		this.operatingSystem = operatingSystem;
+		this.memory = memory;
+		this.parallelism = forkJoinPool.getParallelism();
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-adaptive-parallelism");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (setParallelismMethod == null) {
+			logger.config(() -> "ForkJoinPool.setParallelism(int) is not available; "
+					+ "adapting only the amount of eagerly forked tasks");
+		}
+		scheduler.scheduleWithFixedDelay(this::adjustParallelism, samplingIntervalMillis, samplingIntervalMillis,
+			TimeUnit.MILLISECONDS);
+	}
+
+	void adjustParallelism() {
+		try {
+			LoadSample sample = sample();
+			int newParallelism = computeParallelism(parallelism, minParallelism, maxParallelism, sample);
+			if (newParallelism != parallelism) {
+				logger.debug(() -> String.format("Changing parallelism from %d to %d (%s)", parallelism,
+					newParallelism, sample));
+				parallelism = newParallelism;
+				if (setParallelismMethod != null) {
+					ReflectionUtils.invokeMethod(setParallelismMethod, forkJoinPool, newParallelism);
+				}
+				parallelismListener.accept(newParallelism);
+			}
+		}
+		catch (Throwable t) {
+			// Never let a failure kill the scheduled sampling task
+			logger.warn(t, () -> "Failed to adjust parallelism");
+		}
+	}
+
+	LoadSample sample() {
+		double loadAverage = operatingSystem.getSystemLoadAverage();
+		double cpuLoad = loadAverage < 0 ? -1 : loadAverage / operatingSystem.getAvailableProcessors();
+		MemoryUsage heap = memory.getHeapMemoryUsage();
+		long maxHeap = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+		double heapUsage = maxHeap > 0 ? (double) heap.getUsed() / maxHeap : 0;
+		int idleWorkers = Math.max(0, forkJoinPool.getPoolSize() - forkJoinPool.getActiveThreadCount());
+		int blockedWorkers = Math.max(0, countWaitingWorkerThreads() - idleWorkers);
+		boolean pendingWork = forkJoinPool.hasQueuedSubmissions() || forkJoinPool.getQueuedTaskCount() > 0;
+		return new LoadSample(cpuLoad, blockedWorkers, pendingWork, heapUsage);
+	}
+
+	private int countWaitingWorkerThreads() {
+		int waiting = 0;
+		for (Thread thread : workerThreads) {
+			switch (thread.getState()) {
+				case BLOCKED:
+				case WAITING:
+				case TIMED_WAITING:
+					waiting++;
+					break;
+				case TERMINATED:
+					workerThreads.remove(thread);
+					break;
+				default:
+					break;
+			}
+		}
+		return waiting;
+	}
+
+	/**
+	 * Compute the new parallelism based on the current one and the supplied
+	 * sample.
+	 *
+	 * <p>Parallelism is decreased if the heap is almost exhausted or the CPU is
+	 * overloaded while no worker thread is blocked. It is increased if there is
+	 * pending work and worker threads are blocked or the CPU is underutilized.
+	 */
+	static int computeParallelism(int current, int min, int max, LoadSample sample) {
+		int result = current;
+		if (sample.heapUsage >= HEAP_PRESSURE_THRESHOLD) {
+			result = current - Math.max(1, current / 4);
+		}
+		else if (sample.cpuLoad > CPU_OVERLOAD_THRESHOLD && sample.blockedWorkers == 0) {
+			result = current - 1;
+		}
+		else if (sample.pendingWork && sample.blockedWorkers > 0) {
+			result = current + sample.blockedWorkers;
+		}
+		else if (sample.pendingWork && sample.cpuLoad >= 0 && sample.cpuLoad < CPU_IDLE_THRESHOLD) {
+			result = current + 1;
+		}
+		return Math.max(min, Math.min(max, result));
+	}
+
+	int getParallelism() {
+		return parallelism;
+	}
+
+	boolean isClosed() {
+		return scheduler.isShutdown();
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Snapshot of the load values relevant for adjusting the parallelism.
+	 */
+	static class LoadSample {
+
+		/**
+		 * System load per available processor or a negative value if unknown.
+		 */
+		final double cpuLoad;
+		final int blockedWorkers;
+		final boolean pendingWork;
+		final double heapUsage;
+
+		LoadSample(double cpuLoad, int blockedWorkers, boolean pendingWork, double heapUsage) {
+			this.cpuLoad = cpuLoad;
+			this.blockedWorkers = blockedWorkers;
+			this.pendingWork = pendingWork;
+			this.heapUsage = heapUsage;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("cpuLoad=%.2f, blockedWorkers=%d, pendingWork=%b, heapUsage=%.2f", cpuLoad,
+				blockedWorkers, pendingWork, heapUsage);
+		}
+	}
+
+}
@@ -51,6 +51,17 @@ class CompositeLock implements ResourceLock {
 		}
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		for (int i = 0; i < locks.size(); i++) {
+			if (!locks.get(i).tryLock()) {
+				release(locks.subList(0, i));
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public void release() {
 		release(locks);
@@ -91,6 +91,26 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 					.getOrThrow(cause -> new JUnitException(
 						"Could not create configuration for strategy class: " + className, cause));
 		}
+	},
+
+	/**
+	 * Starts with the parallelism computed by the {@link #DYNAMIC} strategy and
+	 * periodically adjusts it during execution based on the system load, the
+	 * number of blocked worker threads, and the heap usage, without exceeding
+	 * the maximum pool size.
+	 *
+	 * <p>The sampling interval can be configured via the
+	 * {@value CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME} configuration
+	 * parameter.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			return DYNAMIC.createConfiguration(configurationParameters);
+		}
 	};
 
 	private static final int KEEP_ALIVE_SECONDS = 30;
@@ -98,8 +118,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code custom}, or {@code adaptive}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -123,6 +143,18 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = "dynamic.factor";
 
+	/**
+	 * Property name of the interval in milliseconds at which the
+	 * {@link #ADAPTIVE} configuration strategy samples the current load.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1000}.
+	 *
+	 * @see #ADAPTIVE
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME = "adaptive.sampling.interval";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -132,6 +164,17 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_CUSTOM_CLASS_PROPERTY_NAME = "custom.class";
 
+	static final long DEFAULT_ADAPTIVE_SAMPLING_INTERVAL_MILLIS = 1000;
+
+	static long getAdaptiveSamplingIntervalMillis(ConfigurationParameters configurationParameters) {
+		long interval = configurationParameters.get(CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME,
+			Long::valueOf).orElse(DEFAULT_ADAPTIVE_SAMPLING_INTERVAL_MILLIS);
+		Preconditions.condition(interval > 0,
+			() -> String.format("Interval '%d' specified via configuration parameter '%s' must be greater than 0",
+				interval, CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME));
+		return interval;
+	}
+
 	static ParallelExecutionConfigurationStrategy getStrategy(ConfigurationParameters configurationParameters) {
 		return valueOf(configurationParameters.get(CONFIG_STRATEGY_PROPERTY_NAME).orElse("dynamic").toUpperCase());
 	}
@@ -31,6 +31,7 @@ public class ExclusiveResource {
 
 	private final String key;
 	private final LockMode lockMode;
+	private final int permits;
 	private int hash;
 
 	/**
@@ -41,8 +42,34 @@ public class ExclusiveResource {
 	 * resource; never {@code null}
 	 */
 	public ExclusiveResource(String key, LockMode lockMode) {
+		this(key, lockMode, 0);
+	}
+
+	/**
+	 * Create a new {@code ExclusiveResource} that may be used by a limited
+	 * number of nodes concurrently.
+	 *
+	 * <p>If {@code permits} is greater than zero, up to the given number of
+	 * nodes that declare this resource may be executed concurrently
+	 * regardless of the lock mode. Nodes that declare a resource with the
+	 * same key without permits require all permits for the
+	 * {@link LockMode#READ_WRITE READ_WRITE} lock mode and a single permit for
+	 * the {@link LockMode#READ READ} lock mode.
+	 *
+	 * @param key the identifier of the resource; never {@code null} or blank
+	 * @param lockMode the lock mode to use to synchronize access to the
+	 * resource; never {@code null}
+	 * @param permits the maximum number of nodes that may use the resource
+	 * concurrently; must not be negative; {@code 0} if access should only be
+	 * synchronized based on the lock mode
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public ExclusiveResource(String key, LockMode lockMode, int permits) {
 		this.key = Preconditions.notBlank(key, "key must not be blank");
 		this.lockMode = Preconditions.notNull(lockMode, "lockMode must not be null");
+		Preconditions.condition(permits >= 0, "permits must not be negative");
+		this.permits = permits;
 	}
 
 	/**
@@ -59,6 +86,18 @@ public class ExclusiveResource {
 		return lockMode;
 	}
 
+	/**
+	 * Get the maximum number of nodes that may use this resource concurrently.
+	 *
+	 * @return the number of permits; {@code 0} if access is only synchronized
+	 * based on the {@linkplain #getLockMode() lock mode}
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public int getPermits() {
+		return permits;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -68,21 +107,22 @@ public class ExclusiveResource {
 			return false;
 		}
 		ExclusiveResource that = (ExclusiveResource) o;
-		return Objects.equals(key, that.key) && lockMode == that.lockMode;
+		return Objects.equals(key, that.key) && lockMode == that.lockMode && permits == that.permits;
 	}
 
 	@Override
 	public int hashCode() {
 		int h = hash;
 		if (h == 0) {
-			h = hash = Objects.hash(key, lockMode);
+			h = hash = Objects.hash(key, lockMode, permits);
 		}
 		return h;
 	}
 
 	@Override
 	public String toString() {
-		return new ToStringBuilder(this).append("key", key).append("lockMode", lockMode).toString();
+		return new ToStringBuilder(this).append("key", key).append("lockMode", lockMode).append("permits",
+			permits).toString();
 	}
 
 	/**
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Comparator.comparingLong;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Stores the execution durations of nodes keyed by their {@link UniqueId} in
+ * a local file so they can be used to schedule nodes with longer expected
+ * durations first in subsequent runs.
+ *
+ * @since 1.6
+ * @see HierarchicalTestEngine#EXECUTION_DURATIONS_FILE_PROPERTY_NAME
+ */
+class ExecutionDurationStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExecutionDurationStore.class);
+
+	private static final long UNKNOWN_DURATION = Long.MAX_VALUE;
+
+	/**
+	 * Monitors used to serialize saving durations to the same file, keyed by
+	 * its normalized absolute path, since multiple engines may be executed
+	 * concurrently.
+	 */
+	private static final ConcurrentMap<Path, Object> fileLocks = new ConcurrentHashMap<>();
+
+	static final ExecutionDurationStore DISABLED = new ExecutionDurationStore(null, new ConcurrentHashMap<>());
+
+	static ExecutionDurationStore create(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(HierarchicalTestEngine.EXECUTION_DURATIONS_FILE_PROPERTY_NAME) //
+				.map(String::trim) //
+				.filter(path -> !path.isEmpty()) //
+				.map(path -> load(Paths.get(path))) //
+				.orElse(DISABLED);
+	}
+
+	static ExecutionDurationStore load(Path file) {
+		return new ExecutionDurationStore(file, read(file));
+	}
+
+	private final Path file;
+	private final Map<String, Long> expectedDurations;
+	private final Map<String, Long> recordedDurations = new ConcurrentHashMap<>();
+
+	private ExecutionDurationStore(Path file, Map<String, Long> expectedDurations) {
+		this.file = file;
+		this.expectedDurations = expectedDurations;
+	}
+
+	boolean isEnabled() {
+		return file != null;
+	}
+
+	/**
+	 * Get the duration in nanoseconds recorded for the supplied descriptor in
+	 * a previous run, or {@link Long#MAX_VALUE} if it is unknown.
+	 */
+	long getExpectedDuration(TestDescriptor testDescriptor) {
+		return expectedDurations.getOrDefault(testDescriptor.getUniqueId().toString(), UNKNOWN_DURATION);
+	}
+
+	void record(TestDescriptor testDescriptor, long durationInNanos) {
+		if (isEnabled()) {
+			recordedDurations.put(testDescriptor.getUniqueId().toString(), durationInNanos);
+		}
+	}
+
+	/**
+	 * Sort the supplied tasks so that {@linkplain Node.ExecutionMode#CONCURRENT
+	 * concurrent} tasks are ordered by descending expected duration.
+	 *
+	 * <p>Tasks with unknown durations are treated as the longest ones. All
+	 * other tasks retain their positions so that their declared order is
+	 * preserved.
+	 */
+	<T extends NodeTestTask<?>> List<T> sortByDescendingExpectedDuration(List<T> tasks) {
+		if (!isEnabled() || tasks.size() < 2) {
+			return tasks;
+		}
+		boolean[] concurrent = new boolean[tasks.size()];
+		List<T> concurrentTasks = new ArrayList<>(tasks.size());
+		for (int i = 0; i < tasks.size(); i++) {
+			T task = tasks.get(i);
+			if (task.getExecutionMode() == CONCURRENT) {
+				concurrent[i] = true;
+				concurrentTasks.add(task);
+			}
+		}
+		if (concurrentTasks.size() < 2) {
+			return tasks;
+		}
+		concurrentTasks.sort(comparingLong((T task) -> getExpectedDuration(task.getTestDescriptor())).reversed());
+		Iterator<T> sortedConcurrentTasks = concurrentTasks.iterator();
+		List<T> sortedTasks = new ArrayList<>(tasks.size());
+		for (int i = 0; i < tasks.size(); i++) {
+			sortedTasks.add(concurrent[i] ? sortedConcurrentTasks.next() : tasks.get(i));
+		}
+		return sortedTasks;
+	}
+
+	/**
+	 * Write all durations recorded during this run to the file, retaining
+	 * durations of nodes that were not executed.
+	 *
+	 * <p>The file is replaced atomically, if supported by the file system, so
+	 * that concurrent readers never see a partially written file.
+	 */
+	void save() {
+		if (!isEnabled() || recordedDurations.isEmpty()) {
+			return;
+		}
+		Path target = file.toAbsolutePath().normalize();
+		synchronized (fileLocks.computeIfAbsent(target, key -> new Object())) {
+			// Re-read the file in case another engine has updated it in the meantime
+			Map<String, Long> durations = read(target);
+			durations.putAll(recordedDurations);
+			Properties properties = new Properties();
+			durations.forEach((uniqueId, duration) -> properties.setProperty(uniqueId, String.valueOf(duration)));
+			try {
+				Path parent = target.getParent();
+				if (parent != null) {
+					Files.createDirectories(parent);
+				}
+				Path tempFile = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+				try {
+					try (OutputStream out = Files.newOutputStream(tempFile)) {
+						properties.store(out, "JUnit Platform execution durations in nanoseconds");
+					}
+					replace(tempFile, target);
+				}
+				finally {
+					Files.deleteIfExists(tempFile);
+				}
+			}
+			catch (IOException e) {
+				logger.warn(e, () -> "Failed to write execution durations to " + file);
+			}
+		}
+	}
+
+	private static void replace(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static Map<String, Long> read(Path file) {
+		Map<String, Long> durations = new ConcurrentHashMap<>();
+		if (!Files.isRegularFile(file)) {
+			return durations;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Failed to read execution durations from " + file);
+			return durations;
+		}
+		for (String uniqueId : properties.stringPropertyNames()) {
+			try {
+				durations.put(uniqueId, Long.parseLong(properties.getProperty(uniqueId)));
+			}
+			catch (NumberFormatException e) {
+				logger.debug(() -> "Ignoring invalid execution duration for " + uniqueId);
+			}
+		}
+		return durations;
+	}
+
+}
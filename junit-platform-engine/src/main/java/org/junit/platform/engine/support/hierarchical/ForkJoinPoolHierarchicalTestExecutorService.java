@@ -10,22 +10,26 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.newSetFromMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
 
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
-import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -33,6 +37,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.FlightRecorderEventType.FlightRecorderEvent;
 import org.junit.platform.engine.ConfigurationParameters;
 
 /**
@@ -40,6 +45,14 @@ import org.junit.platform.engine.ConfigurationParameters;
  * {@linkplain HierarchicalTestExecutorService executor service} that executes
  * {@linkplain TestTask test tasks} with the configured parallelism.
  *
+ * <p>By default, a worker thread that executes a task whose
+ * {@linkplain TestTask#getResourceLock() resource lock} is currently held by
+ * another task blocks until the lock becomes available. If the
+ * {@value #CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME} configuration parameter
+ * is set to {@code true}, such tasks are deferred instead and resubmitted once
+ * another task releases its resource lock so that worker threads are free to
+ * execute other tasks in the meantime.
+ *
  * @see ForkJoinPool
  * @see DefaultParallelExecutionConfigurationStrategy
  * @since 1.3
@@ -47,8 +60,26 @@ import org.junit.platform.engine.ConfigurationParameters;
 @API(status = EXPERIMENTAL, since = "1.3")
 public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
 
+	/**
+	 * Property name used to enable deferring tasks whose resource locks are
+	 * currently unavailable instead of blocking the worker thread.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME = "lock.deferral.enabled";
+
+	private static final Runnable NOOP = () -> {
+	};
+
 	private final ForkJoinPool forkJoinPool;
-	private final int parallelism;
+	private final List<ExclusiveTask> deferredTasks;
+	private final AdaptiveParallelismController parallelismController;
+	private final AtomicInteger requestedAdditionalWorkers = new AtomicInteger();
+	private volatile int parallelism;
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
@@ -57,16 +88,26 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 * @see DefaultParallelExecutionConfigurationStrategy
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		forkJoinPool = createForkJoinPool(configurationParameters);
-		parallelism = forkJoinPool.getParallelism();
-		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
-	}
-
-	private ForkJoinPool createForkJoinPool(ConfigurationParameters configurationParameters) {
 		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
 			configurationParameters);
 		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configurationParameters);
-		ForkJoinWorkerThreadFactory threadFactory = new WorkerThreadFactory();
+		boolean adaptive = strategy == DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		Set<Thread> workerThreads = adaptive ? newSetFromMap(new ConcurrentHashMap<>()) : null;
+		forkJoinPool = createForkJoinPool(configuration, new WorkerThreadFactory(workerThreads));
+		parallelism = forkJoinPool.getParallelism();
+		parallelismController = adaptive ? new AdaptiveParallelismController(forkJoinPool, workerThreads,
+			configuration,
+			DefaultParallelExecutionConfigurationStrategy.getAdaptiveSamplingIntervalMillis(configurationParameters),
+			this::updateParallelism) : null;
+		boolean lockDeferralEnabled = configurationParameters.getBoolean(
+			CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME).orElse(false);
+		deferredTasks = lockDeferralEnabled ? new ArrayList<>() : null;
+		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with " + (adaptive ? "initial " : "")
+				+ "parallelism of " + parallelism + (lockDeferralEnabled ? " and deferred lock acquisition" : ""));
+	}
+
+	private ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration,
+			ForkJoinWorkerThreadFactory threadFactory) {
 		return Try.call(() -> {
 			// Try to use constructor available in Java >= 9
 			Constructor<ForkJoinPool> constructor = ForkJoinPool.class.getDeclaredConstructor(Integer.TYPE,
@@ -105,6 +146,29 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		return completedFuture(null);
 	}
 
+	private void updateParallelism(int newParallelism) {
+		int delta = newParallelism - parallelism;
+		parallelism = newParallelism;
+		if (delta > 0) {
+			requestedAdditionalWorkers.addAndGet(delta);
+			// Workers only look for new work when signalled, so submitting a
+			// task ensures at least one idle or new worker becomes active.
+			forkJoinPool.execute(NOOP);
+		}
+	}
+
+	/**
+	 * Forking a task into the usually empty queue of the current worker thread
+	 * makes the pool activate idle workers or create new ones up to its current
+	 * parallelism.
+	 */
+	private void signalAdditionalWorkersIfRequested() {
+		int requested = requestedAdditionalWorkers.get();
+		if (requested > 0 && requestedAdditionalWorkers.compareAndSet(requested, requested - 1)) {
+			ForkJoinTask.adapt(NOOP).fork();
+		}
+	}
+
 	private boolean isAlreadyRunningInForkJoinPool() {
 		return ForkJoinTask.getPool() == forkJoinPool;
 	}
@@ -149,30 +213,129 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	private void resubmitDeferredTasks() {
+		if (deferredTasks == null) {
+			return;
+		}
+		List<ExclusiveTask> tasksToResubmit;
+		synchronized (deferredTasks) {
+			if (deferredTasks.isEmpty()) {
+				return;
+			}
+			tasksToResubmit = new ArrayList<>(deferredTasks);
+			deferredTasks.clear();
+		}
+		tasksToResubmit.forEach(forkJoinPool::execute);
+	}
+
+	AdaptiveParallelismController getParallelismController() {
+		return parallelismController;
+	}
+
+	@Override
+	public boolean executesConcurrently() {
+		return true;
+	}
+
 	@Override
 	public void close() {
+		if (parallelismController != null) {
+			parallelismController.close();
+		}
 		forkJoinPool.shutdownNow();
 	}
 
 	// this class cannot not be serialized because TestTask is not Serializable
 	@SuppressWarnings("serial")
-	static class ExclusiveTask extends RecursiveAction {
+	class ExclusiveTask extends ForkJoinTask<Void> {
 
 		private final TestTask testTask;
+		private FlightRecorderEvent lockWaitEvent;
 
 		ExclusiveTask(TestTask testTask) {
 			this.testTask = testTask;
 		}
 
-		@SuppressWarnings("try")
 		@Override
-		public void compute() {
-			try (ResourceLock lock = testTask.getResourceLock().acquire()) {
+		public Void getRawResult() {
+			return null;
+		}
+
+		@Override
+		protected void setRawResult(Void value) {
+			// nothing to do
+		}
+
+		@Override
+		protected boolean exec() {
+			signalAdditionalWorkersIfRequested();
+			if (deferredTasks == null) {
+				compute();
+				return true;
+			}
+			return computeUnlessLocked();
+		}
+
+		/**
+		 * Execute the task in the current thread, blocking until its resource
+		 * lock has been acquired.
+		 */
+		@SuppressWarnings("try")
+		void compute() {
+			try (ResourceLock lock = ResourceLockAcquisition.acquire(testTask)) {
 				testTask.execute();
 			}
 			catch (InterruptedException e) {
 				ExceptionUtils.throwAsUncheckedException(e);
 			}
+			finally {
+				resubmitDeferredTasks();
+			}
+		}
+
+		/**
+		 * Execute the task in the current thread if its resource lock is
+		 * available; otherwise, defer it until another task has released its
+		 * resource lock.
+		 *
+		 * @return {@code true} if the task was executed; {@code false} if it
+		 * was deferred and is thus not yet completed
+		 */
+		private boolean computeUnlessLocked() {
+			ResourceLock lock = testTask.getResourceLock();
+			// Trying to acquire the lock while holding the monitor ensures the
+			// task is either executed or resubmitted by the next task that
+			// releases its lock.
+			synchronized (deferredTasks) {
+				if (!tryAcquire(lock)) {
+					if (lockWaitEvent == null) {
+						lockWaitEvent = ResourceLockAcquisition.beginWait();
+					}
+					deferredTasks.add(this);
+					return false;
+				}
+			}
+			if (lockWaitEvent != null) {
+				ResourceLockAcquisition.endWait(lockWaitEvent, testTask);
+				lockWaitEvent = null;
+			}
+			try {
+				testTask.execute();
+			}
+			finally {
+				lock.release();
+				resubmitDeferredTasks();
+			}
+			return true;
+		}
+
+		private boolean tryAcquire(ResourceLock lock) {
+			try {
+				return lock.tryAcquire();
+			}
+			catch (InterruptedException e) {
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
 		}
 
 	}
@@ -180,10 +343,19 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
 		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		private final Set<Thread> workerThreads;
+
+		WorkerThreadFactory(Set<Thread> workerThreads) {
+			this.workerThreads = workerThreads;
+		}
 
 		@Override
 		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
-			return new WorkerThread(pool, contextClassLoader);
+			WorkerThread thread = new WorkerThread(pool, contextClassLoader);
+			if (workerThreads != null) {
+				workerThreads.add(thread);
+			}
+			return thread;
 		}
 	}
 
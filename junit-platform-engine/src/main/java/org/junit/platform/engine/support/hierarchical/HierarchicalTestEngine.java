@@ -29,6 +29,29 @@ import org.junit.platform.engine.TestEngine;
 @API(status = MAINTAINED, since = "1.0")
 public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> implements TestEngine {
 
+	/**
+	 * Property name used to specify the path of a file in which the execution
+	 * durations of all nodes are stored after each run: {@value}
+	 *
+	 * <p>If set, the durations recorded in previous runs are used to execute
+	 * {@linkplain Node.ExecutionMode#CONCURRENT concurrent} sibling nodes in
+	 * order of descending expected duration (<em>longest processing time
+	 * first</em>) which reduces the overall duration of parallel runs whose
+	 * nodes have skewed durations. Nodes without a recorded duration are
+	 * executed first. Sibling nodes are only reordered if their executor
+	 * service {@linkplain HierarchicalTestExecutorService#executesConcurrently()
+	 * executes them concurrently}, e.g. the
+	 * {@link ForkJoinPoolHierarchicalTestExecutorService}; nodes that are
+	 * executed in the same thread retain their positions.
+	 *
+	 * <p>No default value; if not set, durations are neither recorded nor
+	 * used for scheduling.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String EXECUTION_DURATIONS_FILE_PROPERTY_NAME = "junit.platform.execution.durations.file";
+
 	/**
 	 * Create an {@linkplain #createExecutorService(ExecutionRequest) executor
 	 * service}; create an initial {@linkplain #createExecutionContext execution
@@ -47,8 +70,11 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 		try (HierarchicalTestExecutorService executorService = createExecutorService(request)) {
 			C executionContext = createExecutionContext(request);
 			ThrowableCollector.Factory throwableCollectorFactory = createThrowableCollectorFactory(request);
-			new HierarchicalTestExecutor<>(request, executionContext, executorService,
-				throwableCollectorFactory).execute().get();
+			ExecutionDurationStore durationStore = ExecutionDurationStore.create(
+				request.getConfigurationParameters());
+			new HierarchicalTestExecutor<>(request, executionContext, executorService, throwableCollectorFactory,
+				durationStore).execute().get();
+			durationStore.save();
 		}
 		catch (Exception exception) {
 			throw new JUnitException("Error executing tests for engine " + getId(), exception);
@@ -69,6 +95,7 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 	 *
 	 * @param request the request about to be executed
 	 * @see ForkJoinPoolHierarchicalTestExecutorService
+	 * @see VirtualThreadHierarchicalTestExecutorService
 	 * @see SameThreadHierarchicalTestExecutorService
 	 * @since 1.3
 	 */
@@ -25,6 +25,7 @@ import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
  * @see HierarchicalTestEngine#createExecutorService(ExecutionRequest)
  * @see SameThreadHierarchicalTestExecutorService
  * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see VirtualThreadHierarchicalTestExecutorService
  * @since 1.3
  */
 @API(status = EXPERIMENTAL, since = "1.3")
@@ -70,6 +71,25 @@ public interface HierarchicalTestExecutorService extends AutoCloseable {
 	 */
 	void invokeAll(List<? extends TestTask> testTasks);
 
+	/**
+	 * Determine if this service may execute
+	 * {@linkplain ExecutionMode#CONCURRENT concurrent} tasks supplied to
+	 * {@link #invokeAll(List)} in parallel.
+	 *
+	 * <p>If so, callers may reorder concurrent tasks before invoking them,
+	 * e.g. to start the ones with the longest expected duration first.
+	 * Otherwise, tasks are always supplied in the order they were declared.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @since 1.6
+	 * @see HierarchicalTestEngine#EXECUTION_DURATIONS_FILE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	default boolean executesConcurrently() {
+		return false;
+	}
+
 	/**
 	 * Close this service and let it perform any required cleanup work.
 	 *
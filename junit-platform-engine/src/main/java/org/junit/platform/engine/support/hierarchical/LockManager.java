@@ -11,13 +11,12 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
+import static java.util.Comparator.comparingInt;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,48 +24,109 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.junit.platform.commons.JUnitException;
+
 /**
  * @since 1.3
  */
 class LockManager {
 
 	private static final Comparator<ExclusiveResource> COMPARATOR = comparing(ExclusiveResource::getKey).thenComparing(
-		ExclusiveResource::getLockMode);
+		ExclusiveResource::getLockMode).thenComparing(comparingInt(ExclusiveResource::getPermits));
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
 
+	// Resource locks are stateless apart from the locks they wrap, so nodes that
+	// use the same set of resources can share the same instance.
+	private final Map<List<ExclusiveResource>, ResourceLock> resourceLocksByResources = new ConcurrentHashMap<>();
+
+	/**
+	 * Register the supplied resources so that resources with
+	 * {@linkplain ExclusiveResource#getPermits() permits} are backed by a
+	 * {@link SemaphoreReadWriteLock}.
+	 *
+	 * <p>All resources with permits must be registered before
+	 * {@link #getLockForResources(Collection)} is called for a resource with
+	 * the same key.
+	 */
+	void registerResources(Collection<ExclusiveResource> resources) {
+		for (ExclusiveResource resource : resources) {
+			if (resource.getPermits() > 0) {
+				ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(),
+					key -> new SemaphoreReadWriteLock(resource.getPermits()));
+				checkPermits(resource, lock);
+			}
+		}
+	}
+
 	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
-		List<Lock> locks = getDistinctSortedLocks(resources);
-		return toResourceLock(locks);
+		if (resources.isEmpty()) {
+			return NopLock.INSTANCE;
+		}
+		List<ExclusiveResource> canonicalResources = getDistinctSortedResources(resources);
+		ResourceLock resourceLock = resourceLocksByResources.get(canonicalResources);
+		if (resourceLock == null) {
+			resourceLock = resourceLocksByResources.computeIfAbsent(canonicalResources, this::createResourceLock);
+		}
+		return resourceLock;
 	}
 
-	private List<Lock> getDistinctSortedLocks(Collection<ExclusiveResource> resources) {
-		// @formatter:off
-		Map<String, List<ExclusiveResource>> resourcesByKey = resources.stream()
-				.distinct()
-				.sorted(COMPARATOR)
-				.collect(groupingBy(ExclusiveResource::getKey, LinkedHashMap::new, toList()));
-
-		return resourcesByKey.values().stream()
-				.map(resourcesWithSameKey -> resourcesWithSameKey.get(0))
-				.map(resource -> {
-					ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(),
-							key -> new ReentrantReadWriteLock());
-					return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
-				})
-				.collect(toList());
-		// @formatter:on
+	/**
+	 * Sort the supplied resources and keep only the strongest lock mode for
+	 * each key.
+	 */
+	private List<ExclusiveResource> getDistinctSortedResources(Collection<ExclusiveResource> resources) {
+		List<ExclusiveResource> sortedResources = new ArrayList<>(resources);
+		if (sortedResources.size() == 1) {
+			return sortedResources;
+		}
+		sortedResources.sort(COMPARATOR);
+		List<ExclusiveResource> distinctResources = new ArrayList<>(sortedResources.size());
+		String previousKey = null;
+		for (ExclusiveResource resource : sortedResources) {
+			if (!resource.getKey().equals(previousKey)) {
+				distinctResources.add(resource);
+				previousKey = resource.getKey();
+			}
+		}
+		return distinctResources;
 	}
 
-	private ResourceLock toResourceLock(List<Lock> locks) {
-		int size = locks.size();
-		if (size == 0) {
-			return NopLock.INSTANCE;
+	private ResourceLock createResourceLock(List<ExclusiveResource> resources) {
+		if (resources.size() == 1) {
+			return new SingleLock(toLock(resources.get(0)));
 		}
-		if (size == 1) {
-			return new SingleLock(locks.get(0));
+		List<Lock> locks = new ArrayList<>(resources.size());
+		for (ExclusiveResource resource : resources) {
+			locks.add(toLock(resource));
 		}
 		return new CompositeLock(locks);
 	}
 
+	private Lock toLock(ExclusiveResource resource) {
+		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), key -> newReadWriteLock(resource));
+		if (resource.getPermits() > 0) {
+			checkPermits(resource, lock);
+			return lock.readLock();
+		}
+		return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
+	}
+
+	private static ReadWriteLock newReadWriteLock(ExclusiveResource resource) {
+		if (resource.getPermits() > 0) {
+			return new SemaphoreReadWriteLock(resource.getPermits());
+		}
+		return new ReentrantReadWriteLock();
+	}
+
+	private static void checkPermits(ExclusiveResource resource, ReadWriteLock lock) {
+		if (!(lock instanceof SemaphoreReadWriteLock)
+				|| ((SemaphoreReadWriteLock) lock).getPermits() != resource.getPermits()) {
+			throw new JUnitException(String.format(
+				"Exclusive resource '%s' must be declared with the same number of permits everywhere it is used "
+						+ "with permits: %s",
+				resource.getKey(), resource));
+		}
+	}
+
 }
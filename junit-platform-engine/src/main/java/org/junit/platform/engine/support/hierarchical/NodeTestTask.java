@@ -24,6 +24,8 @@ import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.FlightRecorderEventType;
+import org.junit.platform.commons.util.FlightRecorderEventType.FlightRecorderEvent;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
@@ -37,6 +39,18 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	private static final Logger logger = LoggerFactory.getLogger(NodeTestTask.class);
 
+	// @formatter:off
+	private static final FlightRecorderEventType EXECUTION_EVENT = FlightRecorderEventType
+			.builder("org.junit.platform.engine.TestExecution")
+			.label("Test Execution")
+			.category("JUnit", "Execution")
+			.field("uniqueId", "Unique ID", String.class)
+			.field("displayName", "Display Name", String.class)
+			.field("container", "Container", boolean.class)
+			.field("result", "Result", String.class)
+			.build();
+	// @formatter:on
+
 	private final NodeTestTaskContext taskContext;
 	private final TestDescriptor testDescriptor;
 	private final Node<C> node;
@@ -64,12 +78,18 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		return taskContext.getExecutionAdvisor().getForcedExecutionMode(testDescriptor).orElse(node.getExecutionMode());
 	}
 
+	TestDescriptor getTestDescriptor() {
+		return testDescriptor;
+	}
+
 	void setParentContext(C parentContext) {
 		this.parentContext = parentContext;
 	}
 
 	@Override
 	public void execute() {
+		long startTime = System.nanoTime();
+		FlightRecorderEvent event = EXECUTION_EVENT.begin();
 		try {
 			throwableCollector = taskContext.getThrowableCollectorFactory().create();
 			prepare();
@@ -82,9 +102,13 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			if (context != null) {
 				cleanUp();
 			}
+			if (event.isEnabled()) {
+				recordResult(event);
+			}
 			reportCompletion();
 		}
 		finally {
+			event.commit();
 			// Ensure that the 'interrupted status' flag for the current thread
 			// is cleared for reuse of the thread in subsequent task executions.
 			// See https://github.com/junit-team/junit5/issues/1688
@@ -96,6 +120,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 							+ "why the flag was not cleared by user code.",
 					this.testDescriptor.getDisplayName(), this.testDescriptor.getUniqueId()));
 			}
+			taskContext.getDurationStore().record(testDescriptor, System.nanoTime() - startTime);
 		}
 
 		// Clear reference to context to allow it to be garbage collected.
@@ -103,6 +128,17 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		context = null;
 	}
 
+	private void recordResult(FlightRecorderEvent event) {
+		// @formatter:off
+		event.set("uniqueId", testDescriptor.getUniqueId().toString())
+				.set("displayName", testDescriptor.getDisplayName())
+				.set("container", testDescriptor.isContainer())
+				.set("result", throwableCollector.isEmpty() && skipResult.isSkipped()
+						? "SKIPPED"
+						: throwableCollector.toTestExecutionResult().getStatus().name());
+		// @formatter:on
+	}
+
 	private void prepare() {
 		throwableCollector.execute(() -> context = node.prepare(parentContext));
 
@@ -136,7 +172,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 					if (!children.isEmpty()) {
 						children.forEach(child -> child.setParentContext(context));
-						taskContext.getExecutorService().invokeAll(children);
+						taskContext.getExecutorService().invokeAll(schedule(children));
 					}
 
 					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
@@ -147,6 +183,15 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		});
 	}
 
+	private List<NodeTestTask<C>> schedule(List<NodeTestTask<C>> children) {
+		// Executor services that do not execute tasks concurrently must
+		// execute children in the order they were declared
+		if (taskContext.getExecutorService().executesConcurrently()) {
+			return taskContext.getDurationStore().sortByDescendingExpectedDuration(children);
+		}
+		return children;
+	}
+
 	private void cleanUp() {
 		throwableCollector.execute(() -> node.cleanUp(context));
 	}
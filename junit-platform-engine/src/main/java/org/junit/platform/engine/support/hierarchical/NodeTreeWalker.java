@@ -13,8 +13,9 @@ package org.junit.platform.engine.support.hierarchical;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import org.junit.platform.engine.TestDescriptor;
 
@@ -27,35 +28,43 @@ class NodeTreeWalker {
 
 	NodeExecutionAdvisor walk(TestDescriptor testDescriptor) {
 		NodeExecutionAdvisor advisor = new NodeExecutionAdvisor();
-		walk(testDescriptor, advisor);
+		Map<TestDescriptor, Set<ExclusiveResource>> resourcesByTestDescriptor = new IdentityHashMap<>();
+		walk(testDescriptor, advisor, resourcesByTestDescriptor);
+		// Locks are only created once all resources are known since resources
+		// with permits determine the kind of lock used for their key.
+		resourcesByTestDescriptor.values().forEach(lockManager::registerResources);
+		resourcesByTestDescriptor.forEach((descriptor, resources) -> advisor.useResourceLock(descriptor,
+			lockManager.getLockForResources(resources)));
 		return advisor;
 	}
 
-	private void walk(TestDescriptor testDescriptor, NodeExecutionAdvisor advisor) {
+	private void walk(TestDescriptor testDescriptor, NodeExecutionAdvisor advisor,
+			Map<TestDescriptor, Set<ExclusiveResource>> resourcesByTestDescriptor) {
 		Set<ExclusiveResource> exclusiveResources = getExclusiveResources(testDescriptor);
 		if (exclusiveResources.isEmpty()) {
-			testDescriptor.getChildren().forEach(child -> walk(child, advisor));
+			for (TestDescriptor child : testDescriptor.getChildren()) {
+				walk(child, advisor, resourcesByTestDescriptor);
+			}
 		}
 		else {
 			Set<ExclusiveResource> allResources = new HashSet<>(exclusiveResources);
 			advisor.forceDescendantExecutionMode(testDescriptor, SAME_THREAD);
-			doForChildrenRecursively(testDescriptor, child -> {
-				allResources.addAll(getExclusiveResources(child));
-				advisor.forceDescendantExecutionMode(child, SAME_THREAD);
-			});
-			advisor.useResourceLock(testDescriptor, lockManager.getLockForResources(allResources));
+			collectResourcesOfDescendants(testDescriptor, allResources, advisor);
+			resourcesByTestDescriptor.put(testDescriptor, allResources);
 		}
 	}
 
-	private Set<ExclusiveResource> getExclusiveResources(TestDescriptor testDescriptor) {
-		return NodeUtils.asNode(testDescriptor).getExclusiveResources();
+	private void collectResourcesOfDescendants(TestDescriptor parent, Set<ExclusiveResource> allResources,
+			NodeExecutionAdvisor advisor) {
+		for (TestDescriptor child : parent.getChildren()) {
+			allResources.addAll(getExclusiveResources(child));
+			advisor.forceDescendantExecutionMode(child, SAME_THREAD);
+			collectResourcesOfDescendants(child, allResources, advisor);
+		}
 	}
 
-	private void doForChildrenRecursively(TestDescriptor parent, Consumer<TestDescriptor> consumer) {
-		parent.getChildren().forEach(child -> {
-			consumer.accept(child);
-			doForChildrenRecursively(child, consumer);
-		});
+	private Set<ExclusiveResource> getExclusiveResources(TestDescriptor testDescriptor) {
+		return NodeUtils.asNode(testDescriptor).getExclusiveResources();
 	}
 
 }
@@ -34,6 +34,27 @@ public interface ResourceLock extends AutoCloseable {
 	 */
 	ResourceLock acquire() throws InterruptedException;
 
+	/**
+	 * Try to acquire this resource lock without blocking.
+	 *
+	 * <p>The default implementation falls back to {@link #acquire()} and
+	 * thus potentially blocks. Implementations that are able to determine
+	 * whether the lock is available without blocking should override this
+	 * method.
+	 *
+	 * @return {@code true} if the lock was acquired and must subsequently be
+	 * {@linkplain #release() released}; {@code false} if the lock is
+	 * currently unavailable
+	 * @throws InterruptedException if the calling thread is interrupted
+	 * while waiting to acquire this lock
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	default boolean tryAcquire() throws InterruptedException {
+		acquire();
+		return true;
+	}
+
 	/**
 	 * Release this resource lock.
 	 */
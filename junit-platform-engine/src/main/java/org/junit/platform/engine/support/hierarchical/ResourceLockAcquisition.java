@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import org.junit.platform.commons.util.FlightRecorderEventType;
+import org.junit.platform.commons.util.FlightRecorderEventType.FlightRecorderEvent;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * Acquires the {@linkplain ResourceLock resource locks} of
+ * {@linkplain TestTask test tasks} and records how long each acquisition
+ * blocked as Java Flight Recorder event.
+ *
+ * @since 1.6
+ */
+class ResourceLockAcquisition {
+
+	// @formatter:off
+	private static final FlightRecorderEventType LOCK_WAIT_EVENT = FlightRecorderEventType
+			.builder("org.junit.platform.engine.ResourceLockWait")
+			.label("Resource Lock Wait")
+			.category("JUnit", "Execution")
+			.field("uniqueId", "Unique ID", String.class)
+			.build();
+	// @formatter:on
+
+	private ResourceLockAcquisition() {
+		/* no-op */
+	}
+
+	/**
+	 * Acquire the resource lock of the supplied task, blocking until it is
+	 * available.
+	 */
+	static ResourceLock acquire(TestTask testTask) throws InterruptedException {
+		ResourceLock resourceLock = testTask.getResourceLock();
+		if (resourceLock instanceof NopLock) {
+			return resourceLock.acquire();
+		}
+		FlightRecorderEvent event = beginWait();
+		try {
+			return resourceLock.acquire();
+		}
+		finally {
+			endWait(event, testTask);
+		}
+	}
+
+	/**
+	 * Begin waiting for the resource lock of a task that does not block while
+	 * doing so, e.g. because it is deferred until the lock is available.
+	 *
+	 * @return the event to pass to {@link #endWait} once the lock has been
+	 * acquired
+	 */
+	static FlightRecorderEvent beginWait() {
+		return LOCK_WAIT_EVENT.begin();
+	}
+
+	/**
+	 * End waiting for the resource lock of the supplied task.
+	 *
+	 * @param event the event returned by {@link #beginWait()}
+	 */
+	static void endWait(FlightRecorderEvent event, TestTask testTask) {
+		if (event.isEnabled() && testTask instanceof NodeTestTask) {
+			event.set("uniqueId", ((NodeTestTask<?>) testTask).getTestDescriptor().getUniqueId().toString());
+		}
+		event.commit();
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * {@link ReadWriteLock} backed by a fair {@link Semaphore} with a fixed number
+ * of permits: its read lock acquires a single permit whereas its write lock
+ * acquires all permits.
+ *
+ * <p>In contrast to {@link java.util.concurrent.locks.ReentrantReadWriteLock},
+ * locks are not reentrant and may be released by a different thread than the
+ * one that acquired them.
+ *
+ * @since 1.6
+ */
+class SemaphoreReadWriteLock implements ReadWriteLock {
+
+	private final int permits;
+	private final Semaphore semaphore;
+	private final Lock readLock;
+	private final Lock writeLock;
+
+	SemaphoreReadWriteLock(int permits) {
+		this.permits = permits;
+		this.semaphore = new Semaphore(permits, true);
+		this.readLock = new PermitLock(1);
+		this.writeLock = new PermitLock(permits);
+	}
+
+	int getPermits() {
+		return permits;
+	}
+
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+
+	private class PermitLock implements Lock {
+
+		private final int permitsToAcquire;
+
+		PermitLock(int permitsToAcquire) {
+			this.permitsToAcquire = permitsToAcquire;
+		}
+
+		@Override
+		public void lock() {
+			semaphore.acquireUninterruptibly(permitsToAcquire);
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			semaphore.acquire(permitsToAcquire);
+		}
+
+		@Override
+		public boolean tryLock() {
+			return semaphore.tryAcquire(permitsToAcquire);
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			return semaphore.tryAcquire(permitsToAcquire, time, unit);
+		}
+
+		@Override
+		public void unlock() {
+			semaphore.release(permitsToAcquire);
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
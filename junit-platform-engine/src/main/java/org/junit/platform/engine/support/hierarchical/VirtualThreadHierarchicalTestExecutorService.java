@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * An {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each {@linkplain Node.ExecutionMode#CONCURRENT concurrent}
+ * {@linkplain TestTask test task} in its own virtual thread.
+ *
+ * <p>Since virtual threads are cheap to create and do not occupy a platform
+ * thread while being blocked, this service is well suited for test suites
+ * that spend most of their time waiting for I/O. In contrast to
+ * {@link ForkJoinPoolHierarchicalTestExecutorService}, the number of
+ * concurrently executing tasks is not limited by a configured parallelism.
+ *
+ * <p>Virtual threads are only available on Java 21 and later. Use
+ * {@link #isSupported()} to check whether the current JVM supports them
+ * before instantiating this service.
+ *
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @since 1.6
+ */
+@API(status = EXPERIMENTAL, since = "1.6")
+public class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private static final Method newVirtualThreadPerTaskExecutorMethod = ReflectionUtils.findMethod(Executors.class,
+		"newVirtualThreadPerTaskExecutor").orElse(null);
+
+	/**
+	 * Determine whether the current JVM supports virtual threads.
+	 *
+	 * @return {@code true} if this service can be instantiated
+	 */
+	public static boolean isSupported() {
+		return newVirtualThreadPerTaskExecutorMethod != null;
+	}
+
+	private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+	private final ExecutorService executorService;
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService}.
+	 *
+	 * @throws JUnitException if the current JVM does not support virtual
+	 * threads
+	 * @see #isSupported()
+	 */
+	public VirtualThreadHierarchicalTestExecutorService() {
+		this(createVirtualThreadPerTaskExecutor());
+		LoggerFactory.getLogger(getClass()).config(() -> "Using virtual threads for concurrent test tasks");
+	}
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService} that
+	 * executes concurrent tasks using the supplied executor service, which
+	 * should start a new thread for each task.
+	 */
+	VirtualThreadHierarchicalTestExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	private static ExecutorService createVirtualThreadPerTaskExecutor() {
+		if (!isSupported()) {
+			throw new JUnitException("Virtual threads are not supported by the current JVM");
+		}
+		return (ExecutorService) ReflectionUtils.invokeMethod(newVirtualThreadPerTaskExecutorMethod, null);
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		if (testTask.getExecutionMode() == CONCURRENT) {
+			return fork(testTask);
+		}
+		executeWithResourceLock(testTask);
+		return completedFuture(null);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		if (tasks.size() == 1) {
+			executeWithResourceLock(tasks.get(0));
+			return;
+		}
+		List<TestTask> nonConcurrentTasks = new ArrayList<>();
+		List<Future<Void>> concurrentTasks = new ArrayList<>();
+		for (TestTask testTask : tasks) {
+			if (testTask.getExecutionMode() == CONCURRENT) {
+				concurrentTasks.add(fork(testTask));
+			}
+			else {
+				nonConcurrentTasks.add(testTask);
+			}
+		}
+		nonConcurrentTasks.forEach(this::executeWithResourceLock);
+		concurrentTasks.forEach(this::join);
+	}
+
+	private Future<Void> fork(TestTask testTask) {
+		return executorService.submit(() -> {
+			Thread.currentThread().setContextClassLoader(contextClassLoader);
+			executeWithResourceLock(testTask);
+		}, null);
+	}
+
+	private void join(Future<Void> future) {
+		try {
+			future.get();
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	@SuppressWarnings("try")
+	private void executeWithResourceLock(TestTask testTask) {
+		try (ResourceLock lock = ResourceLockAcquisition.acquire(testTask)) {
+			testTask.execute();
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	@Override
+	public boolean executesConcurrently() {
+		return true;
+	}
+
+	@Override
+	public void close() {
+		executorService.shutdownNow();
+	}
+
+}
@@ -0,0 +1,13 @@
+plugins {
+	`java-library-conventions`
+}
+
+description = "JUnit Platform Test Index"
+
+dependencies {
+	api(platform(project(":junit-bom")))
+
+	api("org.apiguardian:apiguardian-api:${Versions.apiGuardian}")
+
+	api(project(":junit-platform-commons"))
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.index;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.TestIndex;
+
+/**
+ * Annotation processor that writes an index of all potential test classes
+ * being compiled and their testable methods to the
+ * {@value TestIndex#RESOURCE_NAME} resource.
+ *
+ * <p>A class is considered a potential test class if it is not abstract and
+ * it or one of its declared or inherited methods is annotated with an
+ * annotation that is itself or meta-annotated with
+ * {@link org.junit.platform.commons.annotation.Testable @Testable},
+ * {@code @org.junit.Test}, or {@code @org.junit.runner.RunWith}. Additional
+ * annotations may be supplied as a comma-separated list of fully qualified
+ * names via the {@value #ANNOTATIONS_OPTION} processor option. Classes that
+ * implement {@code junit.framework.Test}, for example JUnit 3 style subclasses
+ * of {@code junit.framework.TestCase}, and classes that enclose potential test
+ * classes are indexed as well.
+ *
+ * <p>If the output directory already contains an index, for example from a
+ * previous incremental compilation, the entries of all types that are not
+ * being compiled are retained.
+ *
+ * <p>If the {@code junit.platform.discovery.index.enabled} configuration
+ * parameter is set to {@code true}, the JUnit Platform only loads the indexed
+ * test classes when scanning a classpath root that contains an index. Indexes
+ * in directories are ignored if they do not cover all class files in the
+ * directory, for example because some classes were compiled without this
+ * processor.
+ *
+ * @since 1.6
+ */
+@API(status = EXPERIMENTAL, since = "1.6")
+@SupportedAnnotationTypes("*")
+@SupportedOptions(TestIndexProcessor.ANNOTATIONS_OPTION)
+public class TestIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * Name of the processor option used to supply the fully qualified names
+	 * of additional annotations that denote test classes and methods:
+	 * {@value}
+	 */
+	public static final String ANNOTATIONS_OPTION = "junit.platform.index.annotations";
+
+	private static final Set<String> DEFAULT_ANNOTATIONS = new LinkedHashSet<>(
+		Arrays.asList("org.junit.platform.commons.annotation.Testable", "org.junit.Test", "org.junit.runner.RunWith"));
+
+	private static final String JUNIT3_TEST_TYPE_NAME = "junit.framework.Test";
+
+	private final TestIndex index = new TestIndex();
+	private final Set<String> compiledTypeNames = new TreeSet<>();
+	private final Map<String, Boolean> testAnnotationCache = new HashMap<>();
+	private Set<String> testAnnotationNames;
+	private TypeMirror junit3TestType;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		if (this.testAnnotationNames == null) {
+			this.testAnnotationNames = new LinkedHashSet<>(DEFAULT_ANNOTATIONS);
+			String additionalAnnotations = this.processingEnv.getOptions().get(ANNOTATIONS_OPTION);
+			if (additionalAnnotations != null) {
+				for (String annotationName : additionalAnnotations.split(",")) {
+					if (!annotationName.trim().isEmpty()) {
+						this.testAnnotationNames.add(annotationName.trim());
+					}
+				}
+			}
+			TypeElement junit3TestType = this.processingEnv.getElementUtils().getTypeElement(JUNIT3_TEST_TYPE_NAME);
+			if (junit3TestType != null) {
+				this.junit3TestType = junit3TestType.asType();
+			}
+		}
+		if (roundEnvironment.processingOver()) {
+			writeIndex();
+		}
+		else {
+			for (TypeElement type : ElementFilter.typesIn(roundEnvironment.getRootElements())) {
+				String binaryName = getBinaryName(type);
+				this.compiledTypeNames.add(binaryName);
+				this.index.addType(binaryName);
+				indexTestClasses(type);
+			}
+		}
+		// Never claim any annotations so other processors can handle them as well
+		return false;
+	}
+
+	private void indexTestClasses(TypeElement type) {
+		for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+			indexTestClasses(nestedType);
+		}
+		if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return;
+		}
+		Set<String> testMethodNames = new TreeSet<>();
+		for (Element member : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+			if (isAnnotatedWithTestAnnotation(member)) {
+				testMethodNames.add(member.getSimpleName().toString());
+			}
+		}
+		if (testMethodNames.isEmpty() && !isAnnotatedWithTestAnnotation(type) && !isJUnit3TestClass(type)) {
+			return;
+		}
+		this.index.addTestClass(getBinaryName(type), testMethodNames);
+		Element enclosing = type.getEnclosingElement();
+		while (enclosing instanceof TypeElement) {
+			this.index.addTestClass(getBinaryName((TypeElement) enclosing), new TreeSet<>());
+			enclosing = enclosing.getEnclosingElement();
+		}
+	}
+
+	private boolean isJUnit3TestClass(TypeElement type) {
+		return this.junit3TestType != null
+				&& this.processingEnv.getTypeUtils().isAssignable(type.asType(), this.junit3TestType);
+	}
+
+	private boolean isAnnotatedWithTestAnnotation(Element element) {
+		for (AnnotationMirror annotation : this.processingEnv.getElementUtils().getAllAnnotationMirrors(element)) {
+			if (isTestAnnotation((TypeElement) annotation.getAnnotationType().asElement(), new LinkedHashSet<>())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isTestAnnotation(TypeElement annotationType, Set<String> visited) {
+		String name = annotationType.getQualifiedName().toString();
+		Boolean cached = this.testAnnotationCache.get(name);
+		if (cached != null) {
+			return cached;
+		}
+		if (!visited.add(name)) {
+			return false;
+		}
+		boolean testAnnotation = this.testAnnotationNames.contains(name);
+		if (!testAnnotation) {
+			for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+				if (isTestAnnotation((TypeElement) metaAnnotation.getAnnotationType().asElement(), visited)) {
+					testAnnotation = true;
+					break;
+				}
+			}
+		}
+		this.testAnnotationCache.put(name, testAnnotation);
+		return testAnnotation;
+	}
+
+	private String getBinaryName(TypeElement type) {
+		return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void writeIndex() {
+		TestIndex mergedIndex = readExistingIndex();
+		for (String typeName : this.compiledTypeNames) {
+			mergedIndex.removeTestClasses(typeName);
+		}
+		for (String typeName : this.index.getTypeNames()) {
+			mergedIndex.addType(typeName);
+		}
+		for (String testClassName : this.index.getTestClassNames()) {
+			mergedIndex.addTestClass(testClassName, this.index.getTestMethodNames(testClassName));
+		}
+		try {
+			FileObject resource = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+				TestIndex.RESOURCE_NAME);
+			try (Writer writer = resource.openWriter()) {
+				mergedIndex.write(writer);
+			}
+		}
+		catch (IOException ex) {
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"Failed to write " + TestIndex.RESOURCE_NAME + ": " + ex);
+		}
+	}
+
+	private TestIndex readExistingIndex() {
+		try {
+			FileObject resource = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+				TestIndex.RESOURCE_NAME);
+			try (Reader reader = resource.openReader(true)) {
+				return TestIndex.read(reader);
+			}
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			// No previous index or build tool does not support reading resources
+			return new TestIndex();
+		}
+	}
+
+}
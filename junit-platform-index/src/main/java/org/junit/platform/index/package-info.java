@@ -0,0 +1,6 @@
+/**
+ * Annotation processor that generates an index of the test classes in a
+ * classpath root at compile time.
+ */
+
+package org.junit.platform.index;
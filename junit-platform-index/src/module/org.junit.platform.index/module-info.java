@@ -0,0 +1,20 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+module org.junit.platform.index {
+	requires java.compiler;
+	requires transitive org.apiguardian.api;
+	requires org.junit.platform.commons;
+
+	exports org.junit.platform.index;
+
+	provides javax.annotation.processing.Processor
+			with org.junit.platform.index.TestIndexProcessor;
+}
@@ -89,6 +89,78 @@ public class LauncherConstants {
 	 */
 	public static final String STDERR_REPORT_ENTRY_KEY = "stderr";
 
+	/**
+	 * Property name used to set the zero-based index of the shard of tests to
+	 * execute: {@value}
+	 *
+	 * <p>Must be set together with {@value #SHARD_COUNT_PROPERTY_NAME}. Value
+	 * must be an integer between {@code 0} (inclusive) and the shard count
+	 * (exclusive). By default, all tests are executed.
+	 *
+	 * @see ShardFilter
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String SHARD_INDEX_PROPERTY_NAME = "junit.platform.shard.index";
+
+	/**
+	 * Property name used to set the total number of shards the discovered
+	 * tests are split into: {@value}
+	 *
+	 * <p>Must be set together with {@value #SHARD_INDEX_PROPERTY_NAME}. Value
+	 * must be a positive integer.
+	 *
+	 * @see ShardFilter
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String SHARD_COUNT_PROPERTY_NAME = "junit.platform.shard.count";
+
+	/**
+	 * Property name used to set the path of a file containing recorded
+	 * durations that are used to balance the expected durations of all
+	 * shards: {@value}
+	 *
+	 * <p>By default, containers are distributed evenly by count.
+	 *
+	 * @see ShardFilter#forShard(int, int, java.nio.file.Path)
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String SHARD_DURATIONS_FILE_PROPERTY_NAME = "junit.platform.shard.durations.file";
+
+	/**
+	 * Property name used to enable concurrent test discovery in all test
+	 * engines that are not excluded by an
+	 * {@link org.junit.platform.launcher.EngineFilter EngineFilter}: {@value}
+	 *
+	 * <p>When enabled, each engine discovers its tests in a separate thread and
+	 * the resulting test plan contains the engines in the same order as with
+	 * sequential discovery. Registered
+	 * {@link LauncherDiscoveryListener LauncherDiscoveryListeners} must be
+	 * thread-safe in this case. Defaults to {@code false}.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CONCURRENT_ENGINE_DISCOVERY_PROPERTY_NAME = //
+		"junit.platform.discovery.engines.concurrent";
+
+	/**
+	 * Property name used to enable concurrent test execution in all discovered
+	 * test engines: {@value}
+	 *
+	 * <p>When enabled, each engine executes its tests in a separate thread.
+	 * Registered {@link TestExecutionListener TestExecutionListeners} are
+	 * notified of the interleaved events of all engines one at a time and
+	 * therefore do not need to be thread-safe. Defaults to {@code false}.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CONCURRENT_ENGINE_EXECUTION_PROPERTY_NAME = //
+		"junit.platform.execution.engines.concurrent";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.emptyMap;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Factory methods for creating {@link PostDiscoveryFilter PostDiscoveryFilters}
+ * that split the discovered tests into a number of <em>shards</em> so they can
+ * be executed by separate processes, e.g. on different CI machines.
+ *
+ * <p>Each top-level container or test of an engine, typically a test class,
+ * is assigned to exactly one shard. The assignment is deterministic for a
+ * given set of discovered tests so that running the same discovery request
+ * with each shard index executes every test exactly once. Containers are
+ * distributed so that all shards have a similar number of them or, if
+ * expected durations are available, a similar total expected duration.
+ *
+ * @since 1.6
+ * @see #forShard(int, int)
+ * @see #forShard(int, int, Path)
+ * @see LauncherConstants#SHARD_INDEX_PROPERTY_NAME
+ * @see LauncherConstants#SHARD_COUNT_PROPERTY_NAME
+ */
+@API(status = EXPERIMENTAL, since = "1.6")
+public final class ShardFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ShardFilter.class);
+
+	private ShardFilter() {
+		/* no-op */
+	}
+
+	/**
+	 * Create a filter that only includes the tests of the shard with the
+	 * supplied index.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be positive
+	 * @throws PreconditionViolationException if the supplied index or count
+	 * is invalid
+	 */
+	public static PostDiscoveryFilter forShard(int shardIndex, int shardCount) {
+		return forShard(shardIndex, shardCount, emptyMap());
+	}
+
+	/**
+	 * Create a filter that only includes the tests of the shard with the
+	 * supplied index, using the durations stored in the supplied file to
+	 * balance the expected durations of all shards.
+	 *
+	 * <p>The file must be in {@link Properties} format and map the
+	 * {@linkplain UniqueId unique IDs} of containers to their durations, e.g.
+	 * the one written by engines based on
+	 * {@code org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine}
+	 * when the {@code junit.platform.execution.durations.file} configuration
+	 * parameter is set. If the file does not exist, the filter behaves as if
+	 * no durations were known.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be positive
+	 * @param durationsFile the file to read the durations from; never
+	 * {@code null}
+	 * @throws PreconditionViolationException if the supplied index or count
+	 * is invalid
+	 */
+	public static PostDiscoveryFilter forShard(int shardIndex, int shardCount, Path durationsFile) {
+		Preconditions.notNull(durationsFile, "durationsFile must not be null");
+		return forShard(shardIndex, shardCount, readDurations(durationsFile));
+	}
+
+	/**
+	 * Create a filter based on the {@value LauncherConstants#SHARD_INDEX_PROPERTY_NAME},
+	 * {@value LauncherConstants#SHARD_COUNT_PROPERTY_NAME}, and
+	 * {@value LauncherConstants#SHARD_DURATIONS_FILE_PROPERTY_NAME}
+	 * configuration parameters.
+	 *
+	 * @param configurationParameters the configuration parameters to use;
+	 * never {@code null}
+	 * @return the filter or an empty {@code Optional} if sharding is not
+	 * configured
+	 * @throws JUnitException if only one of the index and count parameters is
+	 * set or if they are invalid
+	 */
+	public static Optional<PostDiscoveryFilter> fromConfigurationParameters(
+			ConfigurationParameters configurationParameters) {
+		Preconditions.notNull(configurationParameters, "configurationParameters must not be null");
+		Optional<Integer> shardIndex = configurationParameters.get(LauncherConstants.SHARD_INDEX_PROPERTY_NAME,
+			Integer::valueOf);
+		Optional<Integer> shardCount = configurationParameters.get(LauncherConstants.SHARD_COUNT_PROPERTY_NAME,
+			Integer::valueOf);
+		if (!shardIndex.isPresent() && !shardCount.isPresent()) {
+			return Optional.empty();
+		}
+		if (!shardIndex.isPresent() || !shardCount.isPresent()) {
+			throw new JUnitException(String.format("Configuration parameters '%s' and '%s' must be set together",
+				LauncherConstants.SHARD_INDEX_PROPERTY_NAME, LauncherConstants.SHARD_COUNT_PROPERTY_NAME));
+		}
+		Optional<Path> durationsFile = configurationParameters.get(
+			LauncherConstants.SHARD_DURATIONS_FILE_PROPERTY_NAME).map(String::trim).filter(
+				path -> !path.isEmpty()).map(Paths::get);
+		return Optional.of(durationsFile.isPresent() //
+				? forShard(shardIndex.get(), shardCount.get(), durationsFile.get()) //
+				: forShard(shardIndex.get(), shardCount.get()));
+	}
+
+	private static PostDiscoveryFilter forShard(int shardIndex, int shardCount, Map<String, Long> durations) {
+		Preconditions.condition(shardCount > 0, () -> "shardCount must be greater than 0: " + shardCount);
+		Preconditions.condition(shardIndex >= 0 && shardIndex < shardCount,
+			() -> String.format("shardIndex must be between 0 and %d: %d", shardCount - 1, shardIndex));
+		ShardAssignment assignment = new ShardAssignment(shardCount, durations);
+		return descriptor -> {
+			int shard = assignment.getShard(descriptor);
+			return FilterResult.includedIf(shard == shardIndex, //
+				() -> String.format("Assigned to shard %d of %d", shard, shardCount), //
+				() -> String.format("Assigned to shard %d instead of %d", shard, shardIndex));
+		};
+	}
+
+	private static Map<String, Long> readDurations(Path file) {
+		Map<String, Long> durations = new HashMap<>();
+		if (!Files.isRegularFile(file)) {
+			logger.config(() -> "Durations file " + file + " does not exist; distributing containers evenly");
+			return durations;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Failed to read durations from " + file);
+			return durations;
+		}
+		for (String uniqueId : properties.stringPropertyNames()) {
+			try {
+				durations.put(uniqueId, Long.parseLong(properties.getProperty(uniqueId)));
+			}
+			catch (NumberFormatException e) {
+				logger.debug(() -> "Ignoring invalid duration for " + uniqueId);
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Assigns the top-level descriptors of an engine to shards using the
+	 * <em>longest processing time first</em> heuristic: descriptors are
+	 * sorted by descending expected duration and unique ID and each one is
+	 * assigned to the shard with the lowest total so far.
+	 *
+	 * <p>The assignment is computed lazily for each engine since filters are
+	 * applied to one descriptor at a time.
+	 */
+	private static class ShardAssignment {
+
+		private final int shardCount;
+		private final Map<String, Long> durations;
+
+		private TestDescriptor currentEngineDescriptor;
+		private Map<UniqueId, Integer> currentAssignment;
+
+		ShardAssignment(int shardCount, Map<String, Long> durations) {
+			this.shardCount = shardCount;
+			this.durations = durations;
+		}
+
+		synchronized int getShard(TestDescriptor descriptor) {
+			TestDescriptor topLevelDescriptor = descriptor;
+			TestDescriptor engineDescriptor = descriptor;
+			while (engineDescriptor.getParent().isPresent()) {
+				topLevelDescriptor = engineDescriptor;
+				engineDescriptor = engineDescriptor.getParent().get();
+			}
+			if (topLevelDescriptor == engineDescriptor) {
+				return 0;
+			}
+			if (engineDescriptor != currentEngineDescriptor) {
+				currentEngineDescriptor = engineDescriptor;
+				currentAssignment = assign(engineDescriptor);
+			}
+			return currentAssignment.getOrDefault(topLevelDescriptor.getUniqueId(), 0);
+		}
+
+		private Map<UniqueId, Integer> assign(TestDescriptor engineDescriptor) {
+			List<TestDescriptor> descriptors = new ArrayList<>(engineDescriptor.getChildren());
+			long defaultDuration = getDefaultDuration(descriptors);
+			List<String> uniqueIds = new ArrayList<>(descriptors.size());
+			Map<String, Long> expectedDurations = new HashMap<>();
+			Map<String, UniqueId> uniqueIdsByString = new HashMap<>();
+			for (TestDescriptor child : descriptors) {
+				String uniqueId = child.getUniqueId().toString();
+				uniqueIds.add(uniqueId);
+				uniqueIdsByString.put(uniqueId, child.getUniqueId());
+				expectedDurations.put(uniqueId, durations.getOrDefault(uniqueId, defaultDuration));
+			}
+			uniqueIds.sort((a, b) -> {
+				int result = Long.compare(expectedDurations.get(b), expectedDurations.get(a));
+				return result != 0 ? result : a.compareTo(b);
+			});
+			long[] totals = new long[shardCount];
+			Map<UniqueId, Integer> assignment = new HashMap<>();
+			for (String uniqueId : uniqueIds) {
+				int shard = 0;
+				for (int i = 1; i < shardCount; i++) {
+					if (totals[i] < totals[shard]) {
+						shard = i;
+					}
+				}
+				totals[shard] += expectedDurations.get(uniqueId);
+				assignment.put(uniqueIdsByString.get(uniqueId), shard);
+			}
+			return assignment;
+		}
+
+		/**
+		 * Use the average of all known durations for descriptors without a
+		 * recorded duration so they neither dominate nor get ignored.
+		 */
+		private long getDefaultDuration(List<TestDescriptor> descriptors) {
+			long sum = 0;
+			int count = 0;
+			for (TestDescriptor descriptor : descriptors) {
+				Long duration = durations.get(descriptor.getUniqueId().toString());
+				if (duration != null) {
+					sum += duration;
+					count++;
+				}
+			}
+			return count == 0 ? 1 : Math.max(1, sum / count);
+		}
+	}
+
+}
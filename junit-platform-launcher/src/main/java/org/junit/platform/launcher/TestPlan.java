@@ -10,7 +10,6 @@
 
 package org.junit.platform.launcher;
 
-import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static org.apiguardian.api.API.Status.DEPRECATED;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -19,10 +18,8 @@ import static org.apiguardian.api.API.Status.STABLE;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -59,9 +56,7 @@ public class TestPlan {
 
 	private final Set<TestIdentifier> roots = Collections.synchronizedSet(new LinkedHashSet<>(4));
 
-	private final Map<String, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
-
-	private final Map<String, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
+	private final TestPlanIndex index = new TestPlanIndex();
 
 	private final boolean containsTests;
 
@@ -101,14 +96,8 @@ public class TestPlan {
 	@API(status = DEPRECATED, since = "1.4")
 	public void add(TestIdentifier testIdentifier) {
 		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
-		allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
-		if (testIdentifier.getParentId().isPresent()) {
-			String parentId = testIdentifier.getParentId().get();
-			Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId,
-				key -> Collections.synchronizedSet(new LinkedHashSet<>(16)));
-			directChildren.add(testIdentifier);
-		}
-		else {
+		index.add(testIdentifier);
+		if (!testIdentifier.getParentId().isPresent()) {
 			roots.add(testIdentifier);
 		}
 	}
@@ -155,7 +144,7 @@ public class TestPlan {
 	 */
 	public Set<TestIdentifier> getChildren(String parentId) {
 		Preconditions.notBlank(parentId, "parent ID must not be null or blank");
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		return index.getChildren(parentId);
 	}
 
 	/**
@@ -169,9 +158,10 @@ public class TestPlan {
 	 */
 	public TestIdentifier getTestIdentifier(String uniqueId) throws PreconditionViolationException {
 		Preconditions.notBlank(uniqueId, "unique ID must not be null or blank");
-		Preconditions.condition(allIdentifiers.containsKey(uniqueId),
+		TestIdentifier testIdentifier = index.get(uniqueId);
+		Preconditions.condition(testIdentifier != null,
 			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
-		return allIdentifiers.get(uniqueId);
+		return testIdentifier;
 	}
 
 	/**
@@ -184,7 +174,7 @@ public class TestPlan {
 	 */
 	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		Preconditions.notNull(predicate, "Predicate must not be null");
-		return allIdentifiers.values().stream().filter(predicate).count();
+		return index.count(predicate);
 	}
 
 	/**
@@ -196,13 +186,7 @@ public class TestPlan {
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
-		Set<TestIdentifier> result = new LinkedHashSet<>(16);
-		Set<TestIdentifier> children = getChildren(parent);
-		result.addAll(children);
-		for (TestIdentifier child : children) {
-			result.addAll(getDescendants(child));
-		}
-		return unmodifiableSet(result);
+		return index.getDescendants(parent.getUniqueId());
 	}
 
 	/**
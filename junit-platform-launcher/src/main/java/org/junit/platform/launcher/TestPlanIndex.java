@@ -0,0 +1,371 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Index of the {@link TestIdentifier TestIdentifiers} of a {@link TestPlan}.
+ *
+ * <p>Each identifier is assigned an integer node ID in the order in which it
+ * is added. The tree is stored in arrays indexed by node ID, so retrieving
+ * the children or descendants of an identifier neither copies them for each
+ * level of the tree nor creates a collection per parent.
+ *
+ * <p>Identifiers are only ever added, and each addition of a child to its
+ * parent is assigned an increasing <em>link sequence</em>. Sets of
+ * descendants therefore are snapshots that only contain the nodes that were
+ * linked before the set was created.
+ *
+ * @since 1.6
+ */
+final class TestPlanIndex {
+
+	private static final int NO_NODE = -1;
+	private static final int INITIAL_CAPACITY = 32;
+
+	private final Lock readLock;
+	private final Lock writeLock;
+
+	private final Map<String, Integer> nodesByUniqueId = new HashMap<>(INITIAL_CAPACITY);
+	// children that were added before their parent
+	private final Map<String, List<Integer>> orphansByParentId = new HashMap<>();
+
+	private TestIdentifier[] identifiers = new TestIdentifier[INITIAL_CAPACITY];
+	private int[] parents = new int[INITIAL_CAPACITY];
+	private int[] firstChildren = new int[INITIAL_CAPACITY];
+	private int[] lastChildren = new int[INITIAL_CAPACITY];
+	private int[] nextSiblings = new int[INITIAL_CAPACITY];
+	private int[] childCounts = new int[INITIAL_CAPACITY];
+	private int[] descendantCounts = new int[INITIAL_CAPACITY];
+	private int[] linkSequences = new int[INITIAL_CAPACITY];
+	private int size;
+	private int linkCount;
+
+	TestPlanIndex() {
+		ReadWriteLock lock = new ReentrantReadWriteLock();
+		this.readLock = lock.readLock();
+		this.writeLock = lock.writeLock();
+	}
+
+	/**
+	 * Add the supplied identifier or replace a previously added one with the
+	 * same unique ID.
+	 */
+	void add(TestIdentifier identifier) {
+		writeLock.lock();
+		try {
+			Integer existingNode = nodesByUniqueId.get(identifier.getUniqueId());
+			if (existingNode != null) {
+				identifiers[existingNode] = identifier;
+				return;
+			}
+			int node = newNode(identifier);
+			if (identifier.getParentId().isPresent()) {
+				String parentId = identifier.getParentId().get();
+				Integer parent = nodesByUniqueId.get(parentId);
+				if (parent != null) {
+					link(parent, node);
+				}
+				else {
+					orphansByParentId.computeIfAbsent(parentId, key -> new ArrayList<>()).add(node);
+				}
+			}
+			List<Integer> orphans = orphansByParentId.remove(identifier.getUniqueId());
+			if (orphans != null) {
+				orphans.forEach(orphan -> link(node, orphan));
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private int newNode(TestIdentifier identifier) {
+		if (size == identifiers.length) {
+			int capacity = size * 2;
+			identifiers = Arrays.copyOf(identifiers, capacity);
+			parents = Arrays.copyOf(parents, capacity);
+			firstChildren = Arrays.copyOf(firstChildren, capacity);
+			lastChildren = Arrays.copyOf(lastChildren, capacity);
+			nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+			childCounts = Arrays.copyOf(childCounts, capacity);
+			descendantCounts = Arrays.copyOf(descendantCounts, capacity);
+			linkSequences = Arrays.copyOf(linkSequences, capacity);
+		}
+		int node = size++;
+		identifiers[node] = identifier;
+		parents[node] = NO_NODE;
+		firstChildren[node] = NO_NODE;
+		lastChildren[node] = NO_NODE;
+		nextSiblings[node] = NO_NODE;
+		childCounts[node] = 0;
+		descendantCounts[node] = 0;
+		linkSequences[node] = linkCount++;
+		nodesByUniqueId.put(identifier.getUniqueId(), node);
+		return node;
+	}
+
+	private void link(int parent, int child) {
+		parents[child] = parent;
+		linkSequences[child] = linkCount++;
+		if (lastChildren[parent] == NO_NODE) {
+			firstChildren[parent] = child;
+		}
+		else {
+			nextSiblings[lastChildren[parent]] = child;
+		}
+		lastChildren[parent] = child;
+		childCounts[parent]++;
+		int addedNodes = descendantCounts[child] + 1;
+		for (int ancestor = parent; ancestor != NO_NODE; ancestor = parents[ancestor]) {
+			descendantCounts[ancestor] += addedNodes;
+		}
+	}
+
+	/**
+	 * Get the identifier with the supplied unique ID or {@code null} if no
+	 * such identifier was added.
+	 */
+	TestIdentifier get(String uniqueId) {
+		readLock.lock();
+		try {
+			Integer node = nodesByUniqueId.get(uniqueId);
+			return node == null ? null : identifiers[node];
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	long count(Predicate<? super TestIdentifier> predicate) {
+		readLock.lock();
+		try {
+			long count = 0;
+			for (int node = 0; node < size; node++) {
+				if (predicate.test(identifiers[node])) {
+					count++;
+				}
+			}
+			return count;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Get an unmodifiable view of the children of the supplied unique ID that
+	 * reflects children added later.
+	 */
+	Set<TestIdentifier> getChildren(String parentId) {
+		readLock.lock();
+		try {
+			Integer parent = nodesByUniqueId.get(parentId);
+			if (parent == null) {
+				return getOrphans(parentId, false);
+			}
+			return new NodeSet(parent, Integer.MAX_VALUE, false);
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Get an unmodifiable snapshot of the descendants of the supplied unique
+	 * ID in the following order: first all children, then the descendants of
+	 * each child in the same order.
+	 */
+	Set<TestIdentifier> getDescendants(String parentId) {
+		readLock.lock();
+		try {
+			Integer parent = nodesByUniqueId.get(parentId);
+			if (parent == null) {
+				return getOrphans(parentId, true);
+			}
+			return new NodeSet(parent, linkCount, true);
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	private Set<TestIdentifier> getOrphans(String parentId, boolean includeDescendants) {
+		List<Integer> orphans = orphansByParentId.get(parentId);
+		if (orphans == null) {
+			return emptySet();
+		}
+		Set<TestIdentifier> result = new LinkedHashSet<>();
+		orphans.forEach(orphan -> result.add(identifiers[orphan]));
+		if (includeDescendants) {
+			orphans.forEach(orphan -> result.addAll(new NodeSet(orphan, linkCount, true)));
+		}
+		return unmodifiableSet(result);
+	}
+
+	/**
+	 * Children or descendants of a node that were linked before the supplied
+	 * link sequence.
+	 */
+	private class NodeSet extends AbstractSet<TestIdentifier> {
+
+		private final int root;
+		private final int linkLimit;
+		private final boolean recursive;
+		private final int snapshotSize;
+
+		NodeSet(int root, int linkLimit, boolean recursive) {
+			this.root = root;
+			this.linkLimit = linkLimit;
+			this.recursive = recursive;
+			this.snapshotSize = recursive ? descendantCounts[root] : NO_NODE;
+		}
+
+		@Override
+		public int size() {
+			if (recursive) {
+				return snapshotSize;
+			}
+			readLock.lock();
+			try {
+				return childCounts[root];
+			}
+			finally {
+				readLock.unlock();
+			}
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			if (!(object instanceof TestIdentifier)) {
+				return false;
+			}
+			readLock.lock();
+			try {
+				Integer node = nodesByUniqueId.get(((TestIdentifier) object).getUniqueId());
+				if (node == null || node == root) {
+					return false;
+				}
+				int current = node;
+				while (current != NO_NODE && current != root) {
+					if (linkSequences[current] >= linkLimit || (!recursive && current != node)) {
+						return false;
+					}
+					current = parents[current];
+				}
+				return current == root;
+			}
+			finally {
+				readLock.unlock();
+			}
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new NodeIterator(this);
+		}
+
+	}
+
+	private class NodeIterator implements Iterator<TestIdentifier> {
+
+		private final NodeSet nodeSet;
+		// each frame consists of the next child to return and the next child to expand
+		private final Deque<int[]> frames = new ArrayDeque<>();
+		private TestIdentifier next;
+
+		NodeIterator(NodeSet nodeSet) {
+			this.nodeSet = nodeSet;
+			readLock.lock();
+			try {
+				pushChildren(nodeSet.root);
+				advance();
+			}
+			finally {
+				readLock.unlock();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public TestIdentifier next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			TestIdentifier result = next;
+			readLock.lock();
+			try {
+				advance();
+			}
+			finally {
+				readLock.unlock();
+			}
+			return result;
+		}
+
+		private void advance() {
+			next = null;
+			while (!frames.isEmpty()) {
+				int[] frame = frames.peek();
+				if (frame[0] != NO_NODE) {
+					next = identifiers[frame[0]];
+					frame[0] = nextLinkedSibling(frame[0]);
+					return;
+				}
+				if (nodeSet.recursive && frame[1] != NO_NODE) {
+					int child = frame[1];
+					frame[1] = nextLinkedSibling(child);
+					pushChildren(child);
+					continue;
+				}
+				frames.pop();
+			}
+		}
+
+		private void pushChildren(int parent) {
+			int firstChild = firstChildren[parent];
+			if (firstChild != NO_NODE && linkSequences[firstChild] < nodeSet.linkLimit) {
+				frames.push(new int[] { firstChild, firstChild });
+			}
+		}
+
+		private int nextLinkedSibling(int node) {
+			// children are linked in increasing order
+			int sibling = nextSiblings[node];
+			return sibling == NO_NODE || linkSequences[sibling] >= nodeSet.linkLimit ? NO_NODE : sibling;
+		}
+
+	}
+
+}
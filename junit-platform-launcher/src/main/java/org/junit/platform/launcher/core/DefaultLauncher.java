@@ -10,15 +10,26 @@
 
 package org.junit.platform.launcher.core;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.FlightRecorderEventType;
+import org.junit.platform.commons.util.FlightRecorderEventType.FlightRecorderEvent;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
@@ -30,6 +41,7 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.EngineDiscoveryResult;
 import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -49,6 +61,25 @@ class DefaultLauncher implements Launcher {
 
 	private static final Logger logger = LoggerFactory.getLogger(DefaultLauncher.class);
 
+	// @formatter:off
+	private static final FlightRecorderEventType ENGINE_DISCOVERY_EVENT = FlightRecorderEventType
+			.builder("org.junit.platform.launcher.EngineDiscovery")
+			.label("Engine Discovery")
+			.category("JUnit", "Discovery")
+			.field("engineId", "Engine ID", String.class)
+			.field("phase", "Launcher Phase", String.class)
+			.field("testDescriptors", "Test Descriptors", int.class)
+			.field("successful", "Successful", boolean.class)
+			.build();
+
+	private static final FlightRecorderEventType ENGINE_EXECUTION_EVENT = FlightRecorderEventType
+			.builder("org.junit.platform.launcher.EngineExecution")
+			.label("Engine Execution")
+			.category("JUnit", "Execution")
+			.field("engineId", "Engine ID", String.class)
+			.build();
+	// @formatter:on
+
 	private final TestExecutionListenerRegistry listenerRegistry = new TestExecutionListenerRegistry();
 	private final EngineDiscoveryResultValidator discoveryResultValidator = new EngineDiscoveryResultValidator();
 	private final Iterable<TestEngine> testEngines;
@@ -147,6 +178,7 @@ class DefaultLauncher implements Launcher {
 
 	private Root discoverRoot(LauncherDiscoveryRequest discoveryRequest, String phase) {
 		Root root = new Root(discoveryRequest.getConfigurationParameters());
+		List<TestEngine> testEngines = new ArrayList<>();
 
 		for (TestEngine testEngine : this.testEngines) {
 			// @formatter:off
@@ -162,25 +194,91 @@ class DefaultLauncher implements Launcher {
 				continue;
 			}
 
-			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
-				testEngine.getId()));
+			testEngines.add(testEngine);
+		}
 
-			TestDescriptor rootDescriptor = discoverEngineRoot(testEngine, discoveryRequest);
-			root.add(testEngine, rootDescriptor);
+		boolean concurrent = testEngines.size() > 1 && discoveryRequest.getConfigurationParameters().getBoolean(
+			LauncherConstants.CONCURRENT_ENGINE_DISCOVERY_PROPERTY_NAME).orElse(false);
+		if (concurrent) {
+			List<TestDescriptor> rootDescriptors = applyConcurrently(testEngines, "junit-engine-discovery-",
+				testEngine -> discoverEngineRoot(testEngine, discoveryRequest, phase));
+			for (int i = 0; i < testEngines.size(); i++) {
+				root.add(testEngines.get(i), rootDescriptors.get(i));
+			}
+		}
+		else {
+			for (TestEngine testEngine : testEngines) {
+				root.add(testEngine, discoverEngineRoot(testEngine, discoveryRequest, phase));
+			}
 		}
 		root.applyPostDiscoveryFilters(discoveryRequest);
 		root.prune();
 		return root;
 	}
 
-	private TestDescriptor discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest discoveryRequest) {
+	/**
+	 * Apply the supplied action to each supplied engine in a separate thread.
+	 *
+	 * <p>The first exception thrown by an action, in the order of the
+	 * supplied engines, is rethrown in the calling thread.
+	 *
+	 * @return the results in the order of the supplied engines
+	 * @since 1.6
+	 */
+	private static <T> List<T> applyConcurrently(List<TestEngine> testEngines, String threadNamePrefix,
+			Function<TestEngine, T> action) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(testEngines.size(), runnable -> {
+			Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<T>> futures = new ArrayList<>();
+			for (TestEngine testEngine : testEngines) {
+				futures.add(executorService.submit(() -> action.apply(testEngine)));
+			}
+			List<T> results = new ArrayList<>();
+			for (Future<T> future : futures) {
+				results.add(await(future));
+			}
+			return results;
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while waiting for test engines to finish", ex);
+		}
+	}
+
+	private TestDescriptor discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest discoveryRequest,
+			String phase) {
+		logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
+			testEngine.getId()));
+
 		LauncherDiscoveryListener discoveryListener = discoveryRequest.getDiscoveryListener();
 		UniqueId uniqueEngineId = UniqueId.forEngine(testEngine.getId());
+		FlightRecorderEvent event = ENGINE_DISCOVERY_EVENT.begin().set("engineId", testEngine.getId()).set("phase",
+			phase);
 		try {
 			discoveryListener.engineDiscoveryStarted(uniqueEngineId);
 			TestDescriptor engineRoot = testEngine.discover(discoveryRequest, uniqueEngineId);
 			discoveryResultValidator.validate(testEngine, engineRoot);
 			discoveryListener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.successful());
+			if (event.isEnabled()) {
+				event.set("testDescriptors", engineRoot.getDescendants().size()).set("successful", true);
+			}
 			return engineRoot;
 		}
 		catch (Throwable throwable) {
@@ -190,6 +288,9 @@ class DefaultLauncher implements Launcher {
 			discoveryListener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.failed(cause));
 			return new EngineDiscoveryErrorDescriptor(uniqueEngineId, testEngine, cause);
 		}
+		finally {
+			event.commit();
+		}
 	}
 
 	private void execute(InternalTestPlan internalTestPlan, TestExecutionListener[] listeners) {
@@ -198,23 +299,42 @@ class DefaultLauncher implements Launcher {
 		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(listeners);
 		withInterceptedStreams(configurationParameters, listenerRegistry, testExecutionListener -> {
 			testExecutionListener.testPlanExecutionStarted(internalTestPlan);
-			ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(internalTestPlan,
-				testExecutionListener);
-			for (TestEngine testEngine : root.getTestEngines()) {
-				TestDescriptor engineDescriptor = root.getTestDescriptorFor(testEngine);
-				if (engineDescriptor instanceof EngineDiscoveryErrorDescriptor) {
-					engineExecutionListener.executionStarted(engineDescriptor);
-					engineExecutionListener.executionFinished(engineDescriptor,
-						TestExecutionResult.failed(((EngineDiscoveryErrorDescriptor) engineDescriptor).getCause()));
-				}
-				else {
-					execute(engineDescriptor, engineExecutionListener, configurationParameters, testEngine);
+			List<TestEngine> testEngines = new ArrayList<>();
+			root.getTestEngines().forEach(testEngines::add);
+			boolean concurrent = testEngines.size() > 1 && configurationParameters.getBoolean(
+				LauncherConstants.CONCURRENT_ENGINE_EXECUTION_PROPERTY_NAME).orElse(false);
+			if (concurrent) {
+				ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(internalTestPlan,
+					new SynchronizedTestExecutionListener(testExecutionListener));
+				applyConcurrently(testEngines, "junit-engine-execution-", testEngine -> {
+					execute(root, testEngine, engineExecutionListener, configurationParameters);
+					return null;
+				});
+			}
+			else {
+				ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(internalTestPlan,
+					testExecutionListener);
+				for (TestEngine testEngine : testEngines) {
+					execute(root, testEngine, engineExecutionListener, configurationParameters);
 				}
 			}
 			testExecutionListener.testPlanExecutionFinished(internalTestPlan);
 		});
 	}
 
+	private void execute(Root root, TestEngine testEngine, EngineExecutionListener engineExecutionListener,
+			ConfigurationParameters configurationParameters) {
+		TestDescriptor engineDescriptor = root.getTestDescriptorFor(testEngine);
+		if (engineDescriptor instanceof EngineDiscoveryErrorDescriptor) {
+			engineExecutionListener.executionStarted(engineDescriptor);
+			engineExecutionListener.executionFinished(engineDescriptor,
+				TestExecutionResult.failed(((EngineDiscoveryErrorDescriptor) engineDescriptor).getCause()));
+		}
+		else {
+			execute(engineDescriptor, engineExecutionListener, configurationParameters, testEngine);
+		}
+	}
+
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
 			TestExecutionListenerRegistry listenerRegistry, Consumer<TestExecutionListener> action) {
 
@@ -244,6 +364,7 @@ class DefaultLauncher implements Launcher {
 
 		OutcomeDelayingEngineExecutionListener delayingListener = new OutcomeDelayingEngineExecutionListener(listener,
 			engineDescriptor);
+		FlightRecorderEvent event = ENGINE_EXECUTION_EVENT.begin().set("engineId", testEngine.getId());
 		try {
 			testEngine.execute(new ExecutionRequest(engineDescriptor, delayingListener, configurationParameters));
 			delayingListener.reportEngineOutcome();
@@ -253,6 +374,9 @@ class DefaultLauncher implements Launcher {
 			delayingListener.reportEngineFailure(new JUnitException(
 				String.format("TestEngine with ID '%s' failed to execute tests", testEngine.getId()), throwable));
 		}
+		finally {
+			event.commit();
+		}
 	}
 
 }
@@ -12,8 +12,10 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.engine.Filter.composeFilters;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.platform.engine.ConfigurationParameters;
@@ -21,6 +23,8 @@ import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.ShardFilter;
 
 /**
  * Represents the root of all discovered {@link TestEngine TestEngines} and
@@ -61,7 +65,9 @@ class Root {
 	}
 
 	void applyPostDiscoveryFilters(LauncherDiscoveryRequest discoveryRequest) {
-		Filter<TestDescriptor> postDiscoveryFilter = composeFilters(discoveryRequest.getPostDiscoveryFilters());
+		List<PostDiscoveryFilter> postDiscoveryFilters = new ArrayList<>(discoveryRequest.getPostDiscoveryFilters());
+		ShardFilter.fromConfigurationParameters(configurationParameters).ifPresent(postDiscoveryFilters::add);
+		Filter<TestDescriptor> postDiscoveryFilter = composeFilters(postDiscoveryFilters);
 		TestDescriptor.Visitor removeExcludedTestDescriptors = descriptor -> {
 			if (!descriptor.isRoot() && isExcluded(descriptor, postDiscoveryFilter)) {
 				descriptor.removeFromHierarchy();
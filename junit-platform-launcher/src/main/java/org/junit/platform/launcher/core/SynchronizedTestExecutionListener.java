@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that notifies its delegate of one event at a
+ * time so that events of concurrently executed engines do not overlap.
+ *
+ * @since 1.6
+ */
+class SynchronizedTestExecutionListener implements TestExecutionListener {
+
+	private final TestExecutionListener delegate;
+
+	SynchronizedTestExecutionListener(TestExecutionListener delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+		delegate.testPlanExecutionStarted(testPlan);
+	}
+
+	@Override
+	public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+		delegate.testPlanExecutionFinished(testPlan);
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		delegate.dynamicTestRegistered(testIdentifier);
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		delegate.executionSkipped(testIdentifier, reason);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestIdentifier testIdentifier) {
+		delegate.executionStarted(testIdentifier);
+	}
+
+	@Override
+	public synchronized void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		delegate.executionFinished(testIdentifier, testExecutionResult);
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		delegate.reportingEntryPublished(testIdentifier, entry);
+	}
+
+}
@@ -16,7 +16,6 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -122,15 +121,25 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 				+ " and will therefore be run completely.");
 	}
 
-	public Optional<List<Filter>> getFilters() {
-		return Optional.ofNullable(filters);
+	/**
+	 * Add a filter unless all children are to be executed because the filters
+	 * were cleared.
+	 *
+	 * <p>Synchronized since selectors may be resolved concurrently.
+	 *
+	 * @since 5.6
+	 */
+	public synchronized void addFilter(Filter filter) {
+		if (filters != null) {
+			filters.add(filter);
+		}
 	}
 
-	public void clearFilters() {
+	public synchronized void clearFilters() {
 		this.filters = null;
 	}
 
-	public void applyFilters(Consumer<RunnerTestDescriptor> childrenCreator) {
+	public synchronized void applyFilters(Consumer<RunnerTestDescriptor> childrenCreator) {
 		if (filters != null && !filters.isEmpty()) {
 			if (runner instanceof Filterable) {
 				this.runner = toRequest().filterWith(new OrFilter(filters)).getRunner();
@@ -10,17 +10,37 @@
 
 package org.junit.vintage.engine.discovery;
 
+import static java.util.Collections.unmodifiableSet;
 import static org.junit.platform.commons.util.ReflectionUtils.isAbstract;
 import static org.junit.platform.commons.util.ReflectionUtils.isInnerClass;
 import static org.junit.platform.commons.util.ReflectionUtils.isPublic;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
+import org.junit.platform.commons.util.CollectionUtils;
+
 /**
  * @since 4.12
  */
 class IsPotentialJUnit4TestClass implements Predicate<Class<?>> {
 
+	/**
+	 * Fully qualified names of the types that JUnit 4 test classes reference:
+	 * test methods, runners, and JUnit 3 style {@code suite()} methods. Classes
+	 * extending {@code TestCase} are always considered candidates since they
+	 * have a superclass.
+	 *
+	 * @since 5.6
+	 */
+	// @formatter:off
+	static final Set<String> CANDIDATE_ANNOTATION_NAMES = unmodifiableSet(CollectionUtils.toSet(new String[] {
+			"org.junit.Test",
+			"org.junit.runner.RunWith",
+			"junit.framework.Test"
+	}));
+	// @formatter:on
+
 	@Override
 	public boolean test(Class<?> candidate) {
 		// Do not collapse into a single return statement.
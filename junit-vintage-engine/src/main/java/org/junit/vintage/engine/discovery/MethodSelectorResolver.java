@@ -61,8 +61,7 @@ class MethodSelectorResolver implements SelectorResolver {
 			Function<RunnerTestDescriptor, Filter> filterCreator) {
 		if (parent instanceof RunnerTestDescriptor) {
 			RunnerTestDescriptor runnerTestDescriptor = (RunnerTestDescriptor) parent;
-			runnerTestDescriptor.getFilters().ifPresent(
-				filters -> filters.add(filterCreator.apply(runnerTestDescriptor)));
+			runnerTestDescriptor.addFilter(filterCreator.apply(runnerTestDescriptor));
 			return Optional.of(runnerTestDescriptor);
 		}
 		return Optional.empty();
@@ -32,7 +32,7 @@ public class VintageDiscoverer {
 
 	// @formatter:off
 	private static final EngineDiscoveryRequestResolver<TestDescriptor> resolver = EngineDiscoveryRequestResolver.builder()
-			.addClassContainerSelectorResolver(isPotentialJUnit4TestClass)
+			.addClassContainerSelectorResolver(isPotentialJUnit4TestClass, IsPotentialJUnit4TestClass.CANDIDATE_ANNOTATION_NAMES)
 			.addSelectorResolver(context -> new ClassSelectorResolver(ClassFilter.of(context.getClassNameFilter(), isPotentialJUnit4TestClass)))
 			.addSelectorResolver(new MethodSelectorResolver())
 			.build();
@@ -11,6 +11,7 @@
 package org.junit.vintage.engine;
 
 import static java.text.MessageFormat.format;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.function.Predicate.isEqual;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +28,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMetho
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.Method;
@@ -42,6 +44,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.ClassUtils;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
@@ -563,6 +566,27 @@ class VintageTestEngineDiscoveryTests {
 		assertInitializationError(testDescriptor, Filter.class, testClass);
 	}
 
+	@Test
+	void resolvesSelectorsForMethodsOfSameClassInParallel() throws Exception {
+		Class<?> testClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
+		List<DiscoverySelector> selectors = new ArrayList<>();
+		for (String methodName : asList("abortedTest", "failingTest", "ignoredTest1_withoutReason",
+			"ignoredTest2_withReason")) {
+			selectors.add(selectMethod(testClass, testClass.getMethod(methodName)));
+		}
+		selectors.add(selectUniqueId(VintageUniqueIdBuilder.uniqueIdForMethod(testClass, "successfulTest")));
+		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectors).configurationParameter(
+			SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME, "4").build();
+
+		for (int i = 0; i < 100; i++) {
+			TestDescriptor engineDescriptor = discoverTests(discoveryRequest);
+
+			TestDescriptor runnerDescriptor = getOnlyElement(engineDescriptor.getChildren());
+			assertRunnerTestDescriptor(runnerDescriptor, testClass);
+			assertThat(runnerDescriptor.getChildren()).hasSize(5);
+		}
+	}
+
 	@Test
 	void ignoresMoreFineGrainedSelectorsWhenClassIsSelectedAsWell() throws Exception {
 		Class<?> testClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
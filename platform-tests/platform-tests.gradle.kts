@@ -10,6 +10,7 @@ dependencies {
 	testImplementation(project(":junit-platform-commons"))
 	testImplementation(project(":junit-platform-console"))
 	testImplementation(project(":junit-platform-engine"))
+	testImplementation(project(":junit-platform-index"))
 	testImplementation(project(":junit-platform-launcher"))
 
 	// --- Things we are testing with ---------------------------------------------
@@ -30,6 +31,7 @@ dependencies {
 	}
 	jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:${Versions.jmh}")
 	jmh(project(":junit-jupiter-api"))
+	jmh(project(":junit-platform-engine"))
 	jmh("junit:junit:${Versions.junit4}")
 }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for looking up annotations with {@link AnnotationUtils}
+ * compared to looking them up without its cache, as a test engine does for
+ * each test class and method during discovery and execution.
+ *
+ * @since 1.6
+ */
+@State(Scope.Benchmark)
+public class AnnotationUtilsBenchmarks {
+
+	private final List<AnnotatedElement> elements = new ArrayList<>();
+
+	@Setup
+	public void collectElements() {
+		elements.add(SampleTestCase.class);
+		for (Method method : SampleTestCase.class.getDeclaredMethods()) {
+			elements.add(method);
+		}
+	}
+
+	@Benchmark
+	public void findAnnotation(Blackhole blackhole) {
+		for (AnnotatedElement element : elements) {
+			blackhole.consume(AnnotationUtils.findAnnotation(element, Testable.class));
+			blackhole.consume(AnnotationUtils.findAnnotation(element, Timeout.class));
+			blackhole.consume(AnnotationUtils.findAnnotation(element, Disabled.class));
+		}
+	}
+
+	@Benchmark
+	public void findAnnotationWithoutCache(Blackhole blackhole) {
+		for (AnnotatedElement element : elements) {
+			blackhole.consume(AnnotationUtils.lookUpAnnotation(element, Testable.class));
+			blackhole.consume(AnnotationUtils.lookUpAnnotation(element, Timeout.class));
+			blackhole.consume(AnnotationUtils.lookUpAnnotation(element, Disabled.class));
+		}
+	}
+
+	@Benchmark
+	public void findRepeatableAnnotations(Blackhole blackhole) {
+		for (AnnotatedElement element : elements) {
+			blackhole.consume(AnnotationUtils.findRepeatableAnnotations(element, Tag.class));
+		}
+	}
+
+	@Benchmark
+	public void findRepeatableAnnotationsWithoutCache(Blackhole blackhole) {
+		for (AnnotatedElement element : elements) {
+			blackhole.consume(AnnotationUtils.lookUpRepeatableAnnotations(element, Tag.class));
+		}
+	}
+
+	@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Testable {
+	}
+
+	@Target(ElementType.METHOD)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Testable
+	@interface Test {
+	}
+
+	@Target({ ElementType.TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Inherited
+	@interface Timeout {
+	}
+
+	@Target({ ElementType.TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Disabled {
+	}
+
+	@Target({ ElementType.TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Inherited
+	@interface Tags {
+
+		Tag[] value();
+	}
+
+	@Target({ ElementType.TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Inherited
+	@Repeatable(Tags.class)
+	@interface Tag {
+
+		String value();
+	}
+
+	@Target({ ElementType.TYPE, ElementType.METHOD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Tag("fast")
+	@Tag("unit")
+	@interface FastUnitTest {
+	}
+
+	@Tag("lifecycle")
+	interface LifecycleContract {
+	}
+
+	interface EqualsContract {
+	}
+
+	@Tag("base")
+	static class AbstractTestCase {
+	}
+
+	@FastUnitTest
+	static class SampleTestCase extends AbstractTestCase implements LifecycleContract, EqualsContract {
+
+		@Test
+		void first() {
+		}
+
+		@Test
+		@Tag("slow")
+		void second() {
+		}
+
+		@Test
+		@FastUnitTest
+		void third() {
+		}
+
+		@Test
+		@Disabled
+		void fourth() {
+		}
+
+		void helper() {
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for invoking test methods via
+ * {@link ReflectionUtils#invokeMethod(Method, Object, Object...)} compared to
+ * invoking them via a cached {@link MethodHandle} that accepts the same
+ * target and argument array.
+ *
+ * @since 1.6
+ */
+@State(Scope.Benchmark)
+public class MethodInvocationBenchmarks {
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class,
+		Object[].class);
+
+	/**
+	 * Number of {@code int} parameters of the invoked method, like those of a
+	 * parameterized test.
+	 */
+	@Param({ "0", "2" })
+	public int numberOfArguments;
+
+	private final SampleTestCase target = new SampleTestCase();
+	private Method method;
+	private MethodHandle methodHandle;
+	private int invocation;
+
+	@Setup
+	public void createInvokers() throws Exception {
+		Class<?>[] parameterTypes = new Class<?>[numberOfArguments];
+		for (int i = 0; i < numberOfArguments; i++) {
+			parameterTypes[i] = int.class;
+		}
+		method = ReflectionUtils.makeAccessible(SampleTestCase.class.getDeclaredMethod("test", parameterTypes));
+		methodHandle = MethodHandles.lookup().unreflect(method) //
+				.asSpreader(Object[].class, numberOfArguments) //
+				.asType(INVOKER_TYPE);
+	}
+
+	@Benchmark
+	public Object invokeReflectively() {
+		return ReflectionUtils.invokeMethod(method, target, arguments());
+	}
+
+	@Benchmark
+	public Object invokeMethodHandle() throws Throwable {
+		return (Object) methodHandle.invokeExact((Object) target, arguments());
+	}
+
+	private Object[] arguments() {
+		// the arguments of each invocation are resolved and boxed anew
+		Object[] arguments = new Object[numberOfArguments];
+		for (int i = 0; i < numberOfArguments; i++) {
+			arguments[i] = invocation++;
+		}
+		return arguments;
+	}
+
+	static class SampleTestCase {
+
+		private int sum;
+
+		private void test() {
+			sum++;
+		}
+
+		private void test(int a, int b) {
+			sum += a + b;
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.platform.engine.UniqueId.Segment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for parsing unique IDs with {@link UniqueIdFormat} compared
+ * to the previous implementation based on regular expressions.
+ *
+ * @since 1.6
+ */
+@State(Scope.Benchmark)
+public class UniqueIdFormatBenchmarks {
+
+	private static final Pattern SEGMENT_PATTERN = Pattern.compile("\\[(.+):(.+)\\]", Pattern.DOTALL);
+
+	@Param({ "1000" })
+	public int numberOfUniqueIds;
+
+	/**
+	 * Whether the method segments of the unique IDs contain encoded
+	 * characters, e.g. for array parameters.
+	 */
+	@Param({ "false", "true" })
+	public boolean encoded;
+
+	private final UniqueIdFormat format = UniqueIdFormat.getDefault();
+	private List<String> uniqueIds;
+
+	@Setup
+	public void createUniqueIds() {
+		uniqueIds = new ArrayList<>(numberOfUniqueIds);
+		for (int i = 0; i < numberOfUniqueIds; i++) {
+			UniqueId uniqueId = UniqueId.forEngine("junit-jupiter") //
+					.append("class", "com.example.Class" + (i / 10) + "Tests") //
+					.append("test-template", "test" + i + (encoded ? "(int[], java.lang.String)" : "(int)")) //
+					.append("test-template-invocation", "#" + i);
+			uniqueIds.add(uniqueId.toString());
+		}
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		for (String uniqueId : uniqueIds) {
+			blackhole.consume(format.parse(uniqueId));
+		}
+	}
+
+	@Benchmark
+	public void parseWithRegex(Blackhole blackhole) {
+		for (String uniqueId : uniqueIds) {
+			blackhole.consume(parseWithRegex(uniqueId));
+		}
+	}
+
+	/**
+	 * Previous implementation of {@link UniqueIdFormat#parse(String)} for the
+	 * default format without validating types and values.
+	 */
+	private UniqueId parseWithRegex(String source) {
+		List<Segment> segments = new ArrayList<>();
+		for (String part : source.split("/")) {
+			Matcher segmentMatcher = SEGMENT_PATTERN.matcher(part);
+			if (!segmentMatcher.matches()) {
+				throw new IllegalArgumentException(part);
+			}
+			segments.add(new Segment(decode(segmentMatcher.group(1)), decode(segmentMatcher.group(2))));
+		}
+		return new UniqueId(format, segments);
+	}
+
+	private static String decode(String s) {
+		try {
+			return URLDecoder.decode(s, StandardCharsets.UTF_8.name());
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.discovery;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for resolving large numbers of selectors, such as when
+ * rerunning individual tests from an IDE.
+ *
+ * @since 1.6
+ */
+@State(Scope.Benchmark)
+public class SelectorResolutionBenchmarks {
+
+	private static final UniqueId ENGINE_ID = UniqueId.forEngine("benchmark");
+
+	@Param({ "500" })
+	public int numberOfClasses;
+
+	@Param({ "100" })
+	public int numberOfMethodsPerClass;
+
+	@Param({ "1", "4" })
+	public int parallelism;
+
+	/**
+	 * Simulated work per resolved selector, for example for loading classes
+	 * and looking up methods.
+	 */
+	@Param({ "0", "2000" })
+	public int tokensPerSelector;
+
+	private EngineDiscoveryRequestResolver<EngineDescriptor> resolver;
+	private EngineDiscoveryRequest request;
+
+	@Setup
+	public void createRequest() {
+		List<DiscoverySelector> selectors = new ArrayList<>();
+		for (int i = 0; i < numberOfClasses; i++) {
+			UniqueId classId = ENGINE_ID.append("class", "com.example.Class" + i + "Tests");
+			for (int j = 0; j < numberOfMethodsPerClass; j++) {
+				selectors.add(selectUniqueId(classId.append("method", "test" + j + "()")));
+			}
+		}
+		request = new BenchmarkDiscoveryRequest(selectors, parallelism);
+		resolver = EngineDiscoveryRequestResolver.<EngineDescriptor> builder() //
+				.addSelectorResolver(new UniqueIdSelectorResolver(tokensPerSelector)) //
+				.build();
+	}
+
+	@Benchmark
+	public TestDescriptor resolveUniqueIdSelectors() {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(ENGINE_ID, "benchmark");
+		resolver.resolve(request, engineDescriptor);
+		return engineDescriptor;
+	}
+
+	private static class UniqueIdSelectorResolver implements SelectorResolver {
+
+		private final int tokensPerSelector;
+
+		UniqueIdSelectorResolver(int tokensPerSelector) {
+			this.tokensPerSelector = tokensPerSelector;
+		}
+
+		@Override
+		public Resolution resolve(UniqueIdSelector selector, Context context) {
+			UniqueId uniqueId = selector.getUniqueId();
+			List<UniqueId.Segment> segments = uniqueId.getSegments();
+			if (segments.size() < 2) {
+				return Resolution.unresolved();
+			}
+			Blackhole.consumeCPU(tokensPerSelector);
+			boolean container = "class".equals(segments.get(segments.size() - 1).getType());
+			// @formatter:off
+			return context
+					.addToParent(() -> selectUniqueId(uniqueId.removeLastSegment()),
+						parent -> Optional.of(new BenchmarkTestDescriptor(uniqueId, container)))
+					.map(descriptor -> Resolution.match(Match.exact(descriptor)))
+					.orElse(Resolution.unresolved());
+			// @formatter:on
+		}
+
+	}
+
+	private static class BenchmarkTestDescriptor extends AbstractTestDescriptor {
+
+		private final boolean container;
+
+		BenchmarkTestDescriptor(UniqueId uniqueId, boolean container) {
+			super(uniqueId, uniqueId.getLastSegment().getValue());
+			this.container = container;
+		}
+
+		@Override
+		public Type getType() {
+			return container ? Type.CONTAINER : Type.TEST;
+		}
+
+	}
+
+	private static class BenchmarkDiscoveryRequest implements EngineDiscoveryRequest {
+
+		private final List<DiscoverySelector> selectors;
+		private final ConfigurationParameters configurationParameters;
+
+		BenchmarkDiscoveryRequest(List<DiscoverySelector> selectors, int parallelism) {
+			this.selectors = selectors;
+			this.configurationParameters = new ConfigurationParameters() {
+
+				@Override
+				public Optional<String> get(String key) {
+					return SELECTOR_RESOLUTION_PARALLELISM_PROPERTY_NAME.equals(key)
+							? Optional.of(String.valueOf(parallelism))
+							: Optional.empty();
+				}
+
+				@Override
+				public Optional<Boolean> getBoolean(String key) {
+					return get(key).map(Boolean::valueOf);
+				}
+
+				@Override
+				public int size() {
+					return 1;
+				}
+			};
+		}
+
+		@Override
+		public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+			return selectors.stream().filter(selectorType::isInstance).map(selectorType::cast).collect(toList());
+		}
+
+		@Override
+		public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
+			return emptyList();
+		}
+
+		@Override
+		public ConfigurationParameters getConfigurationParameters() {
+			return configurationParameters;
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for computing resource locks of large test trees.
+ *
+ * @since 1.6
+ */
+@State(Scope.Benchmark)
+public class ResourceLockBenchmarks {
+
+	private static final List<ExclusiveResource> RESOURCES = Arrays.asList( //
+		new ExclusiveResource("db", READ_WRITE), //
+		new ExclusiveResource("system.properties", READ), //
+		new ExclusiveResource("system.out", READ_WRITE), //
+		new ExclusiveResource("db", READ));
+
+	@Param({ "1000" })
+	public int numberOfClasses;
+
+	@Param({ "400" })
+	public int numberOfMethodsPerClass;
+
+	private TestDescriptor treeWithoutLocks;
+	private TestDescriptor treeWithMethodLocks;
+	private TestDescriptor treeWithClassLocks;
+
+	@Setup
+	public void createTrees() {
+		treeWithoutLocks = createTree(false, false);
+		treeWithMethodLocks = createTree(false, true);
+		treeWithClassLocks = createTree(true, false);
+	}
+
+	@Benchmark
+	public NodeExecutionAdvisor walkTreeWithoutLocks() {
+		return new NodeTreeWalker().walk(treeWithoutLocks);
+	}
+
+	@Benchmark
+	public NodeExecutionAdvisor walkTreeWithMethodLocks() {
+		return new NodeTreeWalker().walk(treeWithMethodLocks);
+	}
+
+	@Benchmark
+	public NodeExecutionAdvisor walkTreeWithClassLocks() {
+		return new NodeTreeWalker().walk(treeWithClassLocks);
+	}
+
+	private TestDescriptor createTree(boolean classLocks, boolean methodLocks) {
+		UniqueId engineId = UniqueId.forEngine("benchmark");
+		BenchmarkTestDescriptor engine = new BenchmarkTestDescriptor(engineId, emptySet());
+		for (int i = 0; i < numberOfClasses; i++) {
+			UniqueId classId = engineId.append("class", "Class" + i);
+			BenchmarkTestDescriptor testClass = new BenchmarkTestDescriptor(classId,
+				classLocks ? resourcesFor(i) : emptySet());
+			for (int j = 0; j < numberOfMethodsPerClass; j++) {
+				testClass.addChild(new BenchmarkTestDescriptor(classId.append("method", "method" + j + "()"),
+					methodLocks ? resourcesFor(j) : emptySet()));
+			}
+			engine.addChild(testClass);
+		}
+		return engine;
+	}
+
+	private static Set<ExclusiveResource> resourcesFor(int index) {
+		return singleton(RESOURCES.get(index % RESOURCES.size()));
+	}
+
+	private static class BenchmarkTestDescriptor extends AbstractTestDescriptor
+			implements Node<EngineExecutionContext> {
+
+		private final Set<ExclusiveResource> exclusiveResources;
+
+		BenchmarkTestDescriptor(UniqueId uniqueId, Set<ExclusiveResource> exclusiveResources) {
+			super(uniqueId, uniqueId.getLastSegment().getValue());
+			this.exclusiveResources = exclusiveResources;
+		}
+
+		@Override
+		public Type getType() {
+			return getChildren().isEmpty() ? Type.TEST : Type.CONTAINER;
+		}
+
+		@Override
+		public Set<ExclusiveResource> getExclusiveResources() {
+			return exclusiveResources;
+		}
+	}
+
+}
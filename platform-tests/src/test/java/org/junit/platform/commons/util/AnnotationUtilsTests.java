@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotatedFields;
@@ -522,12 +523,65 @@ class AnnotationUtilsTests {
 		assertThat(asNames(fields)).containsExactlyInAnyOrder("foo", "bar");
 	}
 
+	@Test
+	void findAnnotationCachesResultForEqualElements() throws Exception {
+		Optional<Annotation1> first = findAnnotation(Annotation2Class.class.getDeclaredMethod("method"),
+			Annotation1.class);
+		Optional<Annotation1> second = findAnnotation(Annotation2Class.class.getDeclaredMethod("method"),
+			Annotation1.class);
+
+		assertThat(first).isPresent();
+		assertSame(first, second);
+	}
+
+	@Test
+	void findRepeatableAnnotationsCachesResult() {
+		List<Tag> first = findRepeatableAnnotations(MultiTaggedClass.class, Tag.class);
+		List<Tag> second = findRepeatableAnnotations(MultiTaggedClass.class, Tag.class);
+
+		assertThat(first).isNotEmpty();
+		assertSame(first, second);
+	}
+
+	@Test
+	void findAnnotationDoesNotCacheResultForCustomAnnotatedElement() {
+		DelegatingAnnotatedElement element = new DelegatingAnnotatedElement(Annotation2Class.class);
+		assertThat(findAnnotation(element, Annotation1.class)).isEmpty();
+
+		element.delegate = Annotation1Class.class;
+		assertThat(findAnnotation(element, Annotation1.class)).isPresent();
+	}
+
 	private List<String> asNames(List<Field> fields) {
 		return fields.stream().map(Field::getName).collect(toList());
 	}
 
 	// -------------------------------------------------------------------------
 
+	private static class DelegatingAnnotatedElement implements AnnotatedElement {
+
+		AnnotatedElement delegate;
+
+		DelegatingAnnotatedElement(AnnotatedElement delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+			return delegate.getAnnotation(annotationClass);
+		}
+
+		@Override
+		public Annotation[] getAnnotations() {
+			return delegate.getAnnotations();
+		}
+
+		@Override
+		public Annotation[] getDeclaredAnnotations() {
+			return delegate.getDeclaredAnnotations();
+		}
+	}
+
 	@Target(ElementType.TYPE)
 	@Retention(RetentionPolicy.RUNTIME)
 	@interface AnnotationWithDefaultValue {
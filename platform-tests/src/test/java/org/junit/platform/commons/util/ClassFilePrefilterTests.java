@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ClassFilePrefilter}.
+ *
+ * @since 1.6
+ */
+class ClassFilePrefilterTests {
+
+	private final ClassFilePrefilter prefilter = new ClassFilePrefilter(
+		Set.of(Test.class.getName(), Nested.class.getName()));
+
+	private Set<String> excludedClassNames;
+
+	@BeforeEach
+	void findExcludedClassNames() throws Exception {
+		var classesDir = Paths.get(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+		excludedClassNames = prefilter.findExcludedClassNames(
+			classesDir.resolve(getClass().getPackage().getName().replace('.', '/')));
+	}
+
+	@Test
+	void classesWithoutCandidateAnnotationsAreExcluded() {
+		assertThat(excludedClassNames).contains(Helper.class.getName(), Color.class.getName());
+	}
+
+	@Test
+	void annotationTypesAreExcluded() {
+		assertThat(excludedClassNames).contains(ComposedTest.class.getName(), MetaComposedTest.class.getName());
+	}
+
+	@Test
+	void classesWithCandidateAnnotationsAreNotExcluded() {
+		assertThat(excludedClassNames).doesNotContain(AnnotatedTestCase.class.getName(), getClass().getName());
+	}
+
+	@Test
+	void classesWithComposedAnnotationsDeclaredInSameRootAreNotExcluded() {
+		assertThat(excludedClassNames).doesNotContain(MetaComposedTestCase.class.getName());
+	}
+
+	@Test
+	void classesThatMightInheritAnnotatedMethodsAreNotExcluded() {
+		assertThat(excludedClassNames).doesNotContain(HelperSubclass.class.getName());
+	}
+
+	@Test
+	void classesDeclaringNestedClassesAreNotExcluded() {
+		assertThat(excludedClassNames).doesNotContain(Outer.class.getName());
+		assertThat(excludedClassNames).contains(Outer.Inner.class.getName());
+	}
+
+	@Test
+	void unreadableClassFilesAreNotExcluded(@TempDir Path tempDir) throws Exception {
+		Files.write(tempDir.resolve("Broken.class"), new byte[] { (byte) 0xCA, (byte) 0xFE });
+
+		assertThat(prefilter.findExcludedClassNames(tempDir)).isEmpty();
+	}
+
+	static class Helper {
+
+		void helper() {
+		}
+	}
+
+	enum Color {
+		RED
+	}
+
+	static class AnnotatedTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Test
+	@interface ComposedTest {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@ComposedTest
+	@interface MetaComposedTest {
+	}
+
+	static class MetaComposedTestCase {
+
+		@MetaComposedTest
+		void test() {
+		}
+	}
+
+	static class HelperSubclass extends Helper {
+	}
+
+	static class Outer {
+
+		class Inner {
+		}
+	}
+
+}
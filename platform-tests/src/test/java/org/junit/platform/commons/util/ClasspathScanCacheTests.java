@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ClasspathScanCache}.
+ *
+ * @since 1.6
+ */
+class ClasspathScanCacheTests {
+
+	@TempDir
+	Path tempDir;
+
+	private Path classpathRoot;
+
+	private Path cacheFile;
+
+	private Path classesDir;
+
+	private final List<String> loadedClassNames = new ArrayList<>();
+
+	private final ClasspathScanner classpathScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+		(name, classLoader) -> {
+			loadedClassNames.add(name);
+			return ReflectionUtils.tryToLoadClass(name, classLoader);
+		});
+
+	@BeforeEach
+	void copyClassFiles() throws Exception {
+		classpathRoot = tempDir.resolve("classes");
+		cacheFile = tempDir.resolve("cache.properties");
+		classesDir = Paths.get(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+		for (var type : List.of(Helper.class, HelperSubclass.class, TestCase.class)) {
+			copyClassFile(type);
+		}
+	}
+
+	@Test
+	void unchangedRejectedClassesAreNotLoadedAgain() {
+		assertThat(scan()).containsExactly(TestCase.class);
+		assertThat(loadedClassNames).contains(Helper.class.getName(), HelperSubclass.class.getName());
+		assertThat(cacheFile).exists();
+
+		loadedClassNames.clear();
+
+		assertThat(scan()).containsExactly(TestCase.class);
+		assertThat(loadedClassNames).containsExactlyInAnyOrder(HelperSubclass.class.getName(),
+			TestCase.class.getName());
+	}
+
+	@Test
+	void changedClassFilesAreLoadedAgain() throws Exception {
+		scan();
+		var classFile = classFile(Helper.class);
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(0));
+		loadedClassNames.clear();
+
+		scan();
+
+		assertThat(loadedClassNames).contains(Helper.class.getName());
+	}
+
+	@Test
+	void classesWithNonJdkAnnotationsAreNotCached() throws Exception {
+		copyClassFile(AnnotatedHelper.class);
+		copyClassFile(HelperWithAnnotatedMethod.class);
+		copyClassFile(HelperWithJdkAnnotation.class);
+		scan();
+		loadedClassNames.clear();
+
+		scan();
+
+		assertThat(loadedClassNames).contains(AnnotatedHelper.class.getName(),
+			HelperWithAnnotatedMethod.class.getName()).doesNotContain(HelperWithJdkAnnotation.class.getName());
+	}
+
+	@Test
+	void entriesOfDeletedClassFilesAreRemovedOnSave() throws Exception {
+		scan();
+		var classFile = classFile(Helper.class);
+		var fileName = classFile.getFileName().toString();
+		assertThat(Files.readString(cacheFile)).contains(fileName);
+
+		Files.delete(classFile);
+		scan();
+
+		assertThat(Files.readString(cacheFile)).doesNotContain(fileName);
+	}
+
+	@Test
+	void concurrentSavesWriteCompleteCache() throws Exception {
+		var cache = ClasspathScanCache.load(cacheFile);
+		var classFile = classFile(Helper.class);
+		var executor = Executors.newFixedThreadPool(4);
+		try {
+			var futures = new ArrayList<Future<?>>();
+			for (int i = 0; i < 20; i++) {
+				var matched = i % 2 == 0;
+				futures.add(executor.submit(() -> {
+					cache.record(classFile, Helper.class, matched);
+					cache.save();
+				}));
+			}
+			for (var future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		cache.record(classFile, Helper.class, false);
+		cache.save();
+
+		assertThat(ClasspathScanCache.load(cacheFile).isUnchangedRejectedClassFile(classFile)).isTrue();
+	}
+
+	@Test
+	void cacheIsNotWrittenIfNothingWasRecorded() {
+		var cache = ClasspathScanCache.load(cacheFile);
+
+		cache.save();
+
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	private void copyClassFile(Class<?> type) throws Exception {
+		var classFile = type.getName().replace('.', '/') + ".class";
+		var target = classpathRoot.resolve(classFile);
+		Files.createDirectories(target.getParent());
+		Files.copy(classesDir.resolve(classFile), target);
+	}
+
+	private Path classFile(Class<?> type) {
+		return classpathRoot.resolve(type.getName().replace('.', '/') + ".class");
+	}
+
+	private List<Class<?>> scan() {
+		var cache = ClasspathScanCache.load(cacheFile);
+		var classFilter = ClassFilter.of(name -> true, type -> type == TestCase.class, emptySet(), cache);
+		var classes = classpathScanner.scanForClassesInClasspathRoot(classpathRoot.toUri(), classFilter);
+		cache.save();
+		return classes;
+	}
+
+	static class Helper {
+	}
+
+	static class HelperSubclass extends Helper {
+	}
+
+	static class TestCase {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Slow {
+	}
+
+	@Slow
+	static class AnnotatedHelper {
+	}
+
+	static class HelperWithAnnotatedMethod {
+
+		@Slow
+		void method() {
+		}
+	}
+
+	@Deprecated
+	static class HelperWithJdkAnnotation {
+	}
+
+}
@@ -21,14 +21,18 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
@@ -50,6 +54,9 @@ class ClasspathScannerTests {
 
 	private static final ClassFilter allClasses = ClassFilter.of(type -> true);
 
+	private static final ClassFilter allClassesUsingTestIndex = ClassFilter.of(name -> true, type -> true, Set.of(),
+		null, true);
+
 	private final List<Class<?>> loadedClasses = new ArrayList<>();
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> trackingClassLoader = (name,
@@ -178,6 +185,42 @@ class ClasspathScannerTests {
 		assertTrue(classes.contains(MemberClassToBeFound.class));
 	}
 
+	@Test
+	void scanForClassesInPackageInParallel() {
+		var parallelScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass, 4);
+
+		var classes = parallelScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+
+		assertThat(classes).containsExactlyInAnyOrderElementsOf(
+			classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses));
+		assertThat(classes).containsExactlyElementsOf(
+			parallelScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses));
+	}
+
+	@Test
+	void scanForClassesInClasspathRootInParallel() throws Exception {
+		var parallelScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass, 4);
+		var root = getTestClasspathRoot();
+
+		var classes = parallelScanner.scanForClassesInClasspathRoot(root, allClasses);
+
+		assertThat(classes).containsExactlyInAnyOrderElementsOf(
+			classpathScanner.scanForClassesInClasspathRoot(root, allClasses));
+	}
+
+	@Test
+	void scanForClassesInPackageWithCandidateAnnotationsDoesNotLoadExcludedClasses() {
+		var classFilter = ClassFilter.of(name -> true, type -> true, Set.of(Test.class.getName()));
+
+		var classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons.util", classFilter);
+
+		assertThat(classes).contains(ClassFilePrefilterTests.AnnotatedTestCase.class,
+			ClassFilePrefilterTests.MetaComposedTestCase.class).doesNotContain(ClassFilePrefilterTests.Helper.class);
+		assertThat(loadedClasses).containsExactlyElementsOf(classes);
+	}
+
 	@Test
 	void findAllClassesInPackageWithinJarFile() throws Exception {
 		URL jarfile = getClass().getResource("/jartest.jar");
@@ -195,6 +238,107 @@ class ClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileIgnoresMetaInfDirectory(@TempDir Path tempDir) throws Exception {
+		var jarFile = createJarFile(tempDir, false);
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(jarFile.toUri(), allClasses);
+
+		assertThat(classes).containsExactly(ClassFilePrefilterTests.AnnotatedTestCase.class,
+			ClassFilePrefilterTests.Helper.class);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileOnlyLoadsIndexedTestClassesIfEnabled(@TempDir Path tempDir)
+			throws Exception {
+		var jarFile = createJarFile(tempDir, true);
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(jarFile.toUri(), allClassesUsingTestIndex);
+
+		assertThat(classes).containsExactly(ClassFilePrefilterTests.AnnotatedTestCase.class);
+		assertThat(loadedClasses).containsExactly(ClassFilePrefilterTests.AnnotatedTestCase.class);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileIgnoresTestIndexByDefault(@TempDir Path tempDir) throws Exception {
+		var jarFile = createJarFile(tempDir, true);
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(jarFile.toUri(), allClasses);
+
+		assertThat(classes).containsExactly(ClassFilePrefilterTests.AnnotatedTestCase.class,
+			ClassFilePrefilterTests.Helper.class);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinDirectoryOnlyLoadsIndexedTestClassesIfEnabled(@TempDir Path tempDir)
+			throws Exception {
+		var root = createClassesDirectory(tempDir, "type " + ClassFilePrefilterTests.class.getName() + "\n" //
+				+ "test " + ClassFilePrefilterTests.AnnotatedTestCase.class.getName() + "\n");
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), allClassesUsingTestIndex);
+
+		assertThat(classes).containsExactly(ClassFilePrefilterTests.AnnotatedTestCase.class);
+		assertThat(loadedClasses).containsExactly(ClassFilePrefilterTests.AnnotatedTestCase.class);
+
+		loadedClasses.clear();
+		classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), allClasses);
+
+		assertThat(classes).containsExactlyInAnyOrder(ClassFilePrefilterTests.AnnotatedTestCase.class,
+			ClassFilePrefilterTests.Helper.class);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinDirectoryIgnoresTestIndexThatDoesNotCoverAllClassFiles(
+			@TempDir Path tempDir) throws Exception {
+		var root = createClassesDirectory(tempDir,
+			"test " + ClassFilePrefilterTests.AnnotatedTestCase.class.getName() + "\n");
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), allClassesUsingTestIndex);
+
+		assertThat(classes).containsExactlyInAnyOrder(ClassFilePrefilterTests.AnnotatedTestCase.class,
+			ClassFilePrefilterTests.Helper.class);
+	}
+
+	private Path createJarFile(Path tempDir, boolean withTestIndex) throws Exception {
+		var classesDir = getTestClassesDirectory();
+		var jarFile = tempDir.resolve("test.jar");
+		try (var out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for (var type : List.of(ClassFilePrefilterTests.AnnotatedTestCase.class,
+				ClassFilePrefilterTests.Helper.class)) {
+				var classFile = type.getName().replace('.', '/') + ".class";
+				out.putNextEntry(new JarEntry(classFile));
+				out.write(Files.readAllBytes(classesDir.resolve(classFile)));
+				out.putNextEntry(new JarEntry("META-INF/versions/9/" + classFile));
+				out.write(Files.readAllBytes(classesDir.resolve(classFile)));
+			}
+			if (withTestIndex) {
+				out.putNextEntry(new JarEntry(TestIndex.RESOURCE_NAME));
+				out.write(("test " + ClassFilePrefilterTests.AnnotatedTestCase.class.getName() + "\n").getBytes(
+					StandardCharsets.UTF_8));
+			}
+		}
+		return jarFile;
+	}
+
+	private Path createClassesDirectory(Path tempDir, String testIndex) throws Exception {
+		var classesDir = getTestClassesDirectory();
+		var root = tempDir.resolve("classes");
+		for (var type : List.of(ClassFilePrefilterTests.AnnotatedTestCase.class,
+			ClassFilePrefilterTests.Helper.class)) {
+			var classFile = type.getName().replace('.', '/') + ".class";
+			Files.createDirectories(root.resolve(classFile).getParent());
+			Files.copy(classesDir.resolve(classFile), root.resolve(classFile));
+		}
+		var indexFile = root.resolve(TestIndex.RESOURCE_NAME);
+		Files.createDirectories(indexFile.getParent());
+		Files.write(indexFile, testIndex.getBytes(StandardCharsets.UTF_8));
+		return root;
+	}
+
+	private Path getTestClassesDirectory() throws Exception {
+		return Paths.get(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+	}
+
 	@Test
 	void scanForClassesInDefaultPackage() {
 		ClassFilter classFilter = ClassFilter.of(this::inDefaultPackage);
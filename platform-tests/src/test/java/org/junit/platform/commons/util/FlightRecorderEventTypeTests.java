@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.PreconditionViolationException;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for {@link FlightRecorderEventType}.
+ *
+ * @since 1.6
+ */
+class FlightRecorderEventTypeTests {
+
+	@Test
+	void eventsAreDisabledUnlessRecorded() {
+		var type = FlightRecorderEventType.builder("org.junit.platform.commons.Test").field("value", "Value",
+			int.class).build();
+
+		var event = type.begin();
+
+		assertThat(event.isEnabled()).isFalse();
+		event.set("value", 42).set("unknown", "ignored").commit();
+	}
+
+	@Test
+	void eventsAreRecordedOnceRecordingHasBeenStarted(@TempDir Path tempDir) throws Exception {
+		assumeTrue(FlightRecorder.isAvailable(), "Java Flight Recorder is not available");
+		var type = FlightRecorderEventType.builder("org.junit.platform.commons.RecordedTest").field("value", "Value",
+			int.class).build();
+		var file = tempDir.resolve("test.jfr");
+
+		assertThat(type.begin().isEnabled()).isFalse();
+
+		try (var recording = new Recording()) {
+			recording.enable("org.junit.platform.commons.RecordedTest");
+			recording.start();
+
+			var event = type.begin();
+			assertThat(event.isEnabled()).isTrue();
+			event.set("value", 42).commit();
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		assertThat(type.begin().isEnabled()).isFalse();
+		// @formatter:off
+		assertThat(RecordingFile.readAllEvents(file))
+				.filteredOn(event -> event.getEventType().getName().equals("org.junit.platform.commons.RecordedTest"))
+				.extracting(event -> event.getInt("value"))
+				.containsExactly(42);
+		// @formatter:on
+	}
+
+	@Test
+	void duplicateFieldNamesAreRejected() {
+		var builder = FlightRecorderEventType.builder("org.junit.platform.commons.Test").field("value", "Value",
+			int.class);
+
+		assertThrows(PreconditionViolationException.class, () -> builder.field("value", "Other", String.class));
+	}
+
+}
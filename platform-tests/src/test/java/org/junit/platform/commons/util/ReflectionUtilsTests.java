@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.function.Try.success;
@@ -988,6 +989,17 @@ class ReflectionUtilsTests {
 					GrandparentInterface.class.getMethod("method2"), ParentClass.class.getMethod("method3"));
 	}
 
+	@Test
+	void findMethodsReturnsCachedMethodsForRepeatedLookups() {
+		List<Method> first = findMethods(ChildClass.class, method -> true, TOP_DOWN);
+		List<Method> second = findMethods(ChildClass.class, method -> true, TOP_DOWN);
+
+		assertThat(second).hasSameSizeAs(first);
+		for (int i = 0; i < first.size(); i++) {
+			assertSame(first.get(i), second.get(i));
+		}
+	}
+
 	@Test
 	void findMethodsWithShadowingUsingHierarchyUpMode() throws Exception {
 		assertThat(findMethods(MethodShadowingChild.class, methodContains1, BOTTOM_UP))//
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TestIndex}.
+ *
+ * @since 1.6
+ */
+class TestIndexTests {
+
+	@TempDir
+	Path root;
+
+	@BeforeEach
+	void createClassFiles() throws Exception {
+		var index = new TestIndex();
+		index.addType("p.FooTests");
+		index.addType("p.Helper");
+		index.addTestClass("p.FooTests", List.of("test"));
+		index.addTestClass("p.FooTests$Nested", List.of());
+		index.addTestClass("p.Deleted", List.of("test"));
+		var indexFile = root.resolve(TestIndex.RESOURCE_NAME);
+		Files.createDirectories(indexFile.getParent());
+		try (var writer = Files.newBufferedWriter(indexFile, UTF_8)) {
+			index.write(writer);
+		}
+		Files.createDirectories(root.resolve("p"));
+		for (var className : List.of("FooTests", "FooTests$Nested", "Helper", "Helper$1")) {
+			Files.createFile(root.resolve("p").resolve(className + ".class"));
+		}
+	}
+
+	@Test
+	void writtenIndexCanBeRead() throws Exception {
+		var index = new TestIndex();
+		index.addType("p.FooTests");
+		index.addTestClass("p.FooTests", List.of("b", "a"));
+		var writer = new StringWriter();
+
+		index.write(writer);
+		var readIndex = TestIndex.read(new StringReader(writer.toString()));
+
+		assertThat(readIndex.getTypeNames()).containsExactly("p.FooTests");
+		assertThat(readIndex.getTestClassNames()).containsExactly("p.FooTests");
+		assertThat(readIndex.getTestMethodNames("p.FooTests")).containsExactly("a", "b");
+	}
+
+	@Test
+	void findsExistingTestClassFilesInClasspathRoot() {
+		var classFiles = TestIndex.findTestClassFiles(root, "");
+
+		assertThat(classFiles).contains(
+			List.of(root.resolve("p/FooTests.class"), root.resolve("p/FooTests$Nested.class")));
+	}
+
+	@Test
+	void findsExistingTestClassFilesInPackage() {
+		var classFiles = TestIndex.findTestClassFiles(root.resolve("p"), "p");
+
+		assertThat(classFiles).contains(
+			List.of(root.resolve("p/FooTests.class"), root.resolve("p/FooTests$Nested.class")));
+	}
+
+	@Test
+	void ignoresIndexThatDoesNotCoverAllClassFiles() throws Exception {
+		Files.createFile(root.resolve("p/Unknown.class"));
+
+		assertThat(TestIndex.findTestClassFiles(root, "")).isEmpty();
+	}
+
+	@Test
+	void ignoresMissingIndex() throws Exception {
+		Files.delete(root.resolve(TestIndex.RESOURCE_NAME));
+
+		assertThat(TestIndex.findTestClassFiles(root, "")).isEmpty();
+	}
+
+}
@@ -269,6 +269,69 @@ class PicocliCommandLineOptionsParserTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("-E", "--exclude-engine");
 	}
 
+	@ParameterizedTest
+	@EnumSource
+	void parseValidShardOptions(ArgsType type) {
+		Path file = Paths.get("build", "durations.properties");
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(2), type.parseArgLine("--shard-index 2").getShardIndex()),
+			() -> assertEquals(Optional.of(4), type.parseArgLine("--shard-count=4").getShardCount()),
+			() -> assertEquals(Optional.of(file), type.parseArgLine("--shard-durations-file build/durations.properties").getShardDurationsFile()),
+			() -> assertEquals(Optional.empty(), type.parseArgLine("").getShardIndex()),
+			() -> assertEquals(Optional.empty(), type.parseArgLine("").getShardCount())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidShardOptions() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard-index", "--shard-count",
+			"--shard-durations-file");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseValidForkCount(ArgsType type) {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(0, type.parseArgLine("").getForkCount()),
+			() -> assertEquals(3, type.parseArgLine("--fork-count 3").getForkCount()),
+			() -> assertEquals(3, type.parseArgLine("--fork-count=3").getForkCount())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidForkCount() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--fork-count");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseNegativeForkCount(ArgsType type) {
+		Exception e = assertThrows(JUnitException.class, () -> type.parseArgLine("--fork-count -1"));
+
+		assertThat(e.getCause().getMessage()).isEqualTo("Invalid fork count '-1': must not be negative.");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseValidForkJvmArguments(ArgsType type) {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(emptyList(), type.parseArgLine("").getForkJvmArguments()),
+			() -> assertEquals(singletonList("-Xmx1g"), type.parseArgLine("--fork-jvm-arg=-Xmx1g").getForkJvmArguments()),
+			() -> assertEquals(asList("-Xmx1g", "-Dfoo=bar"), type.parseArgLine("--fork-jvm-arg=-Xmx1g --fork-jvm-arg=-Dfoo=bar").getForkJvmArguments())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidForkJvmArguments() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--fork-jvm-arg");
+	}
+
 	@ParameterizedTest
 	@EnumSource
 	void parseValidAdditionalClasspathEntries(ArgsType type) {
@@ -24,12 +24,15 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.console.options.CommandLineOptions;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.ClasspathResourceSelector;
@@ -40,6 +43,8 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UriSelector;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
@@ -170,6 +175,39 @@ class DiscoveryRequestCreatorTests {
 		assertThat(postDiscoveryFilters.get(1).toString()).contains("TagFilter");
 	}
 
+	@Test
+	void convertsShardOptions() {
+		options.setScanClasspath(true);
+		options.setShardIndex(1);
+		options.setShardCount(3);
+
+		LauncherDiscoveryRequest request = convert();
+		List<PostDiscoveryFilter> postDiscoveryFilters = request.getPostDiscoveryFilters();
+
+		assertThat(postDiscoveryFilters).hasSize(1);
+
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		for (int i = 0; i < 3; i++) {
+			engineDescriptor.addChild(
+				new TestDescriptorStub(engineDescriptor.getUniqueId().append("class", "Class" + i), "Class" + i));
+		}
+		// @formatter:off
+		assertThat(engineDescriptor.getChildren().stream()
+				.map(postDiscoveryFilters.get(0)::apply)
+				.filter(FilterResult::included)
+				.map(FilterResult::getReason))
+				.containsExactly(Optional.of("Assigned to shard 1 of 3"));
+		// @formatter:on
+	}
+
+	@Test
+	void rejectsShardIndexWithoutShardCount() {
+		options.setScanClasspath(true);
+		options.setShardIndex(1);
+
+		assertThrows(PreconditionViolationException.class, this::convert);
+	}
+
 	@Test
 	void convertsEngineOptions() {
 		options.setScanClasspath(true);
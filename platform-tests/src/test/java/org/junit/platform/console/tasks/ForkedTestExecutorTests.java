@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * @since 1.6
+ */
+class ForkedTestExecutorTests {
+
+	@Test
+	void executesSelectedTestsInForkedJvmAndReportsTheirEvents() {
+		CommandLineOptions options = new CommandLineOptions();
+		options.setForkCount(1);
+		options.setForkJvmArguments(singletonList("-Dforked=true"));
+		options.setSelectedMethods(asList(methodName("succeeding"), methodName("failing"), methodName("excluded")));
+		options.setIncludedClassNamePatterns(singletonList(".*TestCase"));
+		options.setExcludedTagExpressions(singletonList("excluded"));
+		RecordingListener listener = new RecordingListener();
+
+		new ForkedTestExecutor(options, LauncherFactory.create()).execute(
+			new DiscoveryRequestCreator().toDiscoveryRequest(options), listener);
+
+		// @formatter:off
+		assertThat(listener.events).contains(
+			"started: ForkedTestExecutorTests$ForkedTestCase",
+			"started: succeeding()",
+			"finished: succeeding() SUCCESSFUL",
+			"started: failing()",
+			"finished: failing() FAILED forked=true",
+			"finished: ForkedTestExecutorTests$ForkedTestCase SUCCESSFUL"
+		);
+		// @formatter:on
+		assertThat(listener.events).noneMatch(event -> event.contains("notSelected()") || event.contains("excluded()"));
+	}
+
+	private static String methodName(String name) {
+		return ForkedTestCase.class.getName() + "#" + name;
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			events.add("started: " + testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			events.add("finished: " + testIdentifier.getDisplayName() + " " + testExecutionResult.getStatus()
+					+ testExecutionResult.getThrowable().map(throwable -> " " + throwable.getMessage()).orElse(""));
+		}
+	}
+
+	static class ForkedTestCase {
+
+		@Test
+		void succeeding() {
+		}
+
+		@Test
+		void failing() {
+			fail("forked=" + System.getProperty("forked"));
+		}
+
+		@Test
+		@Tag("excluded")
+		void excluded() {
+		}
+
+		@Test
+		void notSelected() {
+		}
+	}
+
+}
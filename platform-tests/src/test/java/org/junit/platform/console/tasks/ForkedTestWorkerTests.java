@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.console.tasks.ForkedTestWorker.deserializeThrowable;
+import static org.junit.platform.console.tasks.ForkedTestWorker.serializeThrowable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.text.SimpleDateFormat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * @since 1.6
+ */
+class ForkedTestWorkerTests {
+
+	@Test
+	void transfersSerializableThrowable() {
+		IllegalStateException exception = new IllegalStateException("boom");
+
+		Throwable result = deserializeThrowable(serializeThrowable(exception));
+
+		assertThat(result).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+		assertThat(result.getStackTrace()).isEqualTo(exception.getStackTrace());
+	}
+
+	@Test
+	void replacesThrowableThatCannotBeSerialized() {
+		NotSerializableException exception = new NotSerializableException();
+
+		Throwable result = deserializeThrowable(serializeThrowable(exception));
+
+		assertThat(result).isInstanceOf(JUnitException.class).hasMessage(exception.toString());
+		assertThat(result.getStackTrace()).isEqualTo(exception.getStackTrace());
+	}
+
+	@Test
+	void reportsThrowableThatCannotBeDeserialized() {
+		Throwable result = deserializeThrowable(new byte[] { 1, 2, 3 });
+
+		assertThat(result).isInstanceOf(JUnitException.class).hasMessageContaining("Failed to deserialize");
+	}
+
+	@Test
+	void rejectsClassesThatAreNotExpectedFromForkedJvm() throws Exception {
+		Throwable result = deserializeThrowable(serialize(new SimpleDateFormat()));
+
+		assertThat(result).isInstanceOf(JUnitException.class).hasMessageContaining("Failed to deserialize");
+		assertThat(result.getCause()).isInstanceOf(InvalidClassException.class);
+	}
+
+	@Test
+	void replacesThrowableThatWouldBeRejected() {
+		UnexpectedFieldException exception = new UnexpectedFieldException();
+
+		Throwable result = deserializeThrowable(serializeThrowable(exception));
+
+		assertThat(result).isInstanceOf(JUnitException.class).hasMessage(exception.toString());
+		assertThat(result.getStackTrace()).isEqualTo(exception.getStackTrace());
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	@SuppressWarnings("serial")
+	static class UnexpectedFieldException extends RuntimeException {
+
+		@SuppressWarnings("unused")
+		private final SimpleDateFormat unexpected = new SimpleDateFormat();
+
+		UnexpectedFieldException() {
+			super("unexpected field");
+		}
+	}
+
+	@SuppressWarnings("serial")
+	static class NotSerializableException extends RuntimeException {
+
+		@SuppressWarnings("unused")
+		private final Object notSerializable = new Object();
+
+		NotSerializableException() {
+			super("not serializable");
+		}
+	}
+
+}
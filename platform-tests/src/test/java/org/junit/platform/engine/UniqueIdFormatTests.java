@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.UniqueId.Segment;
 
 /**
@@ -73,6 +74,29 @@ class UniqueIdFormatTests {
 			return "[engine:junit-jupiter]/[class:MyClass]/[method:myMethod]";
 		}
 
+		@Test
+		void trailingDelimitersAreIgnored() {
+			UniqueId parsedId = format.parse("[engine:junit-jupiter]/[class:MyClass]//");
+			assertEquals("[engine:junit-jupiter]/[class:MyClass]", parsedId.toString());
+		}
+
+		@Test
+		void emptySegmentIsMalformed() {
+			assertThrows(JUnitException.class, () -> format.parse("[engine:junit-jupiter]//[class:MyClass]"));
+		}
+
+		@Test
+		void segmentWithSeveralTypeValueSeparatorsIsRejected() {
+			assertThrows(PreconditionViolationException.class, () -> format.parse("[engine:junit:jupiter]"));
+		}
+
+		@Test
+		void encodedAndUnencodedSegmentsCanBeMixed() {
+			UniqueId parsedId = format.parse("[engine:junit-jupiter]/[method:test(%5BI)]/[invocation:#1]");
+			assertSegment(parsedId.getSegments().get(1), "method", "test([I)");
+			assertSegment(parsedId.getSegments().get(2), "invocation", "#1");
+		}
+
 	}
 
 	@Nested
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.SerializationUtils.serializeAndDeserialize;
 
 import java.util.Optional;
 
@@ -123,6 +124,13 @@ class UniqueIdTests {
 			assertThrows(PreconditionViolationException.class, () -> uniqueId.append("foo", null));
 		}
 
+		@Test
+		void appendingSegmentSharesPrefix() {
+			UniqueId classId = UniqueId.forEngine(ENGINE_ID).append("class", "org.junit.MyClass");
+
+			assertSame(classId, classId.append("method", "myMethod").removeLastSegment());
+		}
+
 	}
 
 	@Nested
@@ -165,6 +173,25 @@ class UniqueIdTests {
 		void ensureDefaultToStringAndParsingIsIdempotent(String expected) {
 			assertEquals(expected, UniqueId.parse(expected).toString());
 		}
+
+		@Test
+		void parsedSegmentTypesAreShared() {
+			UniqueId first = UniqueId.parse(uniqueIdString);
+			UniqueId second = UniqueId.parse(uniqueIdString);
+
+			assertSame(first.getLastSegment().getType(), second.getLastSegment().getType());
+		}
+
+		@Test
+		void serializedUniqueIdIsEqualToOriginal() throws Exception {
+			UniqueId uniqueId = UniqueId.parse(uniqueIdString);
+
+			UniqueId deserialized = serializeAndDeserialize(uniqueId);
+
+			assertEquals(uniqueId, deserialized);
+			assertEquals(uniqueIdString, deserialized.toString());
+			assertEquals(uniqueId.getSegments(), deserialized.getSegments());
+		}
 	}
 
 	@Nested
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.computeParallelism;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.LoadSample;
+
+/**
+ * @since 1.6
+ */
+class AdaptiveParallelismControllerTests {
+
+	private final ForkJoinPool forkJoinPool = mock(ForkJoinPool.class);
+	private final OperatingSystemMXBean operatingSystem = mock(OperatingSystemMXBean.class);
+	private final MemoryMXBean memory = mock(MemoryMXBean.class);
+
+	@Test
+	void keepsParallelismWithoutPendingWork() {
+		assertThat(computeParallelism(4, 1, 10, new LoadSample(0.1, 2, false, 0.5))).isEqualTo(4);
+	}
+
+	@Test
+	void growsByNumberOfBlockedWorkersIfWorkIsPending() {
+		assertThat(computeParallelism(4, 1, 10, new LoadSample(0.9, 3, true, 0.5))).isEqualTo(7);
+	}
+
+	@Test
+	void growsIfCpuIsUnderutilizedAndWorkIsPending() {
+		assertThat(computeParallelism(4, 1, 10, new LoadSample(0.5, 0, true, 0.5))).isEqualTo(5);
+	}
+
+	@Test
+	void doesNotGrowIfCpuLoadIsUnknownAndNoWorkerIsBlocked() {
+		assertThat(computeParallelism(4, 1, 10, new LoadSample(-1, 0, true, 0.5))).isEqualTo(4);
+	}
+
+	@Test
+	void shrinksIfCpuIsOverloadedAndNoWorkerIsBlocked() {
+		assertThat(computeParallelism(4, 1, 10, new LoadSample(1.5, 0, true, 0.5))).isEqualTo(3);
+	}
+
+	@Test
+	void shrinksUnderHeapPressure() {
+		assertThat(computeParallelism(8, 1, 10, new LoadSample(0.1, 2, true, 0.95))).isEqualTo(6);
+	}
+
+	@Test
+	void staysWithinBounds() {
+		assertThat(computeParallelism(9, 1, 10, new LoadSample(0.1, 5, true, 0.5))).isEqualTo(10);
+		assertThat(computeParallelism(1, 1, 10, new LoadSample(2.0, 0, true, 0.5))).isEqualTo(1);
+	}
+
+	@Test
+	void samplesSystemLoadPerProcessorHeapUsageAndBlockedWorkerThreads() throws Exception {
+		when(operatingSystem.getSystemLoadAverage()).thenReturn(3.0);
+		when(operatingSystem.getAvailableProcessors()).thenReturn(4);
+		when(memory.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 50, 80, 100));
+		when(forkJoinPool.getPoolSize()).thenReturn(3);
+		when(forkJoinPool.getActiveThreadCount()).thenReturn(2);
+		when(forkJoinPool.hasQueuedSubmissions()).thenReturn(true);
+		var latch = new CountDownLatch(1);
+		var waitingThreads = List.of(startWaitingThread(latch), startWaitingThread(latch));
+		var runnableThread = Thread.currentThread();
+
+		try (var controller = createController(new ArrayList<>(
+			List.of(waitingThreads.get(0), waitingThreads.get(1), runnableThread)), parallelism -> {
+			})) {
+			var sample = controller.sample();
+
+			assertThat(sample.cpuLoad).isEqualTo(0.75);
+			assertThat(sample.heapUsage).isEqualTo(0.5);
+			// two waiting worker threads, one of which is idle
+			assertThat(sample.blockedWorkers).isEqualTo(1);
+			assertThat(sample.pendingWork).isTrue();
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	void samplesUnknownSystemLoadAsNegativeCpuLoadAndUsesCommittedHeapIfMaximumIsUndefined() {
+		when(operatingSystem.getSystemLoadAverage()).thenReturn(-1.0);
+		when(memory.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 25, 100, -1));
+
+		try (var controller = createController(new ArrayList<>(), parallelism -> {
+		})) {
+			var sample = controller.sample();
+
+			assertThat(sample.cpuLoad).isNegative();
+			assertThat(sample.heapUsage).isEqualTo(0.25);
+			assertThat(sample.pendingWork).isFalse();
+		}
+	}
+
+	@Test
+	void removesTerminatedWorkerThreadsWhenSampling() throws Exception {
+		when(memory.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 0, 100, 100));
+		var terminatedThread = new Thread(() -> {
+		});
+		terminatedThread.start();
+		terminatedThread.join();
+		var workerThreads = new CopyOnWriteArrayList<>(List.of(terminatedThread));
+
+		try (var controller = createController(workerThreads, parallelism -> {
+		})) {
+			controller.sample();
+		}
+
+		assertThat(workerThreads).isEmpty();
+	}
+
+	@Test
+	void notifiesListenerWhenParallelismIsAdjusted() {
+		when(operatingSystem.getSystemLoadAverage()).thenReturn(1.0);
+		when(operatingSystem.getAvailableProcessors()).thenReturn(4);
+		when(memory.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 10, 100, 100));
+		when(forkJoinPool.getParallelism()).thenReturn(2);
+		when(forkJoinPool.getQueuedTaskCount()).thenReturn(5L);
+		var reportedParallelism = new ArrayList<Integer>();
+
+		try (var controller = createController(new ArrayList<>(), reportedParallelism::add)) {
+			controller.adjustParallelism();
+
+			assertThat(controller.getParallelism()).isEqualTo(3);
+			assertThat(reportedParallelism).containsExactly(3);
+		}
+	}
+
+	@Test
+	void doesNotNotifyListenerIfParallelismIsUnchanged() {
+		when(operatingSystem.getSystemLoadAverage()).thenReturn(1.0);
+		when(operatingSystem.getAvailableProcessors()).thenReturn(4);
+		when(memory.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, 10, 100, 100));
+		when(forkJoinPool.getParallelism()).thenReturn(2);
+		var reportedParallelism = new ArrayList<Integer>();
+
+		try (var controller = createController(new ArrayList<>(), reportedParallelism::add)) {
+			controller.adjustParallelism();
+
+			assertThat(controller.getParallelism()).isEqualTo(2);
+			assertThat(reportedParallelism).isEmpty();
+		}
+	}
+
+	private AdaptiveParallelismController createController(Collection<Thread> workerThreads,
+			IntConsumer parallelismListener) {
+		// Sampling is triggered manually, so use an interval that never elapses during the test
+		return new AdaptiveParallelismController(forkJoinPool, workerThreads,
+			new DefaultParallelExecutionConfiguration(2, 2, 10, 2, 30), TimeUnit.HOURS.toMillis(1),
+			parallelismListener, operatingSystem, memory);
+	}
+
+	private static Thread startWaitingThread(CountDownLatch latch) throws InterruptedException {
+		var thread = new Thread(() -> {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+		while (thread.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+		return thread;
+	}
+
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
 
 /**
@@ -66,6 +67,32 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidInitialConfiguration() {
+		when(configParams.get("dynamic.factor")).thenReturn(Optional.of("2.0"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + (availableProcessors * 2));
+	}
+
+	@Test
+	void adaptiveSamplingIntervalDefaultsToOneSecond() {
+		assertThat(DefaultParallelExecutionConfigurationStrategy.getAdaptiveSamplingIntervalMillis(
+			configParams)).isEqualTo(1000);
+	}
+
+	@Test
+	void adaptiveSamplingIntervalMustBePositive() {
+		when(configParams.get("adaptive.sampling.interval")).thenReturn(Optional.of("0"));
+
+		assertThrows(PreconditionViolationException.class,
+			() -> DefaultParallelExecutionConfigurationStrategy.getAdaptiveSamplingIntervalMillis(configParams));
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
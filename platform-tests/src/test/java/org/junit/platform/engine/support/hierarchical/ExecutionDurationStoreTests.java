@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * @since 1.6
+ */
+class ExecutionDurationStoreTests {
+
+	private final UniqueId engineId = UniqueId.forEngine("demo");
+	private final NodeTestTaskContext taskContext = new NodeTestTaskContext(mock(EngineExecutionListener.class),
+		new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+		new NodeExecutionAdvisor(), ExecutionDurationStore.DISABLED);
+
+	@Test
+	void isDisabledIfFileIsNotConfigured() {
+		ConfigurationParameters configurationParameters = mock(ConfigurationParameters.class);
+		when(configurationParameters.get(HierarchicalTestEngine.EXECUTION_DURATIONS_FILE_PROPERTY_NAME)).thenReturn(
+			Optional.empty());
+
+		assertThat(ExecutionDurationStore.create(configurationParameters)).isSameAs(ExecutionDurationStore.DISABLED);
+	}
+
+	@Test
+	void savesRecordedDurationsAndLoadsThemInSubsequentRun(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("durations.properties");
+		TestDescriptor test = descriptor("test");
+
+		ExecutionDurationStore store = ExecutionDurationStore.load(file);
+		store.record(test, 42);
+		store.save();
+
+		assertThat(ExecutionDurationStore.load(file).getExpectedDuration(test)).isEqualTo(42);
+	}
+
+	@Test
+	void retainsDurationsOfNodesThatWereNotExecuted(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("durations.properties");
+		TestDescriptor first = descriptor("first");
+		TestDescriptor second = descriptor("second");
+
+		ExecutionDurationStore firstRun = ExecutionDurationStore.load(file);
+		firstRun.record(first, 1);
+		firstRun.save();
+		ExecutionDurationStore secondRun = ExecutionDurationStore.load(file);
+		secondRun.record(second, 2);
+		secondRun.save();
+
+		ExecutionDurationStore thirdRun = ExecutionDurationStore.load(file);
+		assertThat(thirdRun.getExpectedDuration(first)).isEqualTo(1);
+		assertThat(thirdRun.getExpectedDuration(second)).isEqualTo(2);
+	}
+
+	@Test
+	void retainsDurationsOfEnginesSavingConcurrently(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("durations.properties");
+		List<TestDescriptor> tests = new ArrayList<>();
+		List<ExecutionDurationStore> stores = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			TestDescriptor test = descriptor("test" + i);
+			ExecutionDurationStore store = ExecutionDurationStore.load(file);
+			store.record(test, i + 1);
+			tests.add(test);
+			stores.add(store);
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(stores.size());
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (ExecutionDurationStore store : stores) {
+				futures.add(executorService.submit(() -> {
+					start.await();
+					store.save();
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, SECONDS);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		ExecutionDurationStore nextRun = ExecutionDurationStore.load(file);
+		for (int i = 0; i < tests.size(); i++) {
+			assertThat(nextRun.getExpectedDuration(tests.get(i))).isEqualTo(i + 1);
+		}
+		try (Stream<Path> files = Files.list(tempDir)) {
+			assertThat(files).containsExactly(file);
+		}
+	}
+
+	@Test
+	void sortsTasksByDescendingExpectedDurationWithUnknownDurationsFirst(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("durations.properties");
+		TestDescriptor fast = descriptor("fast");
+		TestDescriptor slow = descriptor("slow");
+		TestDescriptor unknown = descriptor("unknown");
+		TestDescriptor medium = descriptor("medium");
+
+		ExecutionDurationStore previousRun = ExecutionDurationStore.load(file);
+		previousRun.record(fast, 1);
+		previousRun.record(slow, 100);
+		previousRun.record(medium, 10);
+		previousRun.save();
+
+		List<NodeTestTask<?>> sortedTasks = ExecutionDurationStore.load(file).sortByDescendingExpectedDuration(
+			List.of(task(fast), task(slow), task(unknown), task(medium)));
+
+		assertThat(sortedTasks).extracting(NodeTestTask::getTestDescriptor).containsExactly(unknown, slow, medium,
+			fast);
+	}
+
+	@Test
+	void retainsPositionsOfSameThreadTasks(@TempDir Path tempDir) {
+		Path file = tempDir.resolve("durations.properties");
+		TestDescriptor first = descriptor("first", SAME_THREAD);
+		TestDescriptor fast = descriptor("fast");
+		TestDescriptor third = descriptor("third", SAME_THREAD);
+		TestDescriptor slow = descriptor("slow");
+
+		ExecutionDurationStore previousRun = ExecutionDurationStore.load(file);
+		previousRun.record(first, 1);
+		previousRun.record(fast, 1);
+		previousRun.record(third, 100);
+		previousRun.record(slow, 100);
+		previousRun.save();
+
+		List<NodeTestTask<?>> sortedTasks = ExecutionDurationStore.load(file).sortByDescendingExpectedDuration(
+			List.of(task(first), task(fast), task(third), task(slow)));
+
+		assertThat(sortedTasks).extracting(NodeTestTask::getTestDescriptor).containsExactly(first, slow, third, fast);
+	}
+
+	@Test
+	void executesChildrenInDeclaredOrderIfExecutorServiceDoesNotExecuteThemConcurrently(@TempDir Path tempDir)
+			throws Exception {
+		List<String> executedTests = execute(tempDir, new SameThreadHierarchicalTestExecutorService());
+
+		assertThat(executedTests).containsExactly("first", "second", "third");
+	}
+
+	@Test
+	void executesChildrenWithLongerDurationsFirstIfExecutorServiceExecutesThemConcurrently(@TempDir Path tempDir)
+			throws Exception {
+		List<String> executedTests = execute(tempDir, new SameThreadHierarchicalTestExecutorService() {
+			@Override
+			public boolean executesConcurrently() {
+				return true;
+			}
+		});
+
+		assertThat(executedTests).containsExactly("third", "second", "first");
+	}
+
+	@Test
+	void doesNotSortTasksIfDisabled() {
+		TestDescriptor first = descriptor("first");
+		TestDescriptor second = descriptor("second");
+
+		List<NodeTestTask<?>> tasks = ExecutionDurationStore.DISABLED.sortByDescendingExpectedDuration(
+			List.of(task(first), task(second)));
+
+		assertThat(tasks).extracting(NodeTestTask::getTestDescriptor).containsExactly(first, second);
+	}
+
+	private List<String> execute(Path tempDir, HierarchicalTestExecutorService executorService) throws Exception {
+		Path file = tempDir.resolve("durations.properties");
+		List<String> executedTests = new ArrayList<>();
+		TestDescriptor root = new DemoHierarchicalTestDescriptor(engineId, "root", null);
+		for (String name : List.of("first", "second", "third")) {
+			root.addChild(new DemoHierarchicalTestDescriptor(engineId.append("test", name), name,
+				() -> executedTests.add(name)));
+		}
+
+		ExecutionDurationStore previousRun = ExecutionDurationStore.load(file);
+		previousRun.record(descriptor("first"), 1);
+		previousRun.record(descriptor("second"), 10);
+		previousRun.record(descriptor("third"), 100);
+		previousRun.save();
+
+		ExecutionRequest request = new ExecutionRequest(root, mock(EngineExecutionListener.class),
+			mock(ConfigurationParameters.class));
+		new HierarchicalTestExecutor<>(request, new DemoEngineExecutionContext(), executorService,
+			OpenTest4JAwareThrowableCollector::new, ExecutionDurationStore.load(file)).execute().get();
+		return executedTests;
+	}
+
+	private TestDescriptor descriptor(String name) {
+		return new DemoHierarchicalTestDescriptor(engineId.append("test", name), name, () -> {
+		});
+	}
+
+	private TestDescriptor descriptor(String name, ExecutionMode executionMode) {
+		return new DemoHierarchicalTestDescriptor(engineId.append("test", name), name, () -> {
+		}) {
+			@Override
+			public ExecutionMode getExecutionMode() {
+				return executionMode;
+			}
+		};
+	}
+
+	private NodeTestTask<?> task(TestDescriptor testDescriptor) {
+		return new NodeTestTask<DemoEngineExecutionContext>(taskContext, testDescriptor);
+	}
+
+}
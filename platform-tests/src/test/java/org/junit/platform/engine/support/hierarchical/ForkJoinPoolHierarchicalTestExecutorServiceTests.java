@@ -0,0 +1,214 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * @since 1.6
+ */
+class ForkJoinPoolHierarchicalTestExecutorServiceTests {
+
+	private static final String LOCK_WAIT_EVENT_NAME = "org.junit.platform.engine.ResourceLockWait";
+
+	private final ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+
+	@BeforeEach
+	void setUp() {
+		when(configParams.get(any(), any())).thenCallRealMethod();
+		when(configParams.get(CONFIG_STRATEGY_PROPERTY_NAME)).thenReturn(Optional.of("fixed"));
+		when(configParams.get(CONFIG_FIXED_PARALLELISM_PROPERTY_NAME)).thenReturn(Optional.of("1"));
+	}
+
+	@Test
+	void workerThreadExecutesOtherTasksWhileDeferredTaskWaitsForItsResourceLock() throws Exception {
+		when(configParams.getBoolean(CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME)).thenReturn(Optional.of(true));
+		var lock = new ReentrantLock();
+		var contendedTaskExecuted = new AtomicBoolean();
+		var lockHeldWhileOtherTaskExecuted = new AtomicBoolean();
+		var threadBlockedWhileOtherTaskExecuted = new AtomicBoolean(true);
+
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configParams)) {
+			Future<Void> contendedTask;
+			lock.lock();
+			try {
+				contendedTask = service.submit(
+					new DemoTask(new SingleLock(lock), () -> contendedTaskExecuted.set(true)));
+				service.submit(new DemoTask(NopLock.INSTANCE, () -> {
+					lockHeldWhileOtherTaskExecuted.set(lock.isLocked());
+					threadBlockedWhileOtherTaskExecuted.set(lock.hasQueuedThreads());
+				})).get(10, SECONDS);
+
+				assertFalse(contendedTaskExecuted.get());
+			}
+			finally {
+				lock.unlock();
+			}
+			// Deferred tasks are resubmitted whenever another task has finished
+			service.submit(new DemoTask(NopLock.INSTANCE, () -> {
+			})).get(10, SECONDS);
+			contendedTask.get(10, SECONDS);
+		}
+
+		assertTrue(lockHeldWhileOtherTaskExecuted.get());
+		assertFalse(threadBlockedWhileOtherTaskExecuted.get());
+		assertTrue(contendedTaskExecuted.get());
+	}
+
+	@Test
+	void recordsLockWaitOfDeferredTask(@TempDir Path tempDir) throws Exception {
+		assumeTrue(FlightRecorder.isAvailable(), "Java Flight Recorder is not available");
+		when(configParams.getBoolean(CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME)).thenReturn(Optional.of(true));
+		var lock = new ReentrantLock();
+		var file = tempDir.resolve("test.jfr");
+
+		try (var recording = new Recording()) {
+			recording.enable(LOCK_WAIT_EVENT_NAME);
+			recording.start();
+			try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configParams)) {
+				Future<Void> contendedTask;
+				lock.lock();
+				try {
+					contendedTask = service.submit(new DemoTask(new SingleLock(lock), () -> {
+					}));
+					// The contended task has been deferred once the next task has been executed
+					service.submit(new DemoTask(NopLock.INSTANCE, () -> {
+					})).get(10, SECONDS);
+				}
+				finally {
+					lock.unlock();
+				}
+				service.submit(new DemoTask(NopLock.INSTANCE, () -> {
+				})).get(10, SECONDS);
+				contendedTask.get(10, SECONDS);
+			}
+			recording.stop();
+			recording.dump(file);
+		}
+
+		assertThat(RecordingFile.readAllEvents(file)).filteredOn(
+			event -> event.getEventType().getName().equals(LOCK_WAIT_EVENT_NAME)).hasSize(1);
+	}
+
+	@Test
+	void doesNotAdaptParallelismUnlessAdaptiveStrategyIsUsed() {
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configParams)) {
+			assertNull(service.getParallelismController());
+		}
+	}
+
+	@Test
+	void adaptiveStrategySamplesWorkerThreadsAndStopsSamplingWhenClosed() throws Exception {
+		when(configParams.get(CONFIG_STRATEGY_PROPERTY_NAME)).thenReturn(Optional.of("adaptive"));
+		when(configParams.get(CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME)).thenReturn(Optional.of("1"));
+		when(configParams.get(CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME)).thenReturn(Optional.of("3600000"));
+		var taskStarted = new CountDownLatch(1);
+		var releaseTask = new CountDownLatch(1);
+		AdaptiveParallelismController controller;
+
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configParams)) {
+			controller = service.getParallelismController();
+			assertNotNull(controller);
+			assertEquals(Runtime.getRuntime().availableProcessors(), controller.getParallelism());
+
+			var blockedTask = service.submit(new DemoTask(NopLock.INSTANCE, () -> {
+				taskStarted.countDown();
+				await(releaseTask);
+			}));
+			try {
+				taskStarted.await(10, SECONDS);
+				// Worker threads created by the service are sampled by its controller
+				var deadline = System.nanoTime() + SECONDS.toNanos(10);
+				var blockedWorkers = controller.sample().blockedWorkers;
+				while (blockedWorkers == 0 && System.nanoTime() < deadline) {
+					Thread.sleep(10);
+					blockedWorkers = controller.sample().blockedWorkers;
+				}
+				assertEquals(1, blockedWorkers);
+			}
+			finally {
+				releaseTask.countDown();
+			}
+			blockedTask.get(10, SECONDS);
+		}
+
+		assertTrue(controller.isClosed());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class DemoTask implements TestTask {
+
+		private final ResourceLock resourceLock;
+		private final Runnable action;
+
+		DemoTask(ResourceLock resourceLock, Runnable action) {
+			this.resourceLock = resourceLock;
+			this.action = action;
+		}
+
+		@Override
+		public Node.ExecutionMode getExecutionMode() {
+			return CONCURRENT;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return resourceLock;
+		}
+
+		@Override
+		public void execute() {
+			action.run();
+		}
+	}
+
+}
@@ -16,6 +16,7 @@ import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 
@@ -26,6 +27,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
 
 /**
  * @since 1.3
@@ -93,6 +95,69 @@ class LockManagerTests {
 		assertThat(locks.get(1)).isInstanceOf(WriteLock.class);
 	}
 
+	@Test
+	void reusesSameResourceLockForSameResourcesInDifferentOrder() {
+		ResourceLock lock1 = lockManager.getLockForResources(asList( //
+			new ExclusiveResource("a", READ), //
+			new ExclusiveResource("b", READ_WRITE)));
+		ResourceLock lock2 = lockManager.getLockForResources(asList( //
+			new ExclusiveResource("b", READ_WRITE), //
+			new ExclusiveResource("a", READ), //
+			new ExclusiveResource("a", READ)));
+
+		assertThat(lock1).isInstanceOf(CompositeLock.class).isSameAs(lock2);
+	}
+
+	@Test
+	void returnsDifferentResourceLocksForDifferentLockModes() {
+		ResourceLock readLock = lockManager.getLockForResources(singleton(new ExclusiveResource("foo", READ)));
+		ResourceLock writeLock = lockManager.getLockForResources(singleton(new ExclusiveResource("foo", READ_WRITE)));
+
+		assertThat(readLock).isNotSameAs(writeLock);
+	}
+
+	@Test
+	void returnsSharedNopLockWithoutExclusiveResources() {
+		assertThat(lockManager.getLockForResources(emptySet())).isSameAs(NopLock.INSTANCE);
+	}
+
+	@Test
+	void usesSharedPermitForResourceWithPermits() {
+		Collection<ExclusiveResource> resources = singleton(new ExclusiveResource("pool", READ_WRITE, 2));
+		lockManager.registerResources(resources);
+
+		List<Lock> locks = getLocks(resources, SingleLock.class);
+
+		assertThat(locks.get(0).tryLock()).isTrue();
+		assertThat(locks.get(0).tryLock()).isTrue();
+		assertThat(locks.get(0).tryLock()).isFalse();
+	}
+
+	@Test
+	void requiresAllPermitsForResourceWithoutPermitsWithSameKey() {
+		ExclusiveResource resourceWithPermits = new ExclusiveResource("pool", READ_WRITE, 2);
+		ExclusiveResource resourceWithoutPermits = new ExclusiveResource("pool", READ_WRITE);
+		lockManager.registerResources(asList(resourceWithPermits, resourceWithoutPermits));
+
+		Lock sharedLock = getLocks(singleton(resourceWithPermits), SingleLock.class).get(0);
+		Lock exclusiveLock = getLocks(singleton(resourceWithoutPermits), SingleLock.class).get(0);
+
+		assertThat(sharedLock.tryLock()).isTrue();
+		assertThat(exclusiveLock.tryLock()).isFalse();
+		sharedLock.unlock();
+		assertThat(exclusiveLock.tryLock()).isTrue();
+		assertThat(sharedLock.tryLock()).isFalse();
+	}
+
+	@Test
+	void rejectsResourcesWithDifferentPermitsForSameKey() {
+		Collection<ExclusiveResource> resources = asList( //
+			new ExclusiveResource("pool", READ_WRITE, 2), //
+			new ExclusiveResource("pool", READ_WRITE, 3));
+
+		assertThrows(JUnitException.class, () -> lockManager.registerResources(resources));
+	}
+
 	private List<Lock> getLocks(Collection<ExclusiveResource> resources, Class<? extends ResourceLock> type) {
 		ResourceLock lock = lockManager.getLockForResources(resources);
 		assertThat(lock).isInstanceOf(type);
@@ -21,8 +21,10 @@ import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junit.jupiter.engine.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_VIRTUAL_THREADS_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.testkit.engine.EventConditions.container;
 import static org.junit.platform.testkit.engine.EventConditions.event;
@@ -114,6 +116,14 @@ class ParallelExecutionIntegrationTests {
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
 	}
 
+	@RepeatedTest(5)
+	void successfulTestWithMethodLockWithPermits() {
+		List<Event> events = executeConcurrently(4, SuccessfulWithMethodLockWithPermitsTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(4);
+		assertThat(SuccessfulWithMethodLockWithPermitsTestCase.maxConcurrentUsages).hasValue(2);
+	}
+
 	@Test
 	void testCaseWithFactory() {
 		List<Event> events = executeConcurrently(3, TestCaseWithTestFactory.class);
@@ -156,6 +166,38 @@ class ParallelExecutionIntegrationTests {
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
 	}
 
+	@Test
+	void successfulTestWithMethodLockAndLockDeferral() {
+		var configParams = Map.of( //
+			DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent", //
+			PARALLEL_CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME, "true");
+		var results = executeWithFixedParallelism(3, configParams, SuccessfulWithMethodLockTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+	}
+
+	@RepeatedTest(10)
+	void mixingClassAndMethodLevelLocksWithLockDeferral() {
+		var configParams = Map.of( //
+			DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent", //
+			PARALLEL_CONFIG_LOCK_DEFERRAL_ENABLED_PROPERTY_NAME, "true");
+		var results = executeWithFixedParallelism(4, configParams, TestCaseWithSortedLocks.class,
+			TestCaseWithUnsortedLocks.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(6));
+	}
+
+	@Test
+	void executesTestsConcurrentlyIfVirtualThreadsAreEnabledRegardlessOfJvmSupport() {
+		VirtualThreadsTestCase.countDownLatch = new CountDownLatch(3);
+		var configParams = Map.of( //
+			DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent", //
+			PARALLEL_EXECUTION_VIRTUAL_THREADS_ENABLED_PROPERTY_NAME, "true");
+		var results = executeWithFixedParallelism(3, configParams, VirtualThreadsTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+	}
+
 	@Test
 	void afterHooksAreCalledAfterConcurrentDynamicTestsAreFinished() {
 		List<Event> events = executeConcurrently(3, ConcurrentDynamicTestCase.class);
@@ -289,6 +331,31 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	static class VirtualThreadsTestCase {
+
+		static CountDownLatch countDownLatch;
+
+		@Test
+		void firstTest() throws Exception {
+			countDownAndAwait();
+		}
+
+		@Test
+		void secondTest() throws Exception {
+			countDownAndAwait();
+		}
+
+		@Test
+		void thirdTest() throws Exception {
+			countDownAndAwait();
+		}
+
+		private static void countDownAndAwait() throws InterruptedException {
+			countDownLatch.countDown();
+			assertTrue(countDownLatch.await(10, SECONDS));
+		}
+	}
+
 	@ExtendWith(ThreadReporter.class)
 	static class FailingWithoutLockTestCase {
 
@@ -348,6 +415,51 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	@ExtendWith(ThreadReporter.class)
+	static class SuccessfulWithMethodLockWithPermitsTestCase {
+
+		static AtomicInteger concurrentUsages;
+		static AtomicInteger maxConcurrentUsages;
+		static CyclicBarrier barrier;
+
+		@BeforeAll
+		static void initialize() {
+			concurrentUsages = new AtomicInteger();
+			maxConcurrentUsages = new AtomicInteger();
+			barrier = new CyclicBarrier(2);
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void firstTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void secondTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void thirdTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void fourthTest() throws Exception {
+			usePool();
+		}
+
+		private static void usePool() throws Exception {
+			maxConcurrentUsages.accumulateAndGet(concurrentUsages.incrementAndGet(), Math::max);
+			barrier.await(10, SECONDS);
+			concurrentUsages.decrementAndGet();
+		}
+	}
+
 	@ExtendWith(ThreadReporter.class)
 	@ResourceLock("sharedResource")
 	static class SuccessfulWithClassLockTestCase {
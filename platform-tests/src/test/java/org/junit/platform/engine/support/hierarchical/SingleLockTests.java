@@ -13,6 +13,7 @@ package org.junit.platform.engine.support.hierarchical;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.jupiter.api.Test;
@@ -42,4 +43,27 @@ class SingleLockTests {
 		assertFalse(lock.isLocked());
 	}
 
+	@Test
+	void tryAcquireAcquiresAvailableLock() {
+		ReentrantLock lock = new ReentrantLock();
+
+		assertTrue(new SingleLock(lock).tryAcquire());
+
+		assertTrue(lock.isHeldByCurrentThread());
+	}
+
+	@Test
+	void tryAcquireDoesNotBlockIfLockIsHeldByAnotherThread() throws Exception {
+		ReentrantLock lock = new ReentrantLock();
+		lock.lock();
+		try {
+			boolean acquired = CompletableFuture.supplyAsync(() -> new SingleLock(lock).tryAcquire()).get();
+
+			assertFalse(acquired);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * @since 1.6
+ */
+class VirtualThreadHierarchicalTestExecutorServiceTests {
+
+	@Test
+	void failsToInstantiateIfVirtualThreadsAreNotSupported() {
+		assumeFalse(VirtualThreadHierarchicalTestExecutorService.isSupported());
+
+		assertThrows(JUnitException.class, VirtualThreadHierarchicalTestExecutorService::new);
+	}
+
+	@Test
+	void executesConcurrentTasksInVirtualThreadsIfSupported() throws Exception {
+		assumeTrue(VirtualThreadHierarchicalTestExecutorService.isSupported());
+		var isVirtualMethod = Thread.class.getMethod("isVirtual");
+		var threads = ConcurrentHashMap.<Thread> newKeySet();
+		Runnable recordThread = () -> threads.add(Thread.currentThread());
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.invokeAll(List.of(new DemoTask(CONCURRENT, NopLock.INSTANCE, recordThread),
+				new DemoTask(CONCURRENT, NopLock.INSTANCE, recordThread)));
+		}
+
+		assertThat(threads).hasSize(2);
+		for (var thread : threads) {
+			assertThat(isVirtualMethod.invoke(thread)).isEqualTo(true);
+		}
+	}
+
+	@Test
+	void executesConcurrentTasksInSeparateThreads() {
+		var latch = new CountDownLatch(100);
+		var threads = ConcurrentHashMap.<Thread> newKeySet();
+		var tasks = IntStream.range(0, 100).mapToObj(i -> new DemoTask(CONCURRENT, NopLock.INSTANCE, () -> {
+			threads.add(Thread.currentThread());
+			latch.countDown();
+			await(latch);
+		})).collect(Collectors.toList());
+
+		try (var service = createService()) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(threads).hasSize(100);
+	}
+
+	@Test
+	void executesSameThreadTasksInCallerThread() {
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		Runnable recordThread = () -> threads.add(Thread.currentThread());
+
+		try (var service = createService()) {
+			service.invokeAll(List.of(new DemoTask(SAME_THREAD, NopLock.INSTANCE, recordThread),
+				new DemoTask(SAME_THREAD, NopLock.INSTANCE, recordThread)));
+		}
+
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void acquiresResourceLocksOfConcurrentTasks() {
+		var lock = new ReentrantLock();
+		var concurrentExecutions = new AtomicInteger();
+		var maxConcurrentExecutions = new AtomicInteger();
+		var tasks = IntStream.range(0, 10).mapToObj(i -> new DemoTask(CONCURRENT, new SingleLock(lock), () -> {
+			maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+			concurrentExecutions.decrementAndGet();
+		})).collect(Collectors.toList());
+
+		try (var service = createService()) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(maxConcurrentExecutions).hasValue(1);
+		assertThat(lock.isLocked()).isFalse();
+	}
+
+	@Test
+	void executesConcurrentTasksWithContextClassLoaderOfCreatingThread() {
+		var contextClassLoaders = ConcurrentHashMap.<ClassLoader> newKeySet();
+		var originalClassLoader = Thread.currentThread().getContextClassLoader();
+		var customClassLoader = new URLClassLoader(new URL[0], originalClassLoader);
+		Thread.currentThread().setContextClassLoader(customClassLoader);
+		try (var service = createService()) {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+			Runnable recordClassLoader = () -> contextClassLoaders.add(Thread.currentThread().getContextClassLoader());
+			service.invokeAll(List.of(new DemoTask(CONCURRENT, NopLock.INSTANCE, recordClassLoader),
+				new DemoTask(CONCURRENT, NopLock.INSTANCE, recordClassLoader)));
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+
+		assertThat(contextClassLoaders).containsExactly(customClassLoader);
+	}
+
+	/**
+	 * Uses virtual threads if supported and otherwise falls back to a new
+	 * platform thread per task so the scheduling logic is tested on all JVMs.
+	 */
+	private static VirtualThreadHierarchicalTestExecutorService createService() {
+		if (VirtualThreadHierarchicalTestExecutorService.isSupported()) {
+			return new VirtualThreadHierarchicalTestExecutorService();
+		}
+		return new VirtualThreadHierarchicalTestExecutorService(Executors.newCachedThreadPool());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class DemoTask implements TestTask {
+
+		private final Node.ExecutionMode executionMode;
+		private final ResourceLock resourceLock;
+		private final Runnable action;
+
+		DemoTask(Node.ExecutionMode executionMode, ResourceLock resourceLock, Runnable action) {
+			this.executionMode = executionMode;
+			this.resourceLock = resourceLock;
+			this.action = action;
+		}
+
+		@Override
+		public Node.ExecutionMode getExecutionMode() {
+			return executionMode;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return resourceLock;
+		}
+
+		@Override
+		public void execute() {
+			action.run();
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.index;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.util.TestIndex;
+
+/**
+ * Unit tests for {@link TestIndexProcessor}.
+ *
+ * @since 1.6
+ */
+class TestIndexProcessorTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void indexesClassesWithTestableMethods() throws Exception {
+		var index = compile("p/FooTests.java", "package p;\n" //
+				+ "import org.junit.jupiter.api.*;\n" //
+				+ "class FooTests {\n" //
+				+ "  @Test void test() {}\n" //
+				+ "  @TestFactory java.util.List<DynamicTest> factory() { return null; }\n" //
+				+ "  void helper() {}\n" //
+				+ "}\n");
+
+		assertThat(index.getTypeNames()).containsExactly("p.FooTests");
+		assertThat(index.getTestClassNames()).containsExactly("p.FooTests");
+		assertThat(index.getTestMethodNames("p.FooTests")).containsExactly("factory", "test");
+	}
+
+	@Test
+	void indexesClassesWithComposedAnnotations() throws Exception {
+		var index = compile("p/ComposedTests.java", "package p;\n" //
+				+ "import org.junit.jupiter.api.*;\n" //
+				+ "@Test @interface MyTest {}\n" //
+				+ "class ComposedTests { @MyTest void test() {} }\n");
+
+		assertThat(index.getTestClassNames()).containsExactly("p.ComposedTests");
+	}
+
+	@Test
+	void indexesSubclassesAndEnclosingClassesButNotAbstractClassesOrHelpers() throws Exception {
+		var index = compile("p/Hierarchy.java", "package p;\n" //
+				+ "import org.junit.jupiter.api.*;\n" //
+				+ "abstract class Hierarchy { @Test void inherited() {} }\n" //
+				+ "class Subclass extends Hierarchy {}\n" //
+				+ "class Outer { @Nested class Inner { @Test void test() {} } }\n" //
+				+ "class Helper { void helper() {} }\n");
+
+		assertThat(index.getTypeNames()).containsExactly("p.Helper", "p.Hierarchy", "p.Outer", "p.Subclass");
+		assertThat(index.getTestClassNames()).containsExactly("p.Outer", "p.Outer$Inner", "p.Subclass");
+		assertThat(index.getTestMethodNames("p.Subclass")).containsExactly("inherited");
+	}
+
+	@Test
+	void indexesJUnit3TestCases() throws Exception {
+		var index = compile("p/LegacyTests.java", "package p;\n" //
+				+ "public class LegacyTests extends junit.framework.TestCase {\n" //
+				+ "  public void testSomething() {}\n" //
+				+ "}\n");
+
+		assertThat(index.getTestClassNames()).containsExactly("p.LegacyTests");
+	}
+
+	@Test
+	void indexesClassesWithAdditionalAnnotations() throws Exception {
+		var index = compile("p/CustomTests.java", "package p;\n" //
+				+ "@interface Check {}\n" //
+				+ "class CustomTests { @Check void check() {} }\n", //
+			"-A" + TestIndexProcessor.ANNOTATIONS_OPTION + "=p.Check");
+
+		assertThat(index.getTestClassNames()).containsExactly("p.CustomTests");
+	}
+
+	private TestIndex compile(String fileName, String source, String... options) throws IOException {
+		var sourceFile = tempDir.resolve("src").resolve(fileName);
+		Files.createDirectories(sourceFile.getParent());
+		Files.write(sourceFile, source.getBytes(UTF_8));
+		var outputDir = Files.createDirectories(tempDir.resolve("classes"));
+
+		var compiler = ToolProvider.getSystemJavaCompiler();
+		try (var fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+			List<String> arguments = new ArrayList<>(List.of("-d", outputDir.toString(), "-classpath",
+				System.getProperty("java.class.path")));
+			arguments.addAll(List.of(options));
+			var task = compiler.getTask(null, fileManager, null, arguments, null,
+				fileManager.getJavaFileObjects(sourceFile.toFile()));
+			task.setProcessors(List.of(new TestIndexProcessor()));
+			assertThat(task.call()).isTrue();
+		}
+
+		try (var reader = Files.newBufferedReader(outputDir.resolve(TestIndex.RESOURCE_NAME), UTF_8)) {
+			return TestIndex.read(reader);
+		}
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.launcher.ShardFilter.forShard;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * Unit tests for {@link ShardFilter}.
+ *
+ * @since 1.6
+ */
+class ShardFilterTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+	private final List<TestDescriptor> containers = new ArrayList<>();
+	private final List<TestDescriptor> tests = new ArrayList<>();
+
+	ShardFilterTests() {
+		for (int i = 0; i < 10; i++) {
+			UniqueId containerId = engineDescriptor.getUniqueId().append("class", "Class" + i);
+			TestDescriptor container = new TestDescriptorStub(containerId, "Class" + i);
+			engineDescriptor.addChild(container);
+			containers.add(container);
+			for (int j = 0; j < 3; j++) {
+				TestDescriptor test = new TestDescriptorStub(containerId.append("method", "test" + j), "test" + j);
+				container.addChild(test);
+				tests.add(test);
+			}
+		}
+	}
+
+	@Test
+	void rejectsInvalidShards() {
+		assertThrows(PreconditionViolationException.class, () -> forShard(0, 0));
+		assertThrows(PreconditionViolationException.class, () -> forShard(-1, 2));
+		assertThrows(PreconditionViolationException.class, () -> forShard(2, 2));
+	}
+
+	@Test
+	void includesEachTestInExactlyOneShard() {
+		Map<TestDescriptor, Integer> shardsByTest = new HashMap<>();
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			PostDiscoveryFilter filter = forShard(shardIndex, 3);
+			for (TestDescriptor test : tests) {
+				if (filter.apply(test).included()) {
+					assertThat(shardsByTest.put(test, shardIndex)).isNull();
+				}
+			}
+		}
+
+		assertThat(shardsByTest).containsOnlyKeys(tests);
+	}
+
+	@Test
+	void keepsTestsOfSameContainerInSameShard() {
+		PostDiscoveryFilter filter = forShard(1, 3);
+
+		for (TestDescriptor container : containers) {
+			assertThat(container.getChildren()).extracting(test -> filter.apply(test).included()).containsOnly(
+				filter.apply(container).included());
+		}
+	}
+
+	@Test
+	void distributesContainersEvenlyWithoutDurations() {
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			PostDiscoveryFilter filter = forShard(shardIndex, 3);
+
+			assertThat(containers.stream().filter(container -> filter.apply(container).included())).hasSizeBetween(3,
+				4);
+		}
+	}
+
+	@Test
+	void balancesShardsByRecordedDurations(@TempDir Path tempDir) throws Exception {
+		Properties durations = new Properties();
+		for (int i = 0; i < containers.size(); i++) {
+			durations.setProperty(containers.get(i).getUniqueId().toString(), String.valueOf((i + 1) * 100));
+		}
+		Path durationsFile = tempDir.resolve("durations.properties");
+		try (OutputStream out = Files.newOutputStream(durationsFile)) {
+			durations.store(out, null);
+		}
+
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			PostDiscoveryFilter filter = forShard(shardIndex, 3, durationsFile);
+
+			long totalDuration = containers.stream() //
+					.filter(container -> filter.apply(container).included()) //
+					.mapToLong(container -> Long.parseLong(durations.getProperty(container.getUniqueId().toString()))) //
+					.sum();
+			assertThat(totalDuration).isBetween(1800L, 1900L);
+		}
+	}
+
+	@Test
+	void ignoresMissingDurationsFile(@TempDir Path tempDir) {
+		PostDiscoveryFilter filter = forShard(0, 3, tempDir.resolve("missing.properties"));
+
+		assertThat(containers.stream().filter(container -> filter.apply(container).included())).hasSizeBetween(3, 4);
+	}
+
+	@Test
+	void createsFilterFromConfigurationParameters() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put(LauncherConstants.SHARD_INDEX_PROPERTY_NAME, "1");
+		parameters.put(LauncherConstants.SHARD_COUNT_PROPERTY_NAME, "3");
+
+		Optional<PostDiscoveryFilter> filter = ShardFilter.fromConfigurationParameters(configurationParameters(parameters));
+
+		assertThat(filter).isPresent();
+		assertThat(tests.stream().filter(test -> filter.get().apply(test).included())).hasSizeBetween(9, 12);
+	}
+
+	@Test
+	void createsNoFilterWithoutConfigurationParameters() {
+		assertThat(ShardFilter.fromConfigurationParameters(configurationParameters(new HashMap<>()))).isEmpty();
+	}
+
+	@Test
+	void requiresShardIndexAndCountTogether() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put(LauncherConstants.SHARD_COUNT_PROPERTY_NAME, "3");
+
+		assertThrows(JUnitException.class,
+			() -> ShardFilter.fromConfigurationParameters(configurationParameters(parameters)));
+	}
+
+	private static ConfigurationParameters configurationParameters(Map<String, String> parameters) {
+		return new ConfigurationParameters() {
+
+			@Override
+			public Optional<String> get(String key) {
+				return Optional.ofNullable(parameters.get(key));
+			}
+
+			@Override
+			public Optional<Boolean> getBoolean(String key) {
+				return get(key).map(Boolean::parseBoolean);
+			}
+
+			@Override
+			public int size() {
+				return parameters.size();
+			}
+		};
+	}
+
+}
@@ -13,10 +13,14 @@ package org.junit.platform.launcher;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
 
 class TestPlanTests {
 
@@ -71,4 +75,66 @@ class TestPlanTests {
 
 		assertThat(testPlan.containsTests()).as("contains tests").isTrue();
 	}
+
+	@Test
+	void descendantsContainChildrenBeforeTheirDescendants() {
+		TestDescriptor container = addChild(engineDescriptor, "container");
+		TestDescriptor nestedTest = addChild(container, "nestedTest");
+		TestDescriptor test = addChild(engineDescriptor, "test");
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		assertThat(testPlan.getDescendants(identifier(engineDescriptor))) //
+				.containsExactly(identifier(container), identifier(test), identifier(nestedTest));
+		assertThat(testPlan.getDescendants(identifier(container))) //
+				.containsExactly(identifier(nestedTest)) //
+				.doesNotContain(identifier(test), identifier(container));
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(2);
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void descendantsAreSnapshotsWhereasChildrenReflectDynamicallyAddedIdentifiers() {
+		TestDescriptor container = addChild(engineDescriptor, "container");
+		addChild(container, "test");
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		Set<TestIdentifier> children = testPlan.getChildren(identifier(container));
+		Set<TestIdentifier> descendants = testPlan.getDescendants(identifier(engineDescriptor));
+
+		TestDescriptor dynamicTest = addChild(container, "dynamicTest");
+		testPlan.add(identifier(dynamicTest));
+
+		assertThat(children).hasSize(2).contains(identifier(dynamicTest));
+		assertThat(descendants).hasSize(2).doesNotContain(identifier(dynamicTest));
+		assertThat(testPlan.getDescendants(identifier(engineDescriptor))).hasSize(3).contains(
+			identifier(dynamicTest));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void identifiersAddedBeforeTheirParentAreLinkedToIt() {
+		TestDescriptor container = addChild(engineDescriptor, "container");
+		TestDescriptor test = addChild(container, "test");
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestDescriptor dynamicContainer = addChild(container, "dynamicContainer");
+		TestDescriptor dynamicTest = addChild(dynamicContainer, "dynamicTest");
+
+		testPlan.add(identifier(dynamicTest));
+		testPlan.add(identifier(dynamicContainer));
+
+		assertThat(testPlan.getChildren(identifier(dynamicContainer))).containsExactly(identifier(dynamicTest));
+		assertThat(testPlan.getDescendants(identifier(container))) //
+				.containsExactly(identifier(test), identifier(dynamicContainer), identifier(dynamicTest));
+	}
+
+	private static TestDescriptor addChild(TestDescriptor parent, String name) {
+		TestDescriptor child = new TestDescriptorStub(parent.getUniqueId().append("test", name), name);
+		parent.addChild(child);
+		return child;
+	}
+
+	private static TestIdentifier identifier(TestDescriptor testDescriptor) {
+		return TestIdentifier.from(testDescriptor);
+	}
+
 }
@@ -21,6 +21,8 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPacka
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.CONCURRENT_ENGINE_DISCOVERY_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CONCURRENT_ENGINE_EXECUTION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
@@ -35,6 +37,8 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Constructor;
 import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -403,6 +407,39 @@ class DefaultLauncherTests {
 		assertThat(testPlan.getChildren(UniqueId.forEngine("engine2").toString())).hasSize(1);
 	}
 
+	@Test
+	void discoverTestPlanForMultipleEnginesConcurrently() {
+		var barrier = new CyclicBarrier(2);
+		var firstEngine = new BarrierAwaitingTestEngine("engine1", barrier, null);
+		var secondEngine = new BarrierAwaitingTestEngine("engine2", barrier, null);
+
+		var launcher = createLauncher(firstEngine, secondEngine);
+
+		var testPlan = launcher.discover(
+			request().configurationParameter(CONCURRENT_ENGINE_DISCOVERY_PROPERTY_NAME, "true").build());
+
+		assertThat(testPlan.getRoots()).extracting(TestIdentifier::getUniqueId) //
+				.containsExactly(UniqueId.forEngine("engine1").toString(), UniqueId.forEngine("engine2").toString());
+		assertThat(firstEngine.discoveryThread).isNotSameAs(secondEngine.discoveryThread) //
+				.isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void executeMultipleEnginesConcurrently() {
+		var barrier = new CyclicBarrier(2);
+		var firstEngine = new BarrierAwaitingTestEngine("engine1", null, barrier);
+		var secondEngine = new BarrierAwaitingTestEngine("engine2", null, barrier);
+		var listener = new SummaryGeneratingListener();
+
+		var launcher = createLauncher(firstEngine, secondEngine);
+		launcher.execute(request().configurationParameter(CONCURRENT_ENGINE_EXECUTION_PROPERTY_NAME, "true").build(),
+			listener);
+
+		assertThat(listener.getSummary().getTestsSucceededCount()).isEqualTo(2);
+		assertThat(firstEngine.executionThread).isNotSameAs(secondEngine.executionThread) //
+				.isNotSameAs(Thread.currentThread());
+	}
+
 	@Test
 	void launcherWillNotExecuteEnginesIfNotIncludedByAnEngineFilter() {
 		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
@@ -766,4 +803,46 @@ class DefaultLauncherTests {
 			impostor.getClass().getName(), id);
 	}
 
+	private static class BarrierAwaitingTestEngine extends TestEngineStub {
+
+		private final CyclicBarrier discoveryBarrier;
+		private final CyclicBarrier executionBarrier;
+		private volatile Thread discoveryThread;
+		private volatile Thread executionThread;
+
+		BarrierAwaitingTestEngine(String id, CyclicBarrier discoveryBarrier, CyclicBarrier executionBarrier) {
+			super(id);
+			this.discoveryBarrier = discoveryBarrier;
+			this.executionBarrier = executionBarrier;
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			discoveryThread = Thread.currentThread();
+			await(discoveryBarrier);
+			return super.discover(discoveryRequest, uniqueId);
+		}
+
+		@Override
+		public void execute(ExecutionRequest request) {
+			executionThread = Thread.currentThread();
+			var root = request.getRootTestDescriptor();
+			request.getEngineExecutionListener().executionStarted(root);
+			await(executionBarrier);
+			request.getEngineExecutionListener().executionFinished(root, successful());
+		}
+
+		private static void await(CyclicBarrier barrier) {
+			if (barrier == null) {
+				return;
+			}
+			try {
+				barrier.await(10, TimeUnit.SECONDS);
+			}
+			catch (Exception e) {
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+	}
+
 }
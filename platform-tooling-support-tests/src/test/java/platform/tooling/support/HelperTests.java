@@ -37,6 +37,7 @@ class HelperTests {
 			"junit-platform-commons", //
 			"junit-platform-console", //
 			"junit-platform-engine", //
+			"junit-platform-index", //
 			"junit-platform-launcher", //
 			"junit-platform-reporting", //
 			"junit-platform-runner", //
@@ -41,6 +41,7 @@ include("junit-platform-commons")
 include("junit-platform-console")
 include("junit-platform-console-standalone")
 include("junit-platform-engine")
+include("junit-platform-index")
 include("junit-platform-launcher")
 include("junit-platform-reporting")
 include("junit-platform-runner")